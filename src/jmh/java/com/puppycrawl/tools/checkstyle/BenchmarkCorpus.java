@@ -0,0 +1,111 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+
+/**
+ * Files the benchmarks run on. The corpus is a fixed copy of some Checkstyle sources,
+ * bundled with the benchmarks so results stay comparable while the sources change.
+ * Paths are relative to the root of the project, where benchmarks are started.
+ */
+public final class BenchmarkCorpus {
+
+    /** The directory of the bundled corpus. */
+    public static final String CORPUS_DIRECTORY =
+            "src/jmh/resources/com/puppycrawl/tools/checkstyle/corpus";
+
+    /** A large real file, with many Javadoc comments. */
+    public static final String LARGE_FILE = CORPUS_DIRECTORY + "/JavaAstVisitor.java";
+
+    /** A file of typical size. */
+    public static final String TYPICAL_FILE =
+            CORPUS_DIRECTORY + "/coding/EqualsAvoidNullCheck.java";
+
+    /** The number of warmup iterations of a benchmark. */
+    public static final int WARMUP_ITERATIONS = 3;
+
+    /** The number of measurement iterations of a benchmark. */
+    public static final int MEASUREMENT_ITERATIONS = 5;
+
+    /** The time in seconds of an iteration of the end-to-end audit. */
+    public static final int AUDIT_ITERATION_SECONDS = 5;
+
+    /** The system property that overrides the directory of the end-to-end audit. */
+    private static final String CORPUS_PROPERTY = "checkstyle.jmh.corpus";
+
+    /** The default directory of the end-to-end audit. */
+    private static final String DEFAULT_CORPUS_DIRECTORY = CORPUS_DIRECTORY + "/coding";
+
+    /** Prevents instantiation. */
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Reads a file of the corpus.
+     *
+     * @param fileName the path of the file
+     * @return the contents of the file
+     * @throws IOException if the file can not be read
+     */
+    public static FileContents readContents(String fileName) throws IOException {
+        return new FileContents(readText(fileName));
+    }
+
+    /**
+     * Reads a file of the corpus.
+     *
+     * @param fileName the path of the file
+     * @return the text of the file
+     * @throws IOException if the file can not be read
+     */
+    public static FileText readText(String fileName) throws IOException {
+        return new FileText(new File(fileName).getAbsoluteFile(), StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Lists the Java files of the end-to-end audit, in a stable order.
+     *
+     * @return the files
+     * @throws IOException if the directory can not be listed
+     */
+    public static List<File> listFiles() throws IOException {
+        final Path directory =
+                Path.of(System.getProperty(CORPUS_PROPERTY, DEFAULT_CORPUS_DIRECTORY));
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths
+                    .filter(path -> path.toString().endsWith(".java"))
+                    .sorted()
+                    .map(path -> path.toAbsolutePath().toFile())
+                    .collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+/**
+ * Measures an end-to-end audit of the corpus with a bundled configuration.
+ * The corpus directory is the bundled corpus, unless it is set by the
+ * {@code checkstyle.jmh.corpus} system property.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = BenchmarkCorpus.WARMUP_ITERATIONS,
+        time = BenchmarkCorpus.AUDIT_ITERATION_SECONDS)
+@Measurement(iterations = BenchmarkCorpus.MEASUREMENT_ITERATIONS,
+        time = BenchmarkCorpus.AUDIT_ITERATION_SECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckerBenchmark {
+
+    /** The bundled configuration. */
+    @Param({"/google_checks.xml", "/sun_checks.xml"})
+    private String config;
+
+    /** The checker. */
+    private Checker checker;
+
+    /** The files of the corpus. */
+    private List<File> files;
+
+    /**
+     * Configures the checker and lists the corpus.
+     *
+     * @throws CheckstyleException if the configuration is invalid
+     * @throws IOException if the corpus can not be listed
+     */
+    @Setup
+    public void setUp() throws CheckstyleException, IOException {
+        final Configuration configuration = ConfigurationLoader.loadConfiguration(config,
+                new PropertiesExpander(System.getProperties()),
+                ConfigurationLoader.IgnoredModulesOptions.OMIT);
+        checker = new Checker();
+        checker.setModuleClassLoader(Checker.class.getClassLoader());
+        checker.configure(configuration);
+        files = BenchmarkCorpus.listFiles();
+    }
+
+    /**
+     * Destroys the checker.
+     */
+    @TearDown
+    public void tearDown() {
+        checker.destroy();
+    }
+
+    /**
+     * Audits the corpus.
+     *
+     * @return the number of errors
+     * @throws CheckstyleException if a file can not be processed
+     */
+    @Benchmark
+    public int process() throws CheckstyleException {
+        return checker.process(files);
+    }
+
+}
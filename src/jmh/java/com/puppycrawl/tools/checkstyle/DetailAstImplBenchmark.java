@@ -0,0 +1,173 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+/**
+ * Measures {@link DetailAstImpl#branchContains(int)} on the classes and methods
+ * of a large real file, the queries checks make while walking it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = BenchmarkCorpus.WARMUP_ITERATIONS, time = 2)
+@Measurement(iterations = BenchmarkCorpus.MEASUREMENT_ITERATIONS, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DetailAstImplBenchmark {
+
+    /** The token types looked for in every branch. */
+    private static final int[] QUERIED_TOKEN_TYPES = {
+        TokenTypes.LITERAL_RETURN,
+        TokenTypes.LITERAL_THROW,
+        TokenTypes.LITERAL_ASSERT,
+        TokenTypes.LITERAL_SYNCHRONIZED,
+        TokenTypes.LAMBDA,
+        TokenTypes.LITERAL_NEW,
+    };
+
+    /** The contents of the file. */
+    private FileContents contents;
+
+    /** The classes and methods of a tree parsed once, with summarized branches. */
+    private List<DetailAstImpl> branches;
+
+    /**
+     * Reads and parses the file.
+     *
+     * @throws CheckstyleException if the file is not valid Java
+     * @throws IOException if the file can not be read
+     */
+    @Setup
+    public void setUp() throws CheckstyleException, IOException {
+        contents = BenchmarkCorpus.readContents(BenchmarkCorpus.LARGE_FILE);
+        branches = collectBranches(JavaParser.parse(contents));
+        queryAll(branches);
+    }
+
+    /**
+     * Queries branches whose token types are already summarized.
+     *
+     * @return the number of matching queries
+     */
+    @Benchmark
+    public int branchContainsWarm() {
+        return queryAll(branches);
+    }
+
+    /**
+     * Queries branches of a fresh tree, including the summary of every branch
+     * on its first query.
+     *
+     * @param tree the fresh tree
+     * @return the number of matching queries
+     */
+    @Benchmark
+    public int branchContainsCold(FreshTree tree) {
+        return queryAll(tree.branches);
+    }
+
+    /**
+     * Looks for every queried token type in every branch.
+     *
+     * @param nodes the roots of the branches
+     * @return the number of matching queries
+     */
+    private static int queryAll(List<DetailAstImpl> nodes) {
+        int result = 0;
+        for (DetailAstImpl node : nodes) {
+            for (int tokenType : QUERIED_TOKEN_TYPES) {
+                if (node.branchContains(tokenType)) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects the classes and methods of a tree, in the order they are visited.
+     *
+     * @param root the root of the tree
+     * @return the nodes
+     */
+    private static List<DetailAstImpl> collectBranches(DetailAST root) {
+        final List<DetailAstImpl> result = new ArrayList<>();
+        DetailAST curNode = root;
+        while (curNode != null) {
+            final int type = curNode.getType();
+            if (type == TokenTypes.CLASS_DEF || type == TokenTypes.METHOD_DEF
+                    || type == TokenTypes.CTOR_DEF) {
+                result.add((DetailAstImpl) curNode);
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+        return result;
+    }
+
+    /**
+     * The classes and methods of a tree parsed again before each invocation,
+     * so no branch is summarized yet.
+     */
+    @State(Scope.Thread)
+    public static class FreshTree {
+
+        /** The classes and methods of the tree. */
+        private List<DetailAstImpl> branches;
+
+        /**
+         * Parses the file of the benchmark.
+         *
+         * @param benchmark the benchmark
+         * @throws CheckstyleException if the file is not valid Java
+         */
+        @Setup(Level.Invocation)
+        public void setUp(DetailAstImplBenchmark benchmark) throws CheckstyleException {
+            branches = collectBranches(JavaParser.parse(benchmark.contents));
+        }
+
+    }
+
+}
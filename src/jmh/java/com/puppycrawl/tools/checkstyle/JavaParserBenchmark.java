@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+
+/**
+ * Measures parsing of Java files and appending of comment nodes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = BenchmarkCorpus.WARMUP_ITERATIONS, time = 2)
+@Measurement(iterations = BenchmarkCorpus.MEASUREMENT_ITERATIONS, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaParserBenchmark {
+
+    /** The parsed file. */
+    @Param({BenchmarkCorpus.LARGE_FILE, BenchmarkCorpus.TYPICAL_FILE})
+    private String fileName;
+
+    /** The contents of the file. */
+    private FileContents contents;
+
+    /**
+     * Reads the file.
+     *
+     * @throws IOException if the file can not be read
+     */
+    @Setup
+    public void setUp() throws IOException {
+        contents = BenchmarkCorpus.readContents(fileName);
+    }
+
+    /**
+     * Parses the file without comments.
+     *
+     * @return the root of the AST
+     * @throws CheckstyleException if the file is not valid Java
+     */
+    @Benchmark
+    public DetailAST parse() throws CheckstyleException {
+        return JavaParser.parse(contents);
+    }
+
+    /**
+     * Appends comment nodes to a freshly parsed tree.
+     *
+     * @param tree the tree without comment nodes
+     * @return the root of the AST with comment nodes
+     */
+    @Benchmark
+    public DetailAST appendHiddenCommentNodes(ParsedTree tree) {
+        return JavaParser.appendHiddenCommentNodes(tree.root);
+    }
+
+    /**
+     * A tree without comment nodes, parsed again before each invocation
+     * as appending comment nodes changes it.
+     */
+    @State(Scope.Thread)
+    public static class ParsedTree {
+
+        /** The root of the AST. */
+        private DetailAST root;
+
+        /**
+         * Parses the file of the benchmark.
+         *
+         * @param benchmark the benchmark
+         * @throws CheckstyleException if the file is not valid Java
+         */
+        @Setup(Level.Invocation)
+        public void setUp(JavaParserBenchmark benchmark) throws CheckstyleException {
+            root = JavaParser.parse(benchmark.contents);
+        }
+
+    }
+
+}
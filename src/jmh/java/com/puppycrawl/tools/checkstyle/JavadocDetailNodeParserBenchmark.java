@@ -0,0 +1,105 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.utils.JavadocUtil;
+
+/**
+ * Measures parsing of all Javadoc comments of a large file.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = BenchmarkCorpus.WARMUP_ITERATIONS, time = 2)
+@Measurement(iterations = BenchmarkCorpus.MEASUREMENT_ITERATIONS, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavadocDetailNodeParserBenchmark {
+
+    /** The Javadoc comments of the file. */
+    private final List<DetailAST> javadocComments = new ArrayList<>();
+
+    /**
+     * Parses the file and collects its Javadoc comments.
+     *
+     * @throws CheckstyleException if the file is not valid Java
+     * @throws IOException if the file can not be read
+     */
+    @Setup
+    public void setUp() throws CheckstyleException, IOException {
+        final DetailAST root = JavaParser.appendHiddenCommentNodes(
+                JavaParser.parse(BenchmarkCorpus.readContents(BenchmarkCorpus.LARGE_FILE)));
+        collectJavadocComments(root);
+    }
+
+    /**
+     * Parses every Javadoc comment of the file.
+     *
+     * @param blackhole the consumer of parse results
+     */
+    @Benchmark
+    public void parseJavadocs(Blackhole blackhole) {
+        for (DetailAST javadocComment : javadocComments) {
+            blackhole.consume(
+                    new JavadocDetailNodeParser().parseJavadocAsDetailNode(javadocComment));
+        }
+    }
+
+    /**
+     * Collects the Javadoc comments of a tree.
+     *
+     * @param root the root of the tree with comment nodes
+     */
+    private void collectJavadocComments(DetailAST root) {
+        DetailAST curNode = root;
+        while (curNode != null) {
+            if (curNode.getType() == TokenTypes.BLOCK_COMMENT_BEGIN
+                    && JavadocUtil.isJavadocComment(curNode)) {
+                javadocComments.add(curNode);
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+    }
+
+}
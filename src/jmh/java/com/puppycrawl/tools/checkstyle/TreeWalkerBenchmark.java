@@ -0,0 +1,142 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+
+/**
+ * Measures a full walk of a file by the checks of a bundled configuration:
+ * parsing, all checks and filters of its {@code TreeWalker}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = BenchmarkCorpus.WARMUP_ITERATIONS, time = 2)
+@Measurement(iterations = BenchmarkCorpus.MEASUREMENT_ITERATIONS, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TreeWalkerBenchmark {
+
+    /** The bundled configuration. */
+    @Param({"/google_checks.xml", "/sun_checks.xml"})
+    private String config;
+
+    /** The walked file. */
+    @Param({BenchmarkCorpus.LARGE_FILE, BenchmarkCorpus.TYPICAL_FILE})
+    private String fileName;
+
+    /** The tree walker of the configuration. */
+    private TreeWalker treeWalker;
+
+    /** The walked file. */
+    private File file;
+
+    /** The text of the file. */
+    private FileText fileText;
+
+    /**
+     * Creates the tree walker and reads the file.
+     *
+     * @throws CheckstyleException if the configuration is invalid
+     * @throws IOException if the file can not be read
+     */
+    @Setup
+    public void setUp() throws CheckstyleException, IOException {
+        treeWalker = createTreeWalker(config);
+        fileText = BenchmarkCorpus.readText(fileName);
+        file = fileText.getFile();
+    }
+
+    /**
+     * Destroys the tree walker.
+     */
+    @TearDown
+    public void tearDown() {
+        treeWalker.destroy();
+    }
+
+    /**
+     * Walks the file.
+     *
+     * @return the violations of the file
+     * @throws CheckstyleException if the file can not be processed
+     */
+    @Benchmark
+    public SortedSet<Violation> walk() throws CheckstyleException {
+        return treeWalker.process(file, fileText);
+    }
+
+    /**
+     * Creates a tree walker like {@link Checker} does, from the {@code TreeWalker}
+     * module of a configuration.
+     *
+     * @param config the location of the configuration
+     * @return the configured tree walker
+     * @throws CheckstyleException if the configuration is invalid
+     */
+    private static TreeWalker createTreeWalker(String config) throws CheckstyleException {
+        final Configuration checkerConfig = ConfigurationLoader.loadConfiguration(config,
+                new PropertiesExpander(System.getProperties()),
+                ConfigurationLoader.IgnoredModulesOptions.OMIT);
+        Configuration treeWalkerConfig = null;
+        for (Configuration child : checkerConfig.getChildren()) {
+            if ("TreeWalker".equals(child.getName())) {
+                treeWalkerConfig = child;
+            }
+        }
+        if (treeWalkerConfig == null) {
+            throw new CheckstyleException("TreeWalker is not configured in " + config);
+        }
+
+        final ClassLoader classLoader = TreeWalker.class.getClassLoader();
+        final DefaultContext context = new DefaultContext();
+        context.add("moduleFactory", new PackageObjectFactory(
+                PackageNamesLoader.getPackageNames(classLoader), classLoader));
+        context.add("severity", "error");
+        context.add("tabWidth", String.valueOf(CommonUtil.DEFAULT_TAB_WIDTH));
+
+        final TreeWalker result = new TreeWalker();
+        result.contextualize(context);
+        result.configure(treeWalkerConfig);
+        return result;
+    }
+
+}
@@ -0,0 +1,148 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.filters;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.puppycrawl.tools.checkstyle.BenchmarkCorpus;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.TreeWalkerAuditEvent;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.coding.FinalLocalVariableCheck;
+import com.puppycrawl.tools.checkstyle.checks.sizes.MethodLengthCheck;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
+
+/**
+ * Measures the evaluation of Xpath suppressions for violations on the methods
+ * and variables of a large file.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = BenchmarkCorpus.WARMUP_ITERATIONS, time = 2)
+@Measurement(iterations = BenchmarkCorpus.MEASUREMENT_ITERATIONS, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuppressionXpathFilterBenchmark {
+
+    /** The suppressions, a resource of the benchmarks. */
+    private static final String SUPPRESSIONS =
+            "/com/puppycrawl/tools/checkstyle/filters/suppressions-xpath-benchmark.xml";
+
+    /** The filter. */
+    private SuppressionXpathFilter filter;
+
+    /** The events of violations on the file. */
+    private List<TreeWalkerAuditEvent> events;
+
+    /**
+     * Configures the filter and creates an event for every method and variable
+     * of the file.
+     *
+     * @throws CheckstyleException if the filter or the file is invalid
+     * @throws IOException if the file can not be read
+     */
+    @Setup
+    public void setUp() throws CheckstyleException, IOException {
+        final DefaultConfiguration config =
+                new DefaultConfiguration(SuppressionXpathFilter.class.getName());
+        config.addProperty("file", SUPPRESSIONS);
+        filter = new SuppressionXpathFilter();
+        filter.configure(config);
+
+        final FileContents contents = BenchmarkCorpus.readContents(BenchmarkCorpus.LARGE_FILE);
+        final String fileName = contents.getText().getFile().getAbsolutePath();
+        final DetailAST root = JavaParser.parse(contents);
+        events = new ArrayList<>();
+        DetailAST curNode = root;
+        while (curNode != null) {
+            if (curNode.getType() == TokenTypes.METHOD_DEF) {
+                events.add(createEvent(contents, fileName, root, curNode,
+                        MethodLengthCheck.class));
+            }
+            else if (curNode.getType() == TokenTypes.VARIABLE_DEF) {
+                events.add(createEvent(contents, fileName, root, curNode,
+                        FinalLocalVariableCheck.class));
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+    }
+
+    /**
+     * Filters the violations of the file, sharing the Xpath view of its tree
+     * like {@code TreeWalker} does.
+     *
+     * @return the number of accepted violations
+     */
+    @Benchmark
+    public int accept() {
+        int result = 0;
+        for (TreeWalkerAuditEvent event : events) {
+            if (filter.accept(event)) {
+                result++;
+            }
+        }
+        XpathUtil.releaseSharedRootNode();
+        return result;
+    }
+
+    /**
+     * Creates the event of a violation on a node.
+     *
+     * @param contents the contents of the file
+     * @param fileName the name of the file
+     * @param root the root of the tree of the file
+     * @param node the node of the violation
+     * @param sourceClass the check reporting the violation
+     * @return the event
+     */
+    private static TreeWalkerAuditEvent createEvent(FileContents contents, String fileName,
+            DetailAST root, DetailAST node, Class<?> sourceClass) {
+        final Violation violation = new Violation(node.getLineNo(), node.getColumnNo(),
+                node.getType(), "messages", "benchmark", null, SeverityLevel.ERROR, null,
+                sourceClass, null);
+        return new TreeWalkerAuditEvent(contents, fileName, violation, root);
+    }
+
+}
@@ -0,0 +1,555 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+/**
+ * The binary format of a content hash {@link PropertyCacheFile}.
+ *
+ * <p>
+ * The file starts with a header holding a marker, the format version and the number
+ * of entries. It is followed by an index of records holding the hash code of the key
+ * and the offset of an entry, sorted by the hash code, and by the entries, each made
+ * of a length-prefixed UTF-8 key and a length-prefixed UTF-8 value.
+ * </p>
+ *
+ * <p>
+ * The file is memory mapped and only its header is validated when it is loaded. The
+ * index is searched on each lookup, so only the entries that are asked for are read
+ * and validated: a damaged entry is treated as missing. When the cache is written
+ * again, the entries that did not change are copied as they are, without decoding
+ * them. On Windows a mapped file can not be replaced, so the file is read instead.
+ * </p>
+ */
+final class BinaryCacheFile {
+
+    /** Marker at the start of a binary cache file. */
+    private static final int MAGIC = 0x43534348;
+
+    /** Version of the binary cache file format. */
+    private static final int VERSION = 1;
+
+    /** Size of the header: marker, version and entry count. */
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    /** Size of an index record: key hash code and entry offset. */
+    private static final int INDEX_RECORD_SIZE = 2 * Integer.BYTES;
+
+    /** Position of the entry count in the header. */
+    private static final int COUNT_POSITION = 2 * Integer.BYTES;
+
+    /** Custom message of a restored violation, it prints the stored message as is. */
+    private static final String RESTORED_VIOLATION_MESSAGE = "{0}";
+
+    /** Size of the chunks in which stored entries are copied. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Length written instead of a {@code null} string. */
+    private static final int NULL_STRING_LENGTH = -1;
+
+    /** Whether cache files are memory mapped, which is not done on Windows. */
+    private static final boolean MAP_FILES = !System.getProperty("os.name")
+            .toLowerCase(Locale.ENGLISH).contains("win");
+
+    /** Contents of the file. */
+    private final ByteBuffer buffer;
+
+    /** Number of entries. */
+    private final int count;
+
+    /** Position of the first entry. */
+    private final long entriesStart;
+
+    /**
+     * Creates an instance for file contents with a valid header.
+     *
+     * @param buffer contents of the file
+     */
+    private BinaryCacheFile(ByteBuffer buffer) {
+        this.buffer = buffer;
+        count = buffer.getInt(COUNT_POSITION);
+        entriesStart = HEADER_SIZE + (long) count * INDEX_RECORD_SIZE;
+    }
+
+    /**
+     * Loads a binary cache file. The file is memory mapped, except on Windows.
+     *
+     * @param path the cache file
+     * @return the loaded file or {@code null} if the file does not exist
+     *     or is not in the binary format
+     * @throws IOException when there is a problems with file read
+     */
+    /* package */ static BinaryCacheFile load(Path path) throws IOException {
+        return load(path, MAP_FILES);
+    }
+
+    /**
+     * Loads a binary cache file. Only the header is validated, entries are
+     * validated when they are read.
+     *
+     * @param path the cache file
+     * @param mapped whether the file is memory mapped instead of read
+     * @return the loaded file or {@code null} if the file does not exist
+     *     or is not in the binary format
+     * @throws IOException when there is a problems with file read
+     */
+    /* package */ static BinaryCacheFile load(Path path, boolean mapped) throws IOException {
+        BinaryCacheFile result = null;
+        if (Files.exists(path)) {
+            final ByteBuffer buffer;
+            if (mapped) {
+                try (FileChannel channel = FileChannel.open(path)) {
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+            else {
+                buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            }
+            if (hasValidHeader(buffer)) {
+                result = new BinaryCacheFile(buffer);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks that the buffer starts with the header of a supported binary cache file
+     * and that its index fits in it.
+     *
+     * @param buffer contents of the cache file
+     * @return true if the buffer can be searched
+     */
+    private static boolean hasValidHeader(ByteBuffer buffer) {
+        boolean valid = buffer.limit() >= HEADER_SIZE
+                && buffer.getInt(0) == MAGIC
+                && buffer.getInt(Integer.BYTES) == VERSION;
+        if (valid) {
+            final int entries = buffer.getInt(COUNT_POSITION);
+            valid = entries >= 0
+                    && HEADER_SIZE + (long) entries * INDEX_RECORD_SIZE <= buffer.limit();
+        }
+        return valid;
+    }
+
+    /**
+     * Searches the index for a key.
+     *
+     * @param key the key to search for
+     * @return the stored value or {@code null} if the key is missing or its entry is damaged
+     */
+    /* package */ String get(String key) {
+        final int hash = key.hashCode();
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (getIndexedHash(middle) < hash) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        String result = null;
+        for (int index = low; result == null && index < count
+                && getIndexedHash(index) == hash; index++) {
+            final int offset = getEntryOffset(index);
+            if (getEntryEnd(offset) != -1 && key.equals(readStoredString(offset))) {
+                result = readStoredString(getStringEnd(offset));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads the key hash code of a record in the index.
+     *
+     * @param index the position of the record
+     * @return the hash code
+     */
+    private int getIndexedHash(int index) {
+        return buffer.getInt(HEADER_SIZE + index * INDEX_RECORD_SIZE);
+    }
+
+    /**
+     * Reads the entry offset of a record in the index.
+     *
+     * @param index the position of the record
+     * @return the position of the key of the entry
+     */
+    private int getEntryOffset(int index) {
+        return buffer.getInt(HEADER_SIZE + index * INDEX_RECORD_SIZE + Integer.BYTES);
+    }
+
+    /**
+     * Calculates the end of an entry, validating that its key and its value fit
+     * in the entries.
+     *
+     * @param offset the position of the key of the entry
+     * @return the position following the value or -1 if the entry is damaged
+     */
+    private int getEntryEnd(int offset) {
+        int end = -1;
+        if (offset >= entriesStart) {
+            final int valueOffset = getStringEnd(offset);
+            if (valueOffset != -1) {
+                end = getStringEnd(valueOffset);
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Calculates the end of a length-prefixed string.
+     *
+     * @param offset the position of the length
+     * @return the position following the string or -1 if the string does not fit
+     */
+    private int getStringEnd(int offset) {
+        int end = -1;
+        if (offset <= buffer.limit() - Integer.BYTES) {
+            final int length = buffer.getInt(offset);
+            if (length >= 0 && length <= buffer.limit() - offset - Integer.BYTES) {
+                end = offset + Integer.BYTES + length;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string of a validated entry.
+     *
+     * @param offset the position of the length
+     * @return the string
+     */
+    private String readStoredString(int offset) {
+        final byte[] bytes = new byte[buffer.getInt(offset)];
+        buffer.duplicate().position(offset + Integer.BYTES).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes entries to a binary cache file. The stored entries that are not changed
+     * or removed are copied without decoding them, damaged ones are dropped. The file
+     * is written next to the cache file and then replaces it, so the stored entries
+     * can be read from the cache file while it is written.
+     *
+     * @param path the cache file
+     * @param stored the loaded cache file, {@code null} if there is none
+     * @param changed the keys and values of the changed entries
+     * @param removed the keys of the removed entries
+     * @throws IOException when there is a problems with file save
+     */
+    /* package */ static void write(Path path, BinaryCacheFile stored,
+            Map<String, String> changed, Set<String> removed) throws IOException {
+        final List<Entry> entries = new ArrayList<>();
+        for (Map.Entry<String, String> entry : changed.entrySet()) {
+            entries.add(Entry.changed(entry.getKey(), entry.getValue()));
+        }
+        if (stored != null) {
+            final Set<Integer> replacedHashes = new HashSet<>();
+            changed.keySet().forEach(key -> replacedHashes.add(key.hashCode()));
+            removed.forEach(key -> replacedHashes.add(key.hashCode()));
+            for (int index = 0; index < stored.count; index++) {
+                final Entry entry = stored.getEntry(index);
+                if (entry != null && (!replacedHashes.contains(entry.hash)
+                        || isKept(stored, entry, changed, removed))) {
+                    entries.add(entry);
+                }
+            }
+        }
+        entries.sort(Comparator.comparingInt(entry -> entry.hash));
+
+        final Path temporary = Files.createTempFile(path.toAbsolutePath().getParent(),
+                path.getFileName().toString(), null);
+        try {
+            writeEntries(temporary, entries);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Checks whether a stored entry, whose key has the hash code of a changed or
+     * removed key, is kept.
+     *
+     * @param stored the loaded cache file
+     * @param entry the stored entry
+     * @param changed the keys and values of the changed entries
+     * @param removed the keys of the removed entries
+     * @return true if the key of the entry is neither changed nor removed
+     */
+    private static boolean isKept(BinaryCacheFile stored, Entry entry,
+            Map<String, String> changed, Set<String> removed) {
+        final String key = stored.readStoredString(entry.storedOffset);
+        return !changed.containsKey(key) && !removed.contains(key);
+    }
+
+    /**
+     * Creates the entry of a record in the index, referring to its stored bytes.
+     *
+     * @param index the position of the record
+     * @return the entry or {@code null} if it is damaged
+     */
+    private Entry getEntry(int index) {
+        Entry entry = null;
+        final int offset = getEntryOffset(index);
+        final int end = getEntryEnd(offset);
+        if (end != -1) {
+            final ByteBuffer bytes = buffer.duplicate().position(offset).limit(end).slice();
+            entry = Entry.stored(getIndexedHash(index), offset, bytes);
+        }
+        return entry;
+    }
+
+    /**
+     * Writes the header, the index and the entries of a binary cache file.
+     *
+     * @param path the file to write
+     * @param entries the entries sorted by the hash codes of their keys
+     * @throws IOException when there is a problems with file save
+     */
+    private static void writeEntries(Path path, List<Entry> entries) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(entries.size());
+            int offset = HEADER_SIZE + entries.size() * INDEX_RECORD_SIZE;
+            for (Entry entry : entries) {
+                out.writeInt(entry.hash);
+                out.writeInt(offset);
+                offset += entry.bytes.remaining();
+            }
+            final byte[] chunk = new byte[BUFFER_SIZE];
+            for (Entry entry : entries) {
+                final ByteBuffer bytes = entry.bytes.duplicate();
+                while (bytes.hasRemaining()) {
+                    final int length = Math.min(chunk.length, bytes.remaining());
+                    bytes.get(chunk, 0, length);
+                    out.write(chunk, 0, length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes violations to a string. Violations are stored in the order they were
+     * reported, with their formatted message, so restored violations are reported
+     * exactly as the original ones.
+     *
+     * @param violations the violations to encode
+     * @return the Base64 encoded violations
+     * @throws IllegalStateException when some unexpected happened
+     */
+    /* package */ static String encodeViolations(Collection<Violation> violations) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(violations.size());
+            for (Violation violation : violations) {
+                out.writeInt(violation.getLineNo());
+                out.writeInt(violation.getColumnNo());
+                out.writeInt(violation.getColumnCharIndex());
+                out.writeInt(violation.getTokenType());
+                writeString(out, violation.getSeverityLevel().getName());
+                writeString(out, violation.getModuleId());
+                writeString(out, violation.getKey());
+                writeString(out, violation.getSourceName());
+                writeString(out, violation.getViolation());
+            }
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("Unable to encode violations.", ex);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes violations encoded by {@link #encodeViolations(Collection)}.
+     *
+     * @param encoded the Base64 encoded violations
+     * @param classLoader the class loader to load the sources of the violations
+     * @return the violations in the order they were encoded. They must not be sorted
+     *     again, as restored violations only know their formatted message and do not
+     *     compare like the original ones.
+     * @throws IOException if the encoded violations are broken
+     * @throws ClassNotFoundException if the source of a violation no longer exists
+     */
+    /* package */ static List<Violation> decodeViolations(String encoded,
+            ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        final List<Violation> result = new ArrayList<>();
+        try (DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+            final int violations = input.readInt();
+            for (int index = 0; index < violations; index++) {
+                final int lineNo = input.readInt();
+                final int columnNo = input.readInt();
+                final int columnCharIndex = input.readInt();
+                final int tokenType = input.readInt();
+                final SeverityLevel severityLevel =
+                        SeverityLevel.getInstance(readString(input));
+                final String moduleId = readString(input);
+                final String key = readString(input);
+                final Class<?> sourceClass =
+                        Class.forName(readString(input), false, classLoader);
+                final String message = readString(input);
+                result.add(new Violation(lineNo, columnNo, columnCharIndex, tokenType, null,
+                        key, new Object[] {message}, severityLevel, moduleId, sourceClass,
+                        RESTORED_VIOLATION_MESSAGE));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes a nullable string of any length.
+     *
+     * @param out the stream to write to
+     * @param value the string
+     * @throws IOException if an error occurs
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_STRING_LENGTH);
+        }
+        else {
+            final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(encoded.length);
+            out.write(encoded);
+        }
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param input the stream to read from
+     * @return the string
+     * @throws IOException if an error occurs or the length is not valid
+     */
+    private static String readString(DataInputStream input) throws IOException {
+        String result = null;
+        final int length = input.readInt();
+        if (length < NULL_STRING_LENGTH || length > input.available()) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        if (length != NULL_STRING_LENGTH) {
+            final byte[] encoded = new byte[length];
+            input.readFully(encoded);
+            result = new String(encoded, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    /**
+     * An entry to write, as the bytes of its length-prefixed key and value.
+     */
+    private static final class Entry {
+
+        /** The hash code of the key. */
+        private final int hash;
+
+        /** The position of the entry in the loaded file, -1 for a changed entry. */
+        private final int storedOffset;
+
+        /** The length-prefixed key and value. */
+        private final ByteBuffer bytes;
+
+        /**
+         * Creates an entry.
+         *
+         * @param hash the hash code of the key
+         * @param storedOffset the position of the entry in the loaded file
+         * @param bytes the length-prefixed key and value
+         */
+        private Entry(int hash, int storedOffset, ByteBuffer bytes) {
+            this.hash = hash;
+            this.storedOffset = storedOffset;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Creates an entry stored in the loaded file.
+         *
+         * @param hash the hash code of the key
+         * @param storedOffset the position of the entry in the loaded file
+         * @param bytes the length-prefixed key and value
+         * @return the entry
+         */
+        private static Entry stored(int hash, int storedOffset, ByteBuffer bytes) {
+            return new Entry(hash, storedOffset, bytes);
+        }
+
+        /**
+         * Creates a changed entry.
+         *
+         * @param key the key
+         * @param value the value
+         * @return the entry
+         */
+        private static Entry changed(String key, String value) {
+            return new Entry(key.hashCode(), -1, encode(key, value));
+        }
+
+        /**
+         * Encodes a key and a value as length-prefixed UTF-8 strings.
+         *
+         * @param key the key
+         * @param value the value
+         * @return the encoded key and value
+         */
+        private static ByteBuffer encode(String key, String value) {
+            final byte[] encodedKey = key.getBytes(StandardCharsets.UTF_8);
+            final byte[] encodedValue = value.getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer result = ByteBuffer.allocate(
+                    2 * Integer.BYTES + encodedKey.length + encodedValue.length);
+            result.putInt(encodedKey.length).put(encodedKey);
+            result.putInt(encodedValue.length).put(encodedValue);
+            return result.flip();
+        }
+
+    }
+
+}
@@ -27,11 +27,15 @@ import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -59,6 +63,16 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 
 /**
  * This class provides the functionality to check a set of files.
+ *
+ * <p>When the configuration requests more than one checker thread (see
+ * {@link ThreadModeSettings#getCheckerThreadsNumber()}), files are read, parsed
+ * and checked by a bounded pool of worker threads. Each worker owns its own
+ * instances of the configured FileSetChecks, except the ones marked with
+ * {@link GlobalStatefulCheck}, which are run on the auditing thread in file order.
+ * Listeners are always notified from the auditing thread, file by file, in the order
+ * the files were given, so reports are identical to the single thread mode.
+ * Filters are called from the worker threads and must be thread safe.
+ * </p>
  */
 public class Checker extends AbstractAutomaticBean implements MessageDispatcher, RootModule {
 
@@ -135,6 +149,12 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     /** The tab width for column reporting. */
     private int tabWidth = CommonUtil.DEFAULT_TAB_WIDTH;
 
+    /** The worker threads processing files, {@code null} in single thread mode. */
+    private CheckerWorkers workers;
+
+    /** The profiler measuring modules, {@code null} if not profiling. */
+    private ModuleProfiler profiler;
+
     /**
      * Creates a new {@code Checker} instance.
      * The instance needs to be contextualized and configured.
@@ -156,6 +176,19 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         cacheFile.load();
     }
 
+    /**
+     * Sets cache file that identifies files by their path relative to the base directory
+     * and by a digest of their content, so it stays valid on fresh checkouts.
+     *
+     * @param fileName the cache file.
+     * @throws IOException if there are some problems with file loading.
+     */
+    public void setContentCacheFile(String fileName) throws IOException {
+        final Configuration configuration = getConfiguration();
+        cacheFile = new PropertyCacheFile(configuration, fileName, true);
+        cacheFile.load();
+    }
+
     /**
      * Removes before execution file filter.
      *
@@ -178,6 +211,7 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     public void destroy() {
         listeners.clear();
         fileSetChecks.clear();
+        workers = null;
         beforeExecutionFileFilters.clear();
         filters.clear();
         if (cacheFile != null) {
@@ -210,8 +244,30 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
 
     @Override
     public int process(List<File> files) throws CheckstyleException {
+        return process(files.iterator());
+    }
+
+    /**
+     * Processes files as they are supplied, which lets the files be checked while
+     * they are still being found. Files without one of the file extensions are
+     * skipped, like in {@link #process(List)}.
+     *
+     * @param files the files to process.
+     * @return the number of errors found.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     */
+    public int process(Iterator<File> files) throws CheckstyleException {
         if (cacheFile != null) {
-            cacheFile.putExternalResources(getExternalResourceLocations());
+            // external configuration resource locations which are used by all file set
+            // checks and filters
+            cacheFile.putExternalResources(
+                Stream.concat(fileSetChecks.stream(), filters.getFilters().stream())
+                    .filter(ExternalResourceHolder.class::isInstance)
+                    .flatMap(resource -> {
+                        return ((ExternalResourceHolder) resource)
+                                .getExternalResourceLocations().stream();
+                    })
+                    .collect(Collectors.toUnmodifiableSet()));
         }
 
         // Prepare to start
@@ -220,10 +276,20 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
             fsc.beginProcessing(charset);
         }
 
-        final List<File> targetFiles = files.stream()
-                .filter(file -> CommonUtil.matchesFileExtension(file, fileExtensions))
-                .collect(Collectors.toUnmodifiableList());
-        processFiles(targetFiles);
+        if (workers == null || workers.isEmpty()) {
+            while (files.hasNext()) {
+                new ProcessedFile(files.next()).audit();
+            }
+        }
+        else {
+            // global stateful checks are run on the current thread, in the order of files,
+            // before a file is handed to a worker, so the worker filters all violations
+            final List<FileSetCheck> auditThreadFileSetChecks = fileSetChecks.stream()
+                    .filter(fsc -> !workers.contains(fsc))
+                    .collect(Collectors.toUnmodifiableList());
+            workers.process(charset, files,
+                file -> new ProcessedFile(file).submit(auditThreadFileSetChecks));
+        }
 
         // Finish up
         // It may also log!!!
@@ -237,23 +303,6 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         return errorCount;
     }
 
-    /**
-     * Returns a set of external configuration resource locations which are used by all file set
-     * checks and filters.
-     *
-     * @return a set of external configuration resource locations which are used by all file set
-     *         checks and filters.
-     */
-    private Set<String> getExternalResourceLocations() {
-        return Stream.concat(fileSetChecks.stream(), filters.getFilters().stream())
-            .filter(ExternalResourceHolder.class::isInstance)
-            .flatMap(resource -> {
-                return ((ExternalResourceHolder) resource)
-                        .getExternalResourceLocations().stream();
-            })
-            .collect(Collectors.toUnmodifiableSet());
-    }
-
     /** Notify all listeners about the audit start. */
     private void fireAuditStarted() {
         final AuditEvent event = new AuditEvent(this);
@@ -271,112 +320,19 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     }
 
     /**
-     * Processes a list of files with all FileSetChecks.
+     * Checks whether a file would be processed, that is whether it has one of the
+     * file extensions and is accepted by all before execution file filters.
+     * Lets files be skipped before they are supplied to {@link #process(Iterator)},
+     * which checks them again. It may be called from several threads once the
+     * checker is configured, so before execution file filters have to be thread safe.
      *
-     * @param files a list of files to process.
-     * @throws CheckstyleException if error condition within Checkstyle occurs.
-     * @throws Error wraps any java.lang.Error happened during execution
-     * @noinspection ProhibitedExceptionThrown
-     * @noinspectionreason ProhibitedExceptionThrown - There is no other way to
-     *      deliver filename that was under processing.
+     * @param file the file.
+     * @return {@code true} if the file would be processed.
      */
-    // -@cs[CyclomaticComplexity] no easy way to split this logic of processing the file
-    private void processFiles(List<File> files) throws CheckstyleException {
-        for (final File file : files) {
-            String fileName = null;
-            final String filePath = file.getPath();
-            try {
-                fileName = file.getAbsolutePath();
-                final long timestamp = file.lastModified();
-                if (cacheFile != null && cacheFile.isInCache(fileName, timestamp)
-                        || !acceptFileStarted(fileName)) {
-                    continue;
-                }
-                if (cacheFile != null) {
-                    cacheFile.put(fileName, timestamp);
-                }
-                fireFileStarted(fileName);
-                final SortedSet<Violation> fileMessages = processFile(file);
-                fireErrors(fileName, fileMessages);
-                fireFileFinished(fileName);
-            }
-            // -@cs[IllegalCatch] There is no other way to deliver filename that was under
-            // processing. See https://github.com/checkstyle/checkstyle/issues/2285
-            catch (Exception ex) {
-                if (fileName != null && cacheFile != null) {
-                    cacheFile.remove(fileName);
-                }
-
-                // We need to catch all exceptions to put a reason failure (file name) in exception
-                throw new CheckstyleException(
-                        getLocalizedMessage("Checker.processFilesException", filePath), ex);
-            }
-            catch (Error error) {
-                if (fileName != null && cacheFile != null) {
-                    cacheFile.remove(fileName);
-                }
-
-                // We need to catch all errors to put a reason failure (file name) in error
-                throw new Error("Error was thrown while processing " + filePath, error);
-            }
-        }
-    }
-
-    /**
-     * Processes a file with all FileSetChecks.
-     *
-     * @param file a file to process.
-     * @return a sorted set of violations to be logged.
-     * @throws CheckstyleException if error condition within Checkstyle occurs.
-     * @noinspection ProhibitedExceptionThrown
-     * @noinspectionreason ProhibitedExceptionThrown - there is no other way to obey
-     *      haltOnException field
-     */
-    private SortedSet<Violation> processFile(File file) throws CheckstyleException {
-        final SortedSet<Violation> fileMessages = new TreeSet<>();
-        try {
-            final FileText theText = new FileText(file.getAbsoluteFile(), charset);
-            for (final FileSetCheck fsc : fileSetChecks) {
-                fileMessages.addAll(fsc.process(file, theText));
-            }
-        }
-        catch (final IOException ioe) {
-            log.debug("IOException occurred.", ioe);
-            fileMessages.add(new Violation(1,
-                    Definitions.CHECKSTYLE_BUNDLE, EXCEPTION_MSG,
-                    new String[] {ioe.getMessage()}, null, getClass(), null));
-        }
-        // -@cs[IllegalCatch] There is no other way to obey haltOnException field
-        catch (Exception ex) {
-            if (haltOnException) {
-                throw ex;
-            }
-
-            log.debug("Exception occurred.", ex);
-
-            final StringWriter sw = new StringWriter();
-            final PrintWriter pw = new PrintWriter(sw, true);
-
-            ex.printStackTrace(pw);
-
-            fileMessages.add(new Violation(1,
-                    Definitions.CHECKSTYLE_BUNDLE, EXCEPTION_MSG,
-                    new String[] {sw.getBuffer().toString()},
-                    null, getClass(), null));
-        }
-        return fileMessages;
-    }
-
-    /**
-     * Check if all before execution file filters accept starting the file.
-     *
-     * @param fileName
-     *            the file to be audited
-     * @return {@code true} if the file is accepted.
-     */
-    private boolean acceptFileStarted(String fileName) {
-        final String stripped = CommonUtil.relativizePath(basedir, fileName);
-        return beforeExecutionFileFilters.accept(stripped);
+    public boolean isFileAccepted(File file) {
+        return CommonUtil.matchesFileExtension(file, fileExtensions)
+                && beforeExecutionFileFilters.accept(
+                        CommonUtil.relativizePath(basedir, file.getAbsolutePath()));
     }
 
     /**
@@ -396,25 +352,20 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
 
     /**
      * Notify all listeners about the errors in a file.
+     * The errors are filtered like the violations of a processed file.
      *
      * @param fileName the audited file
      * @param errors the audit errors from the file
      */
     @Override
     public void fireErrors(String fileName, SortedSet<Violation> errors) {
-        final String stripped = CommonUtil.relativizePath(basedir, fileName);
-        boolean hasNonFilteredViolations = false;
-        for (final Violation element : errors) {
-            final AuditEvent event = new AuditEvent(this, stripped, element);
-            if (filters.accept(event)) {
-                hasNonFilteredViolations = true;
-                for (final AuditListener listener : listeners) {
-                    listener.addError(event);
-                }
-            }
-        }
-        if (hasNonFilteredViolations && cacheFile != null) {
-            cacheFile.remove(fileName);
+        final ProcessedFile processedFile = new ProcessedFile(new File(fileName));
+        processedFile.fileName = fileName;
+        processedFile.violations.addAll(errors);
+        processedFile.filterViolations();
+        processedFile.fireAcceptedErrors();
+        if (!processedFile.acceptedViolations.isEmpty()) {
+            processedFile.removeFromCache();
         }
     }
 
@@ -449,12 +400,24 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
                     moduleClassLoader);
         }
 
+        final Configuration configuration = getConfiguration();
+        if (configuration instanceof DefaultConfiguration) {
+            final int checkerThreadsNumber = ((DefaultConfiguration) configuration)
+                    .getThreadModeSettings().getCheckerThreadsNumber();
+            if (checkerThreadsNumber > 1) {
+                workers = new CheckerWorkers(checkerThreadsNumber);
+            }
+        }
+
         final DefaultContext context = new DefaultContext();
         context.add("charset", charset);
         context.add("moduleFactory", moduleFactory);
         context.add("severity", severity.getName());
         context.add("basedir", basedir);
         context.add("tabWidth", String.valueOf(tabWidth));
+        if (profiler != null) {
+            context.add("profiler", profiler);
+        }
         childContext = context;
     }
 
@@ -468,25 +431,20 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
     protected void setupChild(Configuration childConf)
             throws CheckstyleException {
         final String name = childConf.getName();
-        final Object child;
-
-        try {
-            child = moduleFactory.createModule(name);
-
-            if (child instanceof AbstractAutomaticBean) {
-                final AbstractAutomaticBean bean = (AbstractAutomaticBean) child;
-                bean.contextualize(childContext);
-                bean.configure(childConf);
-            }
-        }
-        catch (final CheckstyleException ex) {
-            throw new CheckstyleException(
-                    getLocalizedMessage("Checker.setupChildModule", name, ex.getMessage()), ex);
-        }
+        final Object child = createChildModule(childConf);
         if (child instanceof FileSetCheck) {
             final FileSetCheck fsc = (FileSetCheck) child;
             fsc.init();
             addFileSetCheck(fsc);
+            if (workers != null
+                    && !fsc.getClass().isAnnotationPresent(GlobalStatefulCheck.class)) {
+                workers.addFileSetCheck(fsc, () -> {
+                    final FileSetCheck replica = (FileSetCheck) createChildModule(childConf);
+                    replica.init();
+                    replica.setMessageDispatcher(this);
+                    return replica;
+                });
+            }
         }
         else if (child instanceof BeforeExecutionFileFilter) {
             final BeforeExecutionFileFilter filter = (BeforeExecutionFileFilter) child;
@@ -506,6 +464,33 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         }
     }
 
+    /**
+     * Creates, contextualizes and configures a child module.
+     *
+     * @param childConf the configuration of the child module.
+     * @return the created module.
+     * @throws CheckstyleException if the module could not be created or configured.
+     */
+    private Object createChildModule(Configuration childConf) throws CheckstyleException {
+        final String name = childConf.getName();
+        final Object child;
+
+        try {
+            child = moduleFactory.createModule(name);
+
+            if (child instanceof AbstractAutomaticBean) {
+                final AbstractAutomaticBean bean = (AbstractAutomaticBean) child;
+                bean.contextualize(childContext);
+                bean.configure(childConf);
+            }
+        }
+        catch (final CheckstyleException ex) {
+            throw new CheckstyleException(
+                    getLocalizedMessage("Checker.setupChildModule", name, ex.getMessage()), ex);
+        }
+        return child;
+    }
+
     /**
      * Adds a FileSetCheck to the list of FileSetChecks
      * that is executed in process().
@@ -571,6 +556,17 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         this.moduleFactory = moduleFactory;
     }
 
+    /**
+     * Sets the profiler measuring the time, invocations and allocated memory of
+     * modules. Must be set before the checker is configured, child modules get the
+     * profiler through the context.
+     *
+     * @param profiler the profiler, {@code null} to disable profiling
+     */
+    public void setProfiler(ModuleProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     /**
      * Sets locale country.
      *
@@ -662,4 +658,481 @@ public class Checker extends AbstractAutomaticBean implements MessageDispatcher,
         return localizedMessage.getMessage();
     }
 
+    /**
+     * The state of a file passing through the audit.
+     */
+    private final class ProcessedFile implements CheckerWorkers.SubmittedFile {
+
+        /** The file. */
+        private final File file;
+
+        /** The violations found by FileSetChecks, before filtering. */
+        private final SortedSet<Violation> violations = new TreeSet<>();
+
+        /** The violations accepted by filters, in the order they are reported. */
+        private final List<Violation> acceptedViolations = new ArrayList<>();
+
+        /** The time spent on the file. */
+        private final FileTimer timer = new FileTimer();
+
+        /** The absolute name of the file, {@code null} until the file is accepted. */
+        private String fileName;
+
+        /** The state of the file the cache uses to detect changes. */
+        private String fileState;
+
+        /** The contents of the file, {@code null} until the file is read. */
+        private FileText fileText;
+
+        /** The result of the processing on a worker thread. */
+        private Future<ProcessedFile> result;
+
+        /** Whether the violations were restored from the cache instead of processing. */
+        private boolean restoredFromCache;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param file the file.
+         */
+        private ProcessedFile(File file) {
+            this.file = file;
+        }
+
+        /**
+         * Processes the file with all FileSetChecks and notifies listeners about it.
+         *
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         * @throws Error wraps any java.lang.Error happened during execution
+         */
+        private void audit() throws CheckstyleException {
+            try {
+                if (isAccepted()) {
+                    fireFileStarted(fileName);
+                    if (!restoreFromCache()) {
+                        putInCache();
+                        process(fileSetChecks);
+                        filterViolations();
+                    }
+                    finish();
+                }
+            }
+            // -@cs[IllegalCatch] There is no other way to deliver filename that was under
+            // processing. See https://github.com/checkstyle/checkstyle/issues/2285
+            catch (Exception ex) {
+                // We need to catch all exceptions to put a reason failure (file name) in exception
+                throw createException(ex);
+            }
+            catch (Error error) {
+                // We need to catch all errors to put a reason failure (file name) in error
+                throw createError(error);
+            }
+        }
+
+        /**
+         * Runs the given FileSetChecks on the file and hands it to a worker, which runs
+         * its FileSetChecks and filters all violations of the file. Without FileSetChecks
+         * on the current thread, the worker also reads the content hash cache, so
+         * the files are digested in parallel.
+         *
+         * @param auditThreadFileSetChecks the FileSetChecks to run on the current thread.
+         * @return this file, {@code null} if the file is not accepted.
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         * @throws Error wraps any java.lang.Error happened during execution
+         */
+        private ProcessedFile submit(List<FileSetCheck> auditThreadFileSetChecks)
+                throws CheckstyleException {
+            try {
+                ProcessedFile submitted = null;
+                if (isAccepted()) {
+                    if (auditThreadFileSetChecks.isEmpty()) {
+                        result = workers.submit(this::auditOnWorker);
+                    }
+                    else if (restoreFromCache()) {
+                        result = CompletableFuture.completedFuture(this);
+                    }
+                    else {
+                        process(auditThreadFileSetChecks);
+                        result = workers.submit(this::processOnWorker);
+                    }
+                    submitted = this;
+                }
+                return submitted;
+            }
+            // -@cs[IllegalCatch] There is no other way to deliver filename that was under
+            // processing. See https://github.com/checkstyle/checkstyle/issues/2285
+            catch (Exception ex) {
+                throw createException(ex);
+            }
+            catch (Error error) {
+                throw createError(error);
+            }
+        }
+
+        /**
+         * Waits for the worker processing the file, records the file in the cache
+         * and notifies listeners about the file.
+         *
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         * @throws Error wraps any java.lang.Error happened during execution
+         */
+        @Override
+        public void complete() throws CheckstyleException {
+            try {
+                result.get();
+                if (!restoredFromCache) {
+                    putInCache();
+                }
+                fireFileStarted(fileName);
+                finish();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw createException(ex);
+            }
+            catch (ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof Error) {
+                    throw createError(cause);
+                }
+                throw createException(cause);
+            }
+            // -@cs[IllegalCatch] There is no other way to deliver filename that was under
+            // processing. See https://github.com/checkstyle/checkstyle/issues/2285
+            catch (Exception ex) {
+                throw createException(ex);
+            }
+            catch (Error error) {
+                throw createError(error);
+            }
+        }
+
+        /**
+         * Checks whether the file has to be processed. Files unchanged since they
+         * last checked ok in a timestamp based cache are skipped without notifying
+         * listeners. A content hash cache is checked when the file is restored,
+         * see {@link #restoreFromCache()}.
+         *
+         * @return {@code true} if the file has to be processed.
+         */
+        private boolean isAccepted() {
+            boolean accepted = false;
+            if (CommonUtil.matchesFileExtension(file, fileExtensions)) {
+                fileName = file.getAbsolutePath();
+                final long timestamp = file.lastModified();
+                accepted = beforeExecutionFileFilters.accept(
+                        CommonUtil.relativizePath(basedir, fileName));
+                if (accepted && cacheFile != null && !cacheFile.isContentHashing()) {
+                    fileState = Long.toString(timestamp);
+                    accepted = !cacheFile.isInCache(getCacheKey(), fileState);
+                }
+            }
+            return accepted;
+        }
+
+        /**
+         * Calculates the digest of the content of the file from its raw bytes.
+         *
+         * @return the digest or {@code null} if the file can not be read.
+         */
+        private String getContentHash() {
+            String contentHash = null;
+            try {
+                final long startNanos = System.nanoTime();
+                contentHash = PropertyCacheFile.getContentHash(file.toPath());
+                timer.addReadTime(startNanos);
+            }
+            catch (IOException ignored) {
+                // the file will be reported by the checks, it is not cached
+            }
+            return contentHash;
+        }
+
+        /**
+         * Reads the file, unless it was read before.
+         *
+         * @throws IOException if the file can not be read.
+         */
+        private void readFile() throws IOException {
+            if (fileText == null) {
+                final long startNanos = System.nanoTime();
+                fileText = new FileText(file.getAbsoluteFile(), charset);
+                timer.addReadTime(startNanos);
+            }
+        }
+
+        /**
+         * Restores the violations of an unchanged file from a content hash cache,
+         * so they can be reported without processing the file. The content of the
+         * file is digested here, so it runs on a worker when possible. Violations that
+         * can not be restored, for example when the class of their check was removed,
+         * are a cache miss and the file is processed again.
+         *
+         * @return {@code true} if the violations were restored.
+         */
+        private boolean restoreFromCache() {
+            if (cacheFile != null && cacheFile.isContentHashing()) {
+                fileState = getContentHash();
+                if (cacheFile.isInCache(getCacheKey(), fileState)) {
+                    restoreViolations();
+                }
+            }
+            return restoredFromCache;
+        }
+
+        /**
+         * Restores the violations of a file found in the cache.
+         */
+        private void restoreViolations() {
+            ClassLoader classLoader = moduleClassLoader;
+            if (classLoader == null) {
+                classLoader = Checker.class.getClassLoader();
+            }
+            final List<Violation> cachedViolations =
+                    cacheFile.getViolations(getCacheKey(), classLoader);
+            if (cachedViolations != null) {
+                acceptedViolations.addAll(cachedViolations);
+                restoredFromCache = true;
+            }
+        }
+
+        /**
+         * Records the file in the cache, if there is one.
+         */
+        private void putInCache() {
+            if (cacheFile != null) {
+                cacheFile.put(getCacheKey(), fileState);
+            }
+        }
+
+        /**
+         * Removes the file from the cache, if there is one.
+         */
+        private void removeFromCache() {
+            if (cacheFile != null && fileName != null) {
+                cacheFile.remove(getCacheKey());
+            }
+        }
+
+        /**
+         * Gets the name the file is stored under in the cache. A content hash cache uses
+         * names relative to the base directory so the cache can be shared by checkouts
+         * in different locations.
+         *
+         * @return the cache key.
+         */
+        private String getCacheKey() {
+            final String cacheKey;
+            if (cacheFile.isContentHashing()) {
+                cacheKey = CommonUtil.relativizePath(basedir, fileName);
+            }
+            else {
+                cacheKey = fileName;
+            }
+            return cacheKey;
+        }
+
+        /**
+         * Restores the violations of the file from the cache or, if they can not be
+         * restored, processes the file with FileSetChecks of a worker.
+         *
+         * @param workerFileSetChecks the FileSetChecks of the worker.
+         * @return this file.
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         */
+        private ProcessedFile auditOnWorker(List<FileSetCheck> workerFileSetChecks)
+                throws CheckstyleException {
+            if (!restoreFromCache()) {
+                processOnWorker(workerFileSetChecks);
+            }
+            return this;
+        }
+
+        /**
+         * Processes the file with FileSetChecks of a worker and filters its violations.
+         * Filters have to see the state left by the worker's checks, so they run here.
+         *
+         * @param workerFileSetChecks the FileSetChecks of the worker.
+         * @return this file.
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         */
+        private ProcessedFile processOnWorker(List<FileSetCheck> workerFileSetChecks)
+                throws CheckstyleException {
+            process(workerFileSetChecks);
+            filterViolations();
+            return this;
+        }
+
+        /**
+         * Processes the file with the given FileSetChecks.
+         * The file is read only if it was not read before.
+         *
+         * @param checks the FileSetChecks to run.
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         * @noinspection ProhibitedExceptionThrown
+         * @noinspectionreason ProhibitedExceptionThrown - there is no other way to obey
+         *      haltOnException field
+         */
+        private void process(List<FileSetCheck> checks) throws CheckstyleException {
+            try {
+                readFile();
+                timer.startProcessing();
+                try {
+                    for (final FileSetCheck fsc : checks) {
+                        violations.addAll(runCheck(fsc));
+                    }
+                }
+                finally {
+                    timer.finishProcessing();
+                }
+            }
+            catch (final IOException ioe) {
+                log.debug("IOException occurred.", ioe);
+                violations.add(new Violation(1,
+                        Definitions.CHECKSTYLE_BUNDLE, EXCEPTION_MSG,
+                        new String[] {ioe.getMessage()}, null, Checker.this.getClass(), null));
+            }
+            // -@cs[IllegalCatch] There is no other way to obey haltOnException field
+            catch (Exception ex) {
+                if (haltOnException) {
+                    throw ex;
+                }
+
+                log.debug("Exception occurred.", ex);
+
+                final StringWriter sw = new StringWriter();
+                final PrintWriter pw = new PrintWriter(sw, true);
+
+                ex.printStackTrace(pw);
+
+                violations.add(new Violation(1,
+                        Definitions.CHECKSTYLE_BUNDLE, EXCEPTION_MSG,
+                        new String[] {sw.getBuffer().toString()},
+                        null, Checker.this.getClass(), null));
+            }
+        }
+
+        /**
+         * Processes the file with a FileSetCheck, measuring the FileSetCheck when profiling.
+         *
+         * @param fileSetCheck the FileSetCheck to run.
+         * @return the violations found by the FileSetCheck.
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         */
+        private SortedSet<Violation> runCheck(FileSetCheck fileSetCheck)
+                throws CheckstyleException {
+            final SortedSet<Violation> checkViolations;
+            if (profiler == null) {
+                checkViolations = fileSetCheck.process(file, fileText);
+            }
+            else {
+                final long startBytes = profiler.getAllocatedBytes();
+                final long startNanos = System.nanoTime();
+                checkViolations = fileSetCheck.process(file, fileText);
+                profiler.addSample(fileSetCheck.getClass(), ModuleProfiler.Phase.PROCESS,
+                        startNanos, startBytes);
+            }
+            return checkViolations;
+        }
+
+        /**
+         * Moves the violations of the file that are accepted by all filters
+         * to the accepted violations.
+         */
+        private void filterViolations() {
+            final long startNanos = System.nanoTime();
+            final String stripped = CommonUtil.relativizePath(basedir, fileName);
+            for (final Violation element : violations) {
+                if (isAcceptedByFilters(new AuditEvent(Checker.this, stripped, element))) {
+                    acceptedViolations.add(element);
+                }
+            }
+            violations.clear();
+            timer.addFilterTime(startNanos);
+        }
+
+        /**
+         * Checks whether all filters accept an event. Each filter is measured when profiling.
+         *
+         * @param event the event to filter
+         * @return true if all filters accept the event
+         */
+        private boolean isAcceptedByFilters(AuditEvent event) {
+            boolean accepted = true;
+            if (profiler == null) {
+                accepted = filters.accept(event);
+            }
+            else {
+                for (Filter filter : filters.getFilters()) {
+                    final long startBytes = profiler.getAllocatedBytes();
+                    final long startNanos = System.nanoTime();
+                    accepted = filter.accept(event);
+                    profiler.addSample(filter.getClass(), ModuleProfiler.Phase.ACCEPT,
+                            startNanos, startBytes);
+                    if (!accepted) {
+                        break;
+                    }
+                }
+            }
+            return accepted;
+        }
+
+        /**
+         * Notifies listeners about the accepted violations of the file, records them in
+         * the cache and notifies listeners about the end of the file audit with the time
+         * spent on the file.
+         */
+        private void finish() {
+            fireAcceptedErrors();
+            if (cacheFile != null && !restoredFromCache) {
+                cacheFile.putViolations(getCacheKey(), acceptedViolations);
+            }
+            final String stripped = CommonUtil.relativizePath(basedir, fileName);
+            final AuditEvent event =
+                    new AuditEvent(Checker.this, stripped, null, timer.getTimings());
+            for (final AuditListener listener : listeners) {
+                listener.fileFinished(event);
+            }
+        }
+
+        /**
+         * Notifies listeners about the accepted violations of the file.
+         */
+        private void fireAcceptedErrors() {
+            final String stripped = CommonUtil.relativizePath(basedir, fileName);
+            for (final Violation element : acceptedViolations) {
+                final AuditEvent event = new AuditEvent(Checker.this, stripped, element);
+                for (final AuditListener listener : listeners) {
+                    listener.addError(event);
+                }
+            }
+        }
+
+        /**
+         * Removes the file from the cache and wraps an exception that occurred while
+         * processing the file, so it names the file.
+         *
+         * @param cause the exception.
+         * @return the exception to throw.
+         */
+        private CheckstyleException createException(Throwable cause) {
+            removeFromCache();
+            return new CheckstyleException(
+                    getLocalizedMessage("Checker.processFilesException", file.getPath()), cause);
+        }
+
+        /**
+         * Removes the file from the cache and wraps an error that occurred while
+         * processing the file, so it names the file.
+         *
+         * @param cause the error.
+         * @return the error to throw.
+         */
+        private Error createError(Throwable cause) {
+            removeFromCache();
+            return new Error("Error was thrown while processing " + file.getPath(), cause);
+        }
+
+    }
+
 }
@@ -0,0 +1,238 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.FileSetCheck;
+
+/**
+ * The worker threads of a {@link Checker} in multi thread mode.
+ *
+ * <p>Every worker owns its own instances of the FileSetChecks that are not
+ * {@link GlobalStatefulCheck global stateful}: the first worker uses the instances
+ * of the checker, the other workers use replicas of them. A task is run by any idle
+ * worker, with the FileSetChecks of that worker. Files are completed on the auditing
+ * thread in the order they were submitted.</p>
+ */
+final class CheckerWorkers {
+
+    /** The number of files queued per worker thread. */
+    private static final int FILES_QUEUED_PER_THREAD = 2;
+
+    /** The number of worker threads. */
+    private final int threadsNumber;
+
+    /** The FileSetChecks of every worker. */
+    private final List<List<FileSetCheck>> workerFileSetChecks = new ArrayList<>();
+
+    /** The FileSetChecks created for the workers after the first one. */
+    private final List<FileSetCheck> replicas = new ArrayList<>();
+
+    /** The FileSetChecks of the workers that are not busy, {@code null} until processing. */
+    private BlockingQueue<List<FileSetCheck>> idleFileSetChecks;
+
+    /** The worker threads, {@code null} until processing. */
+    private ExecutorService executor;
+
+    /**
+     * Creates workers without FileSetChecks.
+     *
+     * @param threadsNumber the number of worker threads.
+     */
+    /* package */ CheckerWorkers(int threadsNumber) {
+        this.threadsNumber = threadsNumber;
+        for (int index = 0; index < threadsNumber; index++) {
+            workerFileSetChecks.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds a FileSetCheck of the checker to the first worker and its replicas
+     * to the other workers.
+     *
+     * @param fileSetCheck the FileSetCheck of the checker.
+     * @param replicaFactory creates the replicas of the FileSetCheck.
+     * @throws CheckstyleException if a replica could not be created.
+     */
+    /* package */ void addFileSetCheck(FileSetCheck fileSetCheck, ReplicaFactory replicaFactory)
+            throws CheckstyleException {
+        workerFileSetChecks.get(0).add(fileSetCheck);
+        for (int index = 1; index < threadsNumber; index++) {
+            final FileSetCheck replica = replicaFactory.createReplica();
+            replicas.add(replica);
+            workerFileSetChecks.get(index).add(replica);
+        }
+    }
+
+    /**
+     * Checks whether the workers have no FileSetChecks to run.
+     *
+     * @return {@code true} if there is no FileSetCheck.
+     */
+    /* package */ boolean isEmpty() {
+        return workerFileSetChecks.get(0).isEmpty();
+    }
+
+    /**
+     * Checks whether a FileSetCheck of the checker is run by the workers.
+     *
+     * @param fileSetCheck the FileSetCheck of the checker.
+     * @return {@code true} if the workers run the FileSetCheck.
+     */
+    /* package */ boolean contains(FileSetCheck fileSetCheck) {
+        return workerFileSetChecks.get(0).contains(fileSetCheck);
+    }
+
+    /**
+     * Processes files with the workers. Files are submitted and completed by the
+     * current thread in the order of files, while up to {@value #FILES_QUEUED_PER_THREAD}
+     * files per worker are queued for the workers.
+     *
+     * @param charset the name of the charset the replicas process files with.
+     * @param files the files to process.
+     * @param fileSubmitter hands the files to the workers.
+     * @throws CheckstyleException if error condition within Checkstyle occurs.
+     */
+    /* package */ void process(String charset, Iterator<File> files,
+            FileSubmitter fileSubmitter) throws CheckstyleException {
+        replicas.forEach(fsc -> fsc.beginProcessing(charset));
+        idleFileSetChecks = new ArrayBlockingQueue<>(threadsNumber, false, workerFileSetChecks);
+        executor = Executors.newFixedThreadPool(threadsNumber);
+        final Deque<SubmittedFile> submittedFiles = new ArrayDeque<>();
+        try {
+            while (files.hasNext()) {
+                if (submittedFiles.size() == threadsNumber * FILES_QUEUED_PER_THREAD) {
+                    submittedFiles.poll().complete();
+                }
+                final SubmittedFile submittedFile = fileSubmitter.submit(files.next());
+                if (submittedFile != null) {
+                    submittedFiles.add(submittedFile);
+                }
+            }
+            while (!submittedFiles.isEmpty()) {
+                submittedFiles.poll().complete();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        replicas.forEach(FileSetCheck::finishProcessing);
+        replicas.forEach(FileSetCheck::destroy);
+    }
+
+    /**
+     * Runs a task on an idle worker.
+     *
+     * @param task the task.
+     * @param <T> the type of the result of the task.
+     * @return the result of the task.
+     */
+    /* package */ <T> Future<T> submit(WorkerTask<T> task) {
+        return executor.submit(() -> {
+            final List<FileSetCheck> fileSetChecks = idleFileSetChecks.take();
+            try {
+                return task.run(fileSetChecks);
+            }
+            finally {
+                idleFileSetChecks.add(fileSetChecks);
+            }
+        });
+    }
+
+    /**
+     * Creates the replica of a FileSetCheck for a worker.
+     */
+    @FunctionalInterface
+    /* package */ interface ReplicaFactory {
+
+        /**
+         * Creates a replica of a FileSetCheck, ready to process files.
+         *
+         * @return the replica.
+         * @throws CheckstyleException if the replica could not be created.
+         */
+        FileSetCheck createReplica() throws CheckstyleException;
+
+    }
+
+    /**
+     * Hands a file to the workers.
+     */
+    @FunctionalInterface
+    /* package */ interface FileSubmitter {
+
+        /**
+         * Hands a file to the workers.
+         *
+         * @param file the file.
+         * @return the submitted file, {@code null} if the file is skipped.
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         */
+        SubmittedFile submit(File file) throws CheckstyleException;
+
+    }
+
+    /**
+     * A file handed to the workers.
+     */
+    @FunctionalInterface
+    /* package */ interface SubmittedFile {
+
+        /**
+         * Waits for the workers processing the file and completes the file.
+         *
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         */
+        void complete() throws CheckstyleException;
+
+    }
+
+    /**
+     * A task run by a worker.
+     *
+     * @param <T> the type of the result of the task.
+     */
+    @FunctionalInterface
+    /* package */ interface WorkerTask<T> {
+
+        /**
+         * Runs the task.
+         *
+         * @param fileSetChecks the FileSetChecks of the worker running the task.
+         * @return the result of the task.
+         * @throws CheckstyleException if error condition within Checkstyle occurs.
+         */
+        T run(List<FileSetCheck> fileSetChecks) throws CheckstyleException;
+
+    }
+
+}
@@ -41,6 +41,9 @@ public final class DetailAstImpl implements DetailAST {
     /** Constant to indicate if not calculated the child count. */
     private static final int NOT_INITIALIZED = Integer.MIN_VALUE;
 
+    /** The number of nodes from which a branch keeps its exact token types. */
+    private static final int EXACT_BRANCH_SIZE = 64;
+
     /** The line number. **/
     private int lineNo = NOT_INITIALIZED;
     /** The column number. **/
@@ -78,11 +81,11 @@ public final class DetailAstImpl implements DetailAST {
     private List<Token> hiddenAfter;
 
     /**
-     * All token types in this branch.
-     * Token 'x' (where x is an int) is in this branch
-     * if branchTokenTypes.get(x) is true.
+     * Summary of the token types in this branch, {@code null} until it is computed.
+     * Summaries are immutable, so a summary computed while the tree is walked by
+     * several threads is always seen complete.
      */
-    private BitSet branchTokenTypes;
+    private BranchTokenTypes branchTokenTypes;
 
     /**
      * Initializes this DetailAstImpl.
@@ -156,7 +159,7 @@ public final class DetailAstImpl implements DetailAST {
      * @param child to DetailAST to add as child
      */
     public void addChild(DetailAST child) {
-        clearBranchTokenTypes();
+        clearBranchSummaries(this);
         clearChildCountCache(this);
         if (child != null) {
             final DetailAstImpl astImpl = (DetailAstImpl) child;
@@ -179,13 +182,15 @@ public final class DetailAstImpl implements DetailAST {
     public int getChildCount() {
         // lazy init
         if (childCount == NOT_INITIALIZED) {
-            childCount = 0;
+            // count in a local, so threads walking the same tree never see a partial count
+            int count = 0;
             DetailAST child = firstChild;
 
             while (child != null) {
-                childCount += 1;
+                count += 1;
                 child = child.getNextSibling();
             }
+            childCount = count;
         }
         return childCount;
     }
@@ -360,31 +365,155 @@ public final class DetailAstImpl implements DetailAST {
     }
 
     /**
-     * Returns token type with branch.
+     * Computes the summaries of this branch and of all branches below it that have
+     * none, in a single post-order walk.
+     */
+    private void summarizeBranch() {
+        DetailAstImpl node = getFirstUnsummarizedLeaf(this);
+        node.summarize();
+        while (node != this) {
+            DetailAstImpl sibling = node.nextSibling;
+            while (sibling != null && sibling.branchTokenTypes != null) {
+                sibling = sibling.nextSibling;
+            }
+            if (sibling == null) {
+                // all children of the parent are summarized now
+                node = node.parent;
+            }
+            else {
+                node = getFirstUnsummarizedLeaf(sibling);
+            }
+            node.summarize();
+        }
+    }
+
+    /**
+     * Descends from the given AST through the first children without summary.
      *
-     * @return the token types that occur in the branch as a sorted set.
+     * @param ast the AST to start from, which has no summary
+     * @return the first AST without summary whose children all have summaries
      */
-    private BitSet getBranchTokenTypes() {
-        // lazy init
-        if (branchTokenTypes == null) {
-            branchTokenTypes = new BitSet();
-            branchTokenTypes.set(type);
+    private static DetailAstImpl getFirstUnsummarizedLeaf(DetailAstImpl ast) {
+        DetailAstImpl node = ast;
+        DetailAstImpl child = getFirstUnsummarizedChild(node);
+        while (child != null) {
+            node = child;
+            child = getFirstUnsummarizedChild(node);
+        }
+        return node;
+    }
 
-            // add union of all children
-            DetailAstImpl child = firstChild;
-            while (child != null) {
-                final BitSet childTypes = child.getBranchTokenTypes();
-                branchTokenTypes.or(childTypes);
+    /**
+     * Finds the first child without summary.
+     *
+     * @param ast the parent AST
+     * @return the first child without summary, or {@code null} if there is none
+     */
+    private static DetailAstImpl getFirstUnsummarizedChild(DetailAstImpl ast) {
+        DetailAstImpl child = ast.firstChild;
+        while (child != null && child.branchTokenTypes != null) {
+            child = child.nextSibling;
+        }
+        return child;
+    }
 
-                child = child.nextSibling;
+    /**
+     * Computes the summary of this branch from the summaries of its children.
+     */
+    private void summarize() {
+        long bloom = getBloomBit(type);
+        int size = 1;
+        for (DetailAstImpl child = firstChild; child != null; child = child.nextSibling) {
+            size += child.branchTokenTypes.size;
+            bloom |= child.branchTokenTypes.bloom;
+        }
+        BitSet exactTypes = null;
+        if (size >= EXACT_BRANCH_SIZE) {
+            exactTypes = new BitSet();
+            exactTypes.set(type);
+            for (DetailAstImpl child = firstChild; child != null; child = child.nextSibling) {
+                final BitSet childExactTypes = child.branchTokenTypes.exactTypes;
+                if (childExactTypes == null) {
+                    child.collectBranchTokenTypes(exactTypes);
+                }
+                else {
+                    exactTypes.or(childExactTypes);
+                }
             }
         }
-        return branchTokenTypes;
+        branchTokenTypes = new BranchTokenTypes(bloom, exactTypes, size);
+    }
+
+    /**
+     * Adds the token types of a branch without exact token types to the given set.
+     *
+     * @param tokenTypes the set to add the token types to
+     */
+    private void collectBranchTokenTypes(BitSet tokenTypes) {
+        DetailAstImpl node = this;
+        while (node != null) {
+            tokenTypes.set(node.type);
+            node = getNextInBranch(node);
+        }
+    }
+
+    /**
+     * Checks whether a branch without exact token types contains a token type.
+     *
+     * @param tokenType the token type to search for
+     * @return true if the token type occurs in this branch
+     */
+    private boolean scanBranch(int tokenType) {
+        DetailAstImpl node = this;
+        while (node != null && node.type != tokenType) {
+            node = getNextInBranch(node);
+        }
+        return node != null;
+    }
+
+    /**
+     * Returns the AST following the given one in a pre-order walk of this branch.
+     *
+     * @param ast an AST of this branch
+     * @return the next AST of this branch, or {@code null} at its end
+     */
+    private DetailAstImpl getNextInBranch(DetailAstImpl ast) {
+        DetailAstImpl next = ast.firstChild;
+        DetailAstImpl node = ast;
+        while (next == null && node != this) {
+            next = node.nextSibling;
+            node = node.parent;
+        }
+        return next;
+    }
+
+    /**
+     * Returns the bit of the token type in the bloom filter of a branch.
+     *
+     * @param tokenType the token type
+     * @return the bit of the token type
+     */
+    private static long getBloomBit(int tokenType) {
+        return 1L << tokenType;
     }
 
     @Override
     public boolean branchContains(int tokenType) {
-        return getBranchTokenTypes().get(tokenType);
+        if (branchTokenTypes == null) {
+            summarizeBranch();
+        }
+        final BranchTokenTypes summary = branchTokenTypes;
+        final boolean result;
+        if ((summary.bloom & getBloomBit(tokenType)) == 0) {
+            result = false;
+        }
+        else if (summary.exactTypes == null) {
+            result = scanBranch(tokenType);
+        }
+        else {
+            result = summary.exactTypes.get(tokenType);
+        }
+        return result;
     }
 
     @Override
@@ -441,14 +570,24 @@ public final class DetailAstImpl implements DetailAST {
     }
 
     /**
-     * Clears branchTokenTypes cache for all parents of the current DetailAST instance, and the
-     * child count for the current DetailAST instance.
+     * Clears the branch summaries of all parents of the current DetailAST instance.
      */
     private void clearBranchTokenTypes() {
-        DetailAstImpl prevParent = parent;
-        while (prevParent != null) {
-            prevParent.branchTokenTypes = null;
-            prevParent = prevParent.parent;
+        clearBranchSummaries(parent);
+    }
+
+    /**
+     * Clears the branch summaries of the given AST and of all its parents. A branch
+     * is only summarized together with all branches below it, so the parents of an
+     * AST without summary have none either.
+     *
+     * @param ast the AST to start from
+     */
+    private static void clearBranchSummaries(DetailAstImpl ast) {
+        DetailAstImpl node = ast;
+        while (node != null && node.branchTokenTypes != null) {
+            node.branchTokenTypes = null;
+            node = node.parent;
         }
     }
 
@@ -475,7 +614,7 @@ public final class DetailAstImpl implements DetailAST {
      * @param firstChild the DetailAST to set as first child
      */
     public void setFirstChild(DetailAST firstChild) {
-        clearBranchTokenTypes();
+        clearBranchSummaries(this);
         clearChildCountCache(this);
         this.firstChild = (DetailAstImpl) firstChild;
         if (firstChild != null) {
@@ -487,6 +626,7 @@ public final class DetailAstImpl implements DetailAST {
      * Removes all children of this AST.
      */
     public void removeChildren() {
+        clearBranchSummaries(this);
         firstChild = null;
     }
 
@@ -535,4 +675,41 @@ public final class DetailAstImpl implements DetailAST {
     public void setHiddenAfter(List<Token> hiddenAfter) {
         this.hiddenAfter = UnmodifiableCollectionUtil.unmodifiableList(hiddenAfter);
     }
+
+    /**
+     * The token types of a branch.
+     */
+    private static final class BranchTokenTypes {
+
+        /**
+         * Bloom filter of the token types. Token 'x' (where x is an int)
+         * can only be in the branch if the bit {@code x % 64} is set.
+         */
+        private final long bloom;
+
+        /**
+         * All token types, kept for branches of at least {@link #EXACT_BRANCH_SIZE}
+         * nodes only. Token 'x' (where x is an int) is in the branch
+         * if exactTypes.get(x) is true.
+         */
+        private final BitSet exactTypes;
+
+        /** The number of nodes in the branch. */
+        private final int size;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param bloom bloom filter of the token types
+         * @param exactTypes all token types or {@code null}
+         * @param size the number of nodes
+         */
+        private BranchTokenTypes(long bloom, BitSet exactTypes, int size) {
+            this.bloom = bloom;
+            this.exactTypes = exactTypes;
+            this.size = size;
+        }
+
+    }
+
 }
@@ -0,0 +1,399 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the files to process in the files and directories given on the command line.
+ *
+ * <p>Directories are listed in parallel by a pool of threads, while the files found
+ * so far are supplied in the order of a sequential depth first walk, so processing
+ * can start before all directories are listed. Only the directories the walk reaches
+ * next are listed ahead, at most a few per thread, so the listing does not run far
+ * ahead of processing. Paths matching one of the exclusion patterns are skipped, and
+ * excluded directories are not listed at all. Files that are not readable or not
+ * accepted by the file filter are dropped. Symbolic links are followed.</p>
+ *
+ * <p>The first files can be looked at before the file filter is set, so the files
+ * needed to validate the command line and the files to process come from the same
+ * walk. The directories needed for the first files are listed on the calling thread,
+ * the parallel listing starts when files are supplied, after the filter is set.</p>
+ */
+final class FileDiscovery implements Iterator<File>, AutoCloseable {
+
+    /** The options of the walk of a directory, which follows symbolic links. */
+    private static final Set<FileVisitOption> WALK_OPTIONS =
+            EnumSet.of(FileVisitOption.FOLLOW_LINKS);
+
+    /** The message of the exception thrown when a directory can not be listed. */
+    private static final String SEARCH_ERROR_MESSAGE = "Unable to search files.";
+
+    /** The number of directories listed ahead of the walk by each thread. */
+    private static final int PENDING_LISTINGS_PER_THREAD = 2;
+
+    /** The patterns of the paths to skip. */
+    private final List<Pattern> patternsToExclude;
+
+    /** The maximum number of directories listed ahead of the walk. */
+    private final int maxPendingListings;
+
+    /** The threads listing directories. */
+    private final ExecutorService executor;
+
+    /** Iterators over the entries of the directories being walked, the innermost first. */
+    private final Deque<Iterator<Entry>> walk = new ArrayDeque<>();
+
+    /** The directories reached by the walk and not listed yet, in the order of the walk. */
+    private final Deque<Entry> unlistedDirectories = new ArrayDeque<>();
+
+    /** The files found and not supplied yet, in the order they are to be supplied. */
+    private final Deque<File> foundFiles = new ArrayDeque<>();
+
+    /** The files and directories to search, {@code null} once the walk started. */
+    private List<File> roots;
+
+    /** The filter of the files to supply. */
+    private Predicate<File> fileFilter = file -> true;
+
+    /** Whether directories are listed ahead of the walk, which starts with supplying. */
+    private boolean listingAhead;
+
+    /** The number of directories listed ahead of the walk and not walked yet. */
+    private int pendingListings;
+
+    /**
+     * Prepares to find the files to process.
+     *
+     * @param roots the files and directories to search
+     * @param patternsToExclude the patterns of the paths to skip
+     * @param threadsNumber the number of threads listing directories
+     */
+    /* package */ FileDiscovery(List<File> roots, List<Pattern> patternsToExclude,
+            int threadsNumber) {
+        this.roots = roots;
+        this.patternsToExclude = patternsToExclude;
+        maxPendingListings = threadsNumber * PENDING_LISTINGS_PER_THREAD;
+        executor = Executors.newFixedThreadPool(threadsNumber);
+    }
+
+    /**
+     * Sets the filter of the files to supply. It also applies to the first files
+     * found before it is set.
+     *
+     * @param fileFilter the filter of the files to supply
+     */
+    public void setFileFilter(Predicate<File> fileFilter) {
+        this.fileFilter = fileFilter;
+        foundFiles.removeIf(file -> !fileFilter.test(file));
+    }
+
+    /**
+     * Finds the first files, which are still supplied by {@link #next()} afterwards.
+     * The directories are listed on the calling thread, none are listed ahead.
+     *
+     * @param maxFiles the maximum number of files to return
+     * @return the first files to supply, fewer than requested if no more files exist
+     */
+    public List<File> getFirstFiles(int maxFiles) {
+        boolean found = true;
+        while (found && foundFiles.size() < maxFiles) {
+            found = findFile();
+        }
+        return new ArrayList<>(foundFiles);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!listingAhead) {
+            listingAhead = true;
+            listAhead();
+        }
+        return !foundFiles.isEmpty() || findFile();
+    }
+
+    @Override
+    public File next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return foundFiles.remove();
+    }
+
+    /**
+     * Stops the threads listing directories.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Walks on until one more file is found, starting the walk if needed.
+     *
+     * @return {@code true} if a file was found
+     */
+    private boolean findFile() {
+        if (roots != null) {
+            startWalk();
+        }
+        boolean found = false;
+        while (!found && !walk.isEmpty()) {
+            final Iterator<Entry> entries = walk.peek();
+            if (entries.hasNext()) {
+                final Entry entry = entries.next();
+                if (entry.file == null) {
+                    enterDirectory(entry);
+                }
+                else if (fileFilter.test(entry.file)) {
+                    foundFiles.add(entry.file);
+                    found = true;
+                }
+            }
+            else {
+                walk.pop();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Adds the files and directories to search to the walk.
+     */
+    private void startWalk() {
+        final List<Entry> rootEntries = new ArrayList<>();
+        for (File root : roots) {
+            final Path path = root.toPath();
+            try {
+                addEntry(rootEntries, path, Files.readAttributes(path, BasicFileAttributes.class));
+            }
+            catch (IOException ignored) {
+                // a missing root has nothing to process
+            }
+        }
+        walk.push(rootEntries.iterator());
+        addUnlistedDirectories(rootEntries);
+        roots = null;
+    }
+
+    /**
+     * Continues the walk with the entries of a directory, listing it if it was not
+     * listed ahead, and lists the next directories ahead.
+     *
+     * @param directory the entry of the directory
+     */
+    private void enterDirectory(Entry directory) {
+        final List<Entry> entries;
+        if (directory.listing == null) {
+            // the next unlisted directory of the walk is first in line
+            unlistedDirectories.removeFirstOccurrence(directory);
+            entries = listDirectory(directory.directory);
+        }
+        else {
+            entries = getListing(directory.listing);
+            pendingListings--;
+        }
+        walk.push(entries.iterator());
+        addUnlistedDirectories(entries);
+        if (listingAhead) {
+            listAhead();
+        }
+    }
+
+    /**
+     * Queues the subdirectories of a directory that was entered. They are reached
+     * before the directories queued earlier, which are in outer directories.
+     *
+     * @param entries the entries of the directory
+     */
+    private void addUnlistedDirectories(List<Entry> entries) {
+        for (int index = entries.size() - 1; index >= 0; index--) {
+            final Entry entry = entries.get(index);
+            if (entry.file == null) {
+                unlistedDirectories.addFirst(entry);
+            }
+        }
+    }
+
+    /**
+     * Starts to list the next directories of the walk, as long as not too many
+     * directories are listed ahead.
+     */
+    private void listAhead() {
+        while (pendingListings < maxPendingListings && !unlistedDirectories.isEmpty()) {
+            final Entry entry = unlistedDirectories.remove();
+            entry.listing = executor.submit(() -> listDirectory(entry.directory));
+            pendingListings++;
+        }
+    }
+
+    /**
+     * Waits for the listing of a directory.
+     *
+     * @param listing the pending listing of the directory
+     * @return the entries of the directory
+     * @throws IllegalStateException if the walk was interrupted
+     */
+    private static List<Entry> getListing(Future<List<Entry>> listing) {
+        try {
+            return listing.get();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching files.", ex);
+        }
+        catch (ExecutionException ex) {
+            throw new IllegalStateException(SEARCH_ERROR_MESSAGE, ex.getCause());
+        }
+    }
+
+    /**
+     * Lists the entries of a directory.
+     *
+     * @param directory the directory
+     * @return the entries of the directory, in the order they were found
+     * @throws IllegalStateException if the directory can not be listed
+     */
+    private List<Entry> listDirectory(Path directory) {
+        final List<Entry> entries = new ArrayList<>();
+        try {
+            Files.walkFileTree(directory, WALK_OPTIONS, 1, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    addEntry(entries, file, attributes);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    // files that can not be read are skipped
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                    // the entries listed before an error are kept
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException(SEARCH_ERROR_MESSAGE, ex);
+        }
+        return entries;
+    }
+
+    /**
+     * Adds a file or a directory to the entries of its directory, if it is not
+     * excluded and readable.
+     *
+     * @param entries the entries of the directory
+     * @param path the path of the file or directory
+     * @param attributes the attributes of the file or directory
+     */
+    private void addEntry(List<Entry> entries, Path path, BasicFileAttributes attributes) {
+        if (!isPathExcluded(path.toAbsolutePath().toString()) && Files.isReadable(path)) {
+            if (attributes.isDirectory()) {
+                entries.add(new Entry(path));
+            }
+            else if (attributes.isRegularFile()) {
+                entries.add(new Entry(path.toFile()));
+            }
+        }
+    }
+
+    /**
+     * Checks if a directory/file {@code path} should be excluded based on if it matches one of the
+     * patterns supplied.
+     *
+     * @param path The path of the directory/file to check
+     * @return True if the directory/file matches one of the patterns.
+     */
+    private boolean isPathExcluded(String path) {
+        boolean result = false;
+
+        for (Pattern pattern : patternsToExclude) {
+            if (pattern.matcher(path).find()) {
+                result = true;
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * A file to supply, or a directory to walk.
+     */
+    private static final class Entry {
+
+        /** The file, {@code null} for a directory. */
+        private final File file;
+
+        /** The directory, {@code null} for a file. */
+        private final Path directory;
+
+        /** The listing of the directory, {@code null} until it is listed ahead. */
+        private Future<List<Entry>> listing;
+
+        /**
+         * Creates the entry of a file.
+         *
+         * @param file the file
+         */
+        private Entry(File file) {
+            this.file = file;
+            directory = null;
+        }
+
+        /**
+         * Creates the entry of a directory.
+         *
+         * @param directory the directory
+         */
+        private Entry(Path directory) {
+            file = null;
+            this.directory = directory;
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import com.puppycrawl.tools.checkstyle.api.FileTimings;
+
+/**
+ * Measures the phases of the processing of a file. Checker measures reading,
+ * processing and filtering; while FileSetChecks process the file, the timer is
+ * bound to the current thread so TreeWalker can report parsing and its filters.
+ * The time of processing, apart from what was reported, is the walk of checks.
+ */
+final class FileTimer {
+
+    /** The timer of the file processed by the current thread. */
+    private static final ThreadLocal<FileTimer> CURRENT = new ThreadLocal<>();
+
+    /** Time spent reading the file, in nanoseconds. */
+    private long readNanos;
+
+    /** Time spent by FileSetChecks, in nanoseconds. */
+    private long processNanos;
+
+    /** Time spent parsing the file, in nanoseconds. */
+    private long parseNanos;
+
+    /** Time spent by filters, in nanoseconds. */
+    private long filterNanos;
+
+    /** Time spent by filters while FileSetChecks process the file, in nanoseconds. */
+    private long processFilterNanos;
+
+    /** Start of the current processing, in nanoseconds. */
+    private long processStartNanos;
+
+    /**
+     * Adds the time of parsing to the file processed by the current thread, if any.
+     *
+     * @param startNanos the value of {@link System#nanoTime()} when parsing started
+     */
+    public static void addParseTimeOfCurrentFile(long startNanos) {
+        final FileTimer timer = CURRENT.get();
+        if (timer != null) {
+            timer.parseNanos += System.nanoTime() - startNanos;
+        }
+    }
+
+    /**
+     * Adds the time of filtering to the file processed by the current thread, if any.
+     *
+     * @param startNanos the value of {@link System#nanoTime()} when filtering started
+     */
+    public static void addFilterTimeOfCurrentFile(long startNanos) {
+        final FileTimer timer = CURRENT.get();
+        if (timer != null) {
+            final long nanos = System.nanoTime() - startNanos;
+            timer.filterNanos += nanos;
+            timer.processFilterNanos += nanos;
+        }
+    }
+
+    /**
+     * Adds the time of reading the file.
+     *
+     * @param startNanos the value of {@link System#nanoTime()} when reading started
+     */
+    public void addReadTime(long startNanos) {
+        readNanos += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Adds the time of filtering violations of the file.
+     *
+     * @param startNanos the value of {@link System#nanoTime()} when filtering started
+     */
+    public void addFilterTime(long startNanos) {
+        filterNanos += System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Starts the processing of the file by FileSetChecks on the current thread.
+     */
+    public void startProcessing() {
+        CURRENT.set(this);
+        processStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Ends the processing of the file by FileSetChecks on the current thread.
+     */
+    public void finishProcessing() {
+        processNanos += System.nanoTime() - processStartNanos;
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the time spent on the file so far.
+     *
+     * @return the time spent in each phase
+     */
+    public FileTimings getTimings() {
+        final long walkNanos = Math.max(0, processNanos - parseNanos - processFilterNanos);
+        return new FileTimings(readNanos, parseNanos, walkNanos, filterNanos);
+    }
+
+}
@@ -21,11 +21,13 @@ package com.puppycrawl.tools.checkstyle;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
 
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
@@ -34,6 +36,8 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
@@ -69,6 +73,12 @@ public final class JavaParser {
 
     }
 
+    /** Name of the resource with the source parsed to warm up the parser. */
+    private static final String WARM_UP_CORPUS = "grammar/java/JavaParserWarmUp.txt";
+
+    /** Policy deciding when the DFA shared by all parsers is cleared. */
+    private static final ParserDfaCache DFA_CACHE = new ParserDfaCache();
+
     /** Stop instances being created. **/
     private JavaParser() {
     }
@@ -90,15 +100,9 @@ public final class JavaParser {
         lexer.setContextCache(contextCache);
 
         final CommonTokenStream tokenStream = new CommonTokenStream(lexer);
-        final JavaLanguageParser parser =
-                new JavaLanguageParser(tokenStream, JavaLanguageParser.CLEAR_DFA_LIMIT);
-        parser.setErrorHandler(new CheckstyleParserErrorStrategy());
-        parser.removeErrorListeners();
-        parser.addErrorListener(new CheckstyleErrorListener());
-
         final JavaLanguageParser.CompilationUnitContext compilationUnit;
         try {
-            compilationUnit = parser.compilationUnit();
+            compilationUnit = parseCompilationUnit(tokenStream);
         }
         catch (IllegalStateException ex) {
             final String exceptionMsg = String.format(Locale.ROOT,
@@ -110,6 +114,42 @@ public final class JavaParser {
         return new JavaAstVisitor(tokenStream).visit(compilationUnit);
     }
 
+    /**
+     * Parses a compilation unit in two stages. The faster SLL prediction mode
+     * is tried first and bails out on the first error. Only when it fails, the
+     * tokens are parsed again with full LL prediction, which also reports syntax
+     * errors. SLL parses that succeed produce the same tree as LL parses.
+     *
+     * @param tokenStream the tokens to parse
+     * @return the parse tree of the compilation unit
+     * @throws IllegalStateException if the tokens are not a valid Java source
+     */
+    private static JavaLanguageParser.CompilationUnitContext parseCompilationUnit(
+            CommonTokenStream tokenStream) {
+        final JavaLanguageParser sllParser = new JavaLanguageParser(tokenStream);
+        sllParser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        sllParser.setErrorHandler(new BailErrorStrategy());
+        sllParser.removeErrorListeners();
+
+        JavaLanguageParser.CompilationUnitContext compilationUnit;
+        try {
+            compilationUnit = sllParser.compilationUnit();
+        }
+        catch (ParseCancellationException ignored) {
+            tokenStream.seek(0);
+            // a new parser, since the state kept by the grammar actions is not reset
+            final JavaLanguageParser parser = new JavaLanguageParser(tokenStream);
+            parser.setErrorHandler(new CheckstyleParserErrorStrategy());
+            parser.removeErrorListeners();
+            parser.addErrorListener(new CheckstyleErrorListener());
+            compilationUnit = parser.compilationUnit();
+        }
+        finally {
+            DFA_CACHE.fileParsed(sllParser.getInterpreter());
+        }
+        return compilationUnit;
+    }
+
     /**
      * Parse a text and return the parse tree.
      *
@@ -144,6 +184,25 @@ public final class JavaParser {
         return parseFileText(text, options);
     }
 
+    /**
+     * Parses a bundled source that uses most of the Java syntax, so that the
+     * prediction DFA shared by all parsers is already built when the first
+     * file is parsed.
+     *
+     * @throws CheckstyleException if the bundled source could not be read or parsed
+     */
+    public static void warmUp() throws CheckstyleException {
+        try (InputStream stream = JavaParser.class.getResourceAsStream(WARM_UP_CORPUS)) {
+            final String corpus = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+            final FileText text = new FileText(new File(WARM_UP_CORPUS),
+                    List.of(corpus.split("\n")));
+            parseFileText(text, Options.WITHOUT_COMMENTS);
+        }
+        catch (IOException ex) {
+            throw new CheckstyleException("Unable to read " + WARM_UP_CORPUS, ex);
+        }
+    }
+
     /**
      * Appends comment nodes to existing AST.
      * It traverses each node in AST, looks for hidden comment tokens
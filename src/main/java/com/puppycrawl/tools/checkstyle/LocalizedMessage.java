@@ -26,11 +26,15 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
 import java.util.ResourceBundle.Control;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.puppycrawl.tools.checkstyle.utils.UnmodifiableCollectionUtil;
 
@@ -41,6 +45,19 @@ import com.puppycrawl.tools.checkstyle.utils.UnmodifiableCollectionUtil;
  */
 public class LocalizedMessage {
 
+    /**
+     * Compiled message formats of each source class, keyed by bundle, locale and key.
+     * A {@code ClassValue} is used so the cache does not keep classes of custom
+     * modules from being unloaded.
+     */
+    private static final ClassValue<Map<List<Object>, MessageFormat>> FORMATS =
+        new ClassValue<>() {
+            @Override
+            protected Map<List<Object>, MessageFormat> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     /** The locale to localise messages to. **/
     private static Locale sLocale = Locale.getDefault();
 
@@ -105,25 +122,39 @@ public class LocalizedMessage {
      * @return the translated message.
      */
     public String getMessage() {
-        String result;
+        final Locale locale = sLocale;
+        final MessageFormat formatter = FORMATS.get(sourceClass)
+            .computeIfAbsent(Arrays.asList(bundle, locale, key),
+                ignored -> createFormat(locale));
+        // MessageFormat is not thread safe, the cached instance is shared
+        synchronized (formatter) {
+            return formatter.format(args);
+        }
+    }
+
+    /**
+     * Compiles the message format of the key for the given locale.
+     *
+     * @param locale the locale to localise the message to
+     * @return the compiled message format
+     */
+    private MessageFormat createFormat(Locale locale) {
+        String pattern;
         try {
             // Important to use the default class loader, and not the one in
             // the GlobalProperties object. This is because the class loader in
             // the GlobalProperties is specified by the user for resolving
             // custom classes.
-            final ResourceBundle resourceBundle = getBundle();
-            final String pattern = resourceBundle.getString(key);
-            final MessageFormat formatter = new MessageFormat(pattern, Locale.ROOT);
-            result = formatter.format(args);
+            final ResourceBundle resourceBundle = getBundle(locale);
+            pattern = resourceBundle.getString(key);
         }
         catch (final MissingResourceException ignored) {
             // If the Check author didn't provide i18n resource bundles
             // and logs audit event messages directly, this will return
             // the author's original message
-            final MessageFormat formatter = new MessageFormat(key, Locale.ROOT);
-            result = formatter.format(args);
+            pattern = key;
         }
-        return result;
+        return new MessageFormat(pattern, Locale.ROOT);
     }
 
     /**
@@ -131,10 +162,11 @@ public class LocalizedMessage {
      * of the class emitting this message, to be sure to get the correct
      * bundle.
      *
+     * @param locale the locale of the bundle
      * @return a ResourceBundle.
      */
-    private ResourceBundle getBundle() {
-        return ResourceBundle.getBundle(bundle, sLocale, sourceClass.getClassLoader(),
+    private ResourceBundle getBundle(Locale locale) {
+        return ResourceBundle.getBundle(bundle, locale, sourceClass.getClassLoader(),
                 new Utf8Control());
     }
 
@@ -23,10 +23,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -88,6 +88,9 @@ public final class Main {
     /** Exit code returned when execution finishes with {@link CheckstyleException}. */
     private static final int EXIT_WITH_CHECKSTYLE_EXCEPTION_CODE = -2;
 
+    /** The number of files the validation of the command line needs. */
+    private static final int FILES_TO_VALIDATE = 2;
+
     /**
      * Client code should not create instances of this class, but use
      * {@link #main(String[])} method instead.
@@ -183,95 +186,30 @@ public final class Main {
 
         final int exitStatus;
 
-        // return error if something is wrong in arguments
-        final List<File> filesToProcess = getFilesToProcess(options);
-        final List<String> messages = options.validateCli(parseResult, filesToProcess);
-        final boolean hasMessages = !messages.isEmpty();
-        if (hasMessages) {
-            messages.forEach(System.out::println);
-            exitStatus = EXIT_WITH_INVALID_USER_INPUT_CODE;
-        }
-        else {
-            exitStatus = runCli(options, filesToProcess);
-        }
-        return exitStatus;
-    }
-
-    /**
-     * Determines the files to process.
-     *
-     * @param options the user-specified options
-     * @return list of files to process
-     */
-    private static List<File> getFilesToProcess(CliOptions options) {
-        final List<Pattern> patternsToExclude = options.getExclusions();
-
-        final List<File> result = new LinkedList<>();
-        for (File file : options.files) {
-            result.addAll(listFiles(file, patternsToExclude));
-        }
-        return result;
-    }
-
-    /**
-     * Traverses a specified node looking for files to check. Found files are added to
-     * a specified list. Subdirectories are also traversed.
-     *
-     * @param node
-     *        the node to process
-     * @param patternsToExclude The list of patterns to exclude from searching or being added as
-     *        files.
-     * @return found files
-     */
-    private static List<File> listFiles(File node, List<Pattern> patternsToExclude) {
-        // could be replaced with org.apache.commons.io.FileUtils.list() method
-        // if only we add commons-io library
-        final List<File> result = new LinkedList<>();
-
-        if (node.canRead() && !isPathExcluded(node.getAbsolutePath(), patternsToExclude)) {
-            if (node.isDirectory()) {
-                final File[] files = node.listFiles();
-                // listFiles() can return null, so we need to check it
-                if (files != null) {
-                    for (File element : files) {
-                        result.addAll(listFiles(element, patternsToExclude));
-                    }
-                }
+        try (FileDiscovery discovery = new FileDiscovery(options.files,
+                options.getExclusions(), Runtime.getRuntime().availableProcessors())) {
+            // return error if something is wrong in arguments
+            // only as many files as the validation needs are searched for now
+            final List<File> firstFiles = discovery.getFirstFiles(FILES_TO_VALIDATE);
+            final List<String> messages = options.validateCli(parseResult, firstFiles);
+            final boolean hasMessages = !messages.isEmpty();
+            if (hasMessages) {
+                messages.forEach(System.out::println);
+                exitStatus = EXIT_WITH_INVALID_USER_INPUT_CODE;
             }
-            else if (node.isFile()) {
-                result.add(node);
-            }
-        }
-        return result;
-    }
-
-    /**
-     * Checks if a directory/file {@code path} should be excluded based on if it matches one of the
-     * patterns supplied.
-     *
-     * @param path The path of the directory/file to check
-     * @param patternsToExclude The collection of patterns to exclude from searching
-     *        or being added as files.
-     * @return True if the directory/file matches one of the patterns.
-     */
-    private static boolean isPathExcluded(String path, Iterable<Pattern> patternsToExclude) {
-        boolean result = false;
-
-        for (Pattern pattern : patternsToExclude) {
-            if (pattern.matcher(path).find()) {
-                result = true;
-                break;
+            else {
+                exitStatus = runCli(options, firstFiles, discovery);
             }
         }
-
-        return result;
+        return exitStatus;
     }
 
     /**
      * Do execution of CheckStyle based on Command line options.
      *
      * @param options user-specified options
-     * @param filesToProcess the list of files whose style to check
+     * @param filesToProcess the first files whose style to check, all that printing needs
+     * @param discovery the search of the files whose style to check, starting with the first
      * @return number of violations
      * @throws IOException if a file could not be read.
      * @throws CheckstyleException if something happens processing the files.
@@ -279,8 +217,8 @@ public final class Main {
      * @noinspectionreason UseOfSystemOutOrSystemErr - driver class for Checkstyle requires
      *      usage of System.out and System.err
      */
-    private static int runCli(CliOptions options, List<File> filesToProcess)
-            throws IOException, CheckstyleException {
+    private static int runCli(CliOptions options, List<File> filesToProcess,
+            FileDiscovery discovery) throws IOException, CheckstyleException {
         int result = 0;
         final boolean hasSuppressionLineColumnNumber = options.suppressionLineColumnNumber != null;
 
@@ -321,38 +259,48 @@ public final class Main {
         }
         else {
             if (options.debug) {
-                final Logger parentLogger = Logger.getLogger(Main.class.getName()).getParent();
-                final ConsoleHandler handler = new ConsoleHandler();
-                handler.setLevel(Level.FINEST);
-                handler.setFilter(new OnlyCheckstyleLoggersFilter());
-                parentLogger.addHandler(handler);
-                parentLogger.setLevel(Level.FINEST);
+                enableDebugLogging();
             }
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Checkstyle debug logging enabled");
                 LOG.debug("Running Checkstyle with version: "
                         + Main.class.getPackage().getImplementationVersion());
             }
+            if (options.warmUpParser) {
+                JavaParser.warmUp();
+            }
 
             // run Checker
-            result = runCheckstyle(options, filesToProcess);
+            result = runCheckstyle(options, discovery);
         }
 
         return result;
     }
 
+    /**
+     * Sends all log records of Checkstyle loggers to the console.
+     */
+    private static void enableDebugLogging() {
+        final Logger parentLogger = Logger.getLogger(Main.class.getName()).getParent();
+        final ConsoleHandler handler = new ConsoleHandler();
+        handler.setLevel(Level.FINEST);
+        handler.setFilter(new OnlyCheckstyleLoggersFilter());
+        parentLogger.addHandler(handler);
+        parentLogger.setLevel(Level.FINEST);
+    }
+
     /**
      * Executes required Checkstyle actions based on passed parameters.
      *
      * @param options user-specified options
-     * @param filesToProcess the list of files whose style to check
+     * @param discovery the search of the files whose style to check
      * @return number of violations of ERROR level
      * @throws IOException
      *         when output file could not be found
      * @throws CheckstyleException
      *         when properties file could not be loaded
      */
-    private static int runCheckstyle(CliOptions options, List<File> filesToProcess)
+    private static int runCheckstyle(CliOptions options, FileDiscovery discovery)
             throws CheckstyleException, IOException {
         // setup the properties
         final Properties props;
@@ -366,8 +314,8 @@ public final class Main {
 
         // create a configuration
         final ThreadModeSettings multiThreadModeSettings =
-                new ThreadModeSettings(CliOptions.CHECKER_THREADS_NUMBER,
-                        CliOptions.TREE_WALKER_THREADS_NUMBER);
+                new ThreadModeSettings(options.checkerThreadsNumber,
+                        options.treeWalkerThreadsNumber);
 
         final ConfigurationLoader.IgnoredModulesOptions ignoredModulesOptions;
         if (options.executeIgnoredModules) {
@@ -387,32 +335,27 @@ public final class Main {
         final RootModule rootModule = getRootModule(config.getName(), moduleClassLoader);
 
         try {
-            final AuditListener listener;
-            if (options.generateXpathSuppressionsFile) {
-                // create filter to print generated xpath suppressions file
-                final Configuration treeWalkerConfig = getTreeWalkerConfig(config);
-                if (treeWalkerConfig != null) {
-                    final DefaultConfiguration moduleConfig =
-                            new DefaultConfiguration(
-                                    XpathFileGeneratorAstFilter.class.getName());
-                    moduleConfig.addProperty(CliOptions.ATTRIB_TAB_WIDTH_NAME,
-                            String.valueOf(options.tabWidth));
-                    ((DefaultConfiguration) treeWalkerConfig).addChild(moduleConfig);
-                }
+            final AuditListener listener = createAuditListener(options, config);
 
-                listener = new XpathFileGeneratorAuditListener(getOutputStream(options.outputPath),
-                        getOutputStreamOptions(options.outputPath));
-            }
-            else {
-                listener = createListener(options.format, options.outputPath);
+            ModuleProfiler profiler = null;
+            if (options.profileFile != null && rootModule instanceof Checker) {
+                profiler = new ModuleProfiler();
+                ((Checker) rootModule).setProfiler(profiler);
             }
 
             rootModule.setModuleClassLoader(moduleClassLoader);
             rootModule.configure(config);
             rootModule.addListener(listener);
+            if (options.slowFilesCount > 0) {
+                addSlowFilesListener(rootModule, options.slowFilesCount);
+            }
 
             // run RootModule
-            errorCounter = rootModule.process(filesToProcess);
+            errorCounter = process(rootModule, discovery);
+
+            if (profiler != null) {
+                writeProfile(profiler, options.profileFile);
+            }
         }
         finally {
             rootModule.destroy();
@@ -421,6 +364,96 @@ public final class Main {
         return errorCounter;
     }
 
+    /**
+     * Creates the listener requested by the user. When a suppressions file is to be
+     * generated, the filter that collects the suppressions is added to the configuration.
+     *
+     * @param options user-specified options
+     * @param config the configuration of the root module
+     * @return the listener of the audit
+     * @throws IOException when output file could not be found
+     */
+    private static AuditListener createAuditListener(CliOptions options, Configuration config)
+            throws IOException {
+        final AuditListener listener;
+        if (options.generateXpathSuppressionsFile) {
+            // create filter to print generated xpath suppressions file
+            final Configuration treeWalkerConfig = getTreeWalkerConfig(config);
+            if (treeWalkerConfig != null) {
+                final DefaultConfiguration moduleConfig =
+                        new DefaultConfiguration(
+                                XpathFileGeneratorAstFilter.class.getName());
+                moduleConfig.addProperty(CliOptions.ATTRIB_TAB_WIDTH_NAME,
+                        String.valueOf(options.tabWidth));
+                ((DefaultConfiguration) treeWalkerConfig).addChild(moduleConfig);
+            }
+
+            listener = new XpathFileGeneratorAuditListener(getOutputStream(options.outputPath),
+                    getOutputStreamOptions(options.outputPath));
+        }
+        else {
+            listener = createListener(options.format, options.outputPath);
+        }
+        return listener;
+    }
+
+    /**
+     * Processes the files specified by the user with a root module. A {@link Checker}
+     * processes files while they are being searched for, and the files it would skip
+     * are dropped during the rest of the search.
+     *
+     * @param rootModule the configured root module
+     * @param discovery the search of the files whose style to check
+     * @return number of violations of ERROR level
+     * @throws CheckstyleException if something happens processing the files.
+     */
+    private static int process(RootModule rootModule, FileDiscovery discovery)
+            throws CheckstyleException {
+        final int errorCounter;
+        if (rootModule instanceof Checker) {
+            final Checker checker = (Checker) rootModule;
+            discovery.setFileFilter(checker::isFileAccepted);
+            errorCounter = checker.process(discovery);
+        }
+        else {
+            final List<File> files = new ArrayList<>();
+            discovery.forEachRemaining(files::add);
+            errorCounter = rootModule.process(files);
+        }
+        return errorCounter;
+    }
+
+    /**
+     * Adds a listener reporting the slowest files to the standard error stream.
+     *
+     * @param rootModule the root module to add the listener to
+     * @param slowFilesCount the number of files to report
+     * @noinspection UseOfSystemOutOrSystemErr
+     * @noinspectionreason UseOfSystemOutOrSystemErr - the standard output stream
+     *      might be used by the report
+     */
+    private static void addSlowFilesListener(RootModule rootModule, int slowFilesCount) {
+        rootModule.addListener(new SlowFilesAuditListener(System.err,
+                OutputStreamOptions.NONE, slowFilesCount));
+    }
+
+    /**
+     * Prints the summary of a profiler to the standard error stream and writes its
+     * measurements as JSON to a file.
+     *
+     * @param profiler the profiler
+     * @param profileFile the file to write the measurements to
+     * @throws IOException if the file could not be written
+     * @noinspection UseOfSystemOutOrSystemErr
+     * @noinspectionreason UseOfSystemOutOrSystemErr - the standard output stream
+     *      might be used by the report
+     */
+    private static void writeProfile(ModuleProfiler profiler, Path profileFile)
+            throws IOException {
+        System.err.print(profiler.getSummary());
+        Files.writeString(profileFile, profiler.toJson(), StandardCharsets.UTF_8);
+    }
+
     /**
      * Loads properties from a File.
      *
@@ -643,19 +676,6 @@ public final class Main {
         /** Option name for output format. */
         private static final String OUTPUT_FORMAT_OPTION = "-f";
 
-        /**
-         * The checker threads number.
-         * This option has been skipped for CLI options intentionally.
-         *
-         */
-        private static final int CHECKER_THREADS_NUMBER = DEFAULT_THREAD_COUNT;
-
-        /**
-         * The tree walker threads number.
-         *
-         */
-        private static final int TREE_WALKER_THREADS_NUMBER = DEFAULT_THREAD_COUNT;
-
         /** List of file to validate. */
         @Parameters(arity = "1..*", description = "One or more source files to verify")
         private List<File> files;
@@ -781,11 +801,58 @@ public final class Main {
                         + "excludes are allowed.")
         private List<Pattern> excludeRegex = new ArrayList<>();
 
+        /**
+         * The checker threads number.
+         *
+         * @noinspection CanBeFinal
+         * @noinspectionreason CanBeFinal - we use picocli, and it uses
+         *      reflection to manage such fields
+         */
+        @Option(names = {"-C", "--checker-threads-number"},
+                description = "The number of Checker threads (must be greater than zero).")
+        private int checkerThreadsNumber = DEFAULT_THREAD_COUNT;
+
+        /**
+         * The tree walker threads number.
+         *
+         * @noinspection CanBeFinal
+         * @noinspectionreason CanBeFinal - we use picocli, and it uses
+         *      reflection to manage such fields
+         */
+        @Option(names = {"-W", "--tree-walker-threads-number"},
+                description = "The number of TreeWalker threads (must be greater than zero).")
+        private int treeWalkerThreadsNumber = DEFAULT_THREAD_COUNT;
+
         /** Switch whether to execute ignored modules or not. */
         @Option(names = {"-E", "--executeIgnoredModules"},
                 description = "Allows ignored modules to be run.")
         private boolean executeIgnoredModules;
 
+        /** Option that controls whether to warm up the parser before checking files. */
+        @Option(names = {"-u", "--warm-up-parser"},
+                description = "Warms up the Java parser before checking files.")
+        private boolean warmUpParser;
+
+        /** The file the measurements of the profiler are written to. */
+        @Option(names = {"-P", "--profile"},
+                description = "Measures time, calls and allocated memory of every module. "
+                        + "Prints a summary sorted by time to the standard error stream and "
+                        + "writes all measurements as JSON to the file.")
+        private Path profileFile;
+
+        /**
+         * The number of the slowest files to report.
+         *
+         * @noinspection CanBeFinal
+         * @noinspectionreason CanBeFinal - we use picocli, and it uses
+         *      reflection to manage such fields
+         */
+        @Option(names = {"-S", "--slow-files"},
+                description = "Prints the given number of slowest files with the time spent "
+                        + "reading, parsing, walking and filtering each of them to the standard "
+                        + "error stream.")
+        private int slowFilesCount;
+
         /** Show AST branches that match xpath. */
         @Option(names = {"-b", "--branch-matching-xpath"},
             description = "Shows Abstract Syntax Tree(AST) branches that match given XPath query.")
@@ -873,6 +940,15 @@ public final class Main {
                 result.add(String.format(Locale.ROOT,
                         "Could not find file '%s'.", propertiesFile));
             }
+            if (checkerThreadsNumber < 1) {
+                result.add("Checker threads number must be greater than zero");
+            }
+            if (treeWalkerThreadsNumber < 1) {
+                result.add("TreeWalker threads number must be greater than zero");
+            }
+            if (slowFilesCount < 0) {
+                result.add("Slow files count must not be negative");
+            }
             return result;
         }
     }
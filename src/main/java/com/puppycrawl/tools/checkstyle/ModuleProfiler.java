@@ -0,0 +1,414 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the time, the number of invocations and the memory allocated by modules.
+ *
+ * <p>Profiling is opt-in: {@link Checker} and {@link TreeWalker} measure their
+ * modules only when a profiler was set. Measurements of modules of the same class
+ * are summed, whatever thread ran them. The time of a {@link TreeWalker} includes
+ * the parsing of files and its checks, which are also reported separately.</p>
+ *
+ * <p>Allocated memory is measured only when the JVM supports measuring the memory
+ * allocated by a thread, see {@link #isAllocationMeasured()}.</p>
+ *
+ * <p>A measurement is taken with
+ * </p>
+ * <pre>
+ * final long startBytes = profiler.getAllocatedBytes();
+ * final long startNanos = System.nanoTime();
+ * check.visitToken(ast);
+ * profiler.addSample(check.getClass(), ModuleProfiler.Phase.VISIT_TOKEN, startNanos, startBytes);
+ * </pre>
+ */
+public final class ModuleProfiler {
+
+    /** Format of a line of the summary table. */
+    private static final String SUMMARY_FORMAT = "%-70s %-11s %12s %12s %15s%n";
+
+    /** Number of nanoseconds in a millisecond. */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** Number of bytes in a kilobyte. */
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    /** The first character that is not a control character in JSON. */
+    private static final char FIRST_PLAIN_CHAR = ' ';
+
+    /** Format of an escaped control character in JSON. */
+    private static final String UNICODE_ESCAPE_FORMAT = "\\u%04X";
+
+    /** Measurements of every phase, by module class name. */
+    private final ConcurrentMap<String, Measurement[]> measurements = new ConcurrentHashMap<>();
+
+    /** The bean measuring the memory allocated by threads, {@code null} if unsupported. */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * Creates a new profiler. Enables the measurement of the memory allocated by
+     * threads, when the JVM supports it.
+     */
+    public ModuleProfiler() {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean bean = null;
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            bean = (com.sun.management.ThreadMXBean) threadBean;
+            if (bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            else {
+                bean = null;
+            }
+        }
+        allocationBean = bean;
+    }
+
+    /**
+     * Checks whether the memory allocated by modules is measured.
+     *
+     * @return true if the JVM supports measuring the memory allocated by a thread
+     */
+    public boolean isAllocationMeasured() {
+        return allocationBean != null;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, to start
+     * a measurement.
+     *
+     * @return the allocated bytes, always 0 if allocation is not measured
+     */
+    public long getAllocatedBytes() {
+        long result = 0;
+        if (allocationBean != null) {
+            result = allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return result;
+    }
+
+    /**
+     * Ends a measurement and adds it to the measurements of a module. Time and
+     * memory are read before anything else, so the bookkeeping of the profiler
+     * is not measured.
+     *
+     * @param moduleClass the class of the measured module
+     * @param phase the measured phase
+     * @param startNanos the value of {@link System#nanoTime()} at the start
+     * @param startBytes the value of {@link #getAllocatedBytes()} at the start
+     */
+    public void addSample(Class<?> moduleClass, Phase phase, long startNanos, long startBytes) {
+        final long nanos = System.nanoTime() - startNanos;
+        final long bytes = getAllocatedBytes() - startBytes;
+        Measurement[] moduleMeasurements = measurements.get(moduleClass.getName());
+        if (moduleMeasurements == null) {
+            moduleMeasurements = measurements.computeIfAbsent(moduleClass.getName(),
+                    name -> createMeasurements());
+        }
+        moduleMeasurements[phase.ordinal()].add(nanos, bytes);
+    }
+
+    /**
+     * Returns a table of all measurements, sorted by time, the slowest first.
+     *
+     * @return the summary table
+     */
+    public String getSummary() {
+        final StringBuilder summary = new StringBuilder(256);
+        summary.append(String.format(Locale.ROOT, SUMMARY_FORMAT,
+                "Module", "Phase", "Calls", "Time, ms", "Allocated, KB"));
+        for (Entry entry : getEntries()) {
+            final String allocated;
+            if (allocationBean == null) {
+                allocated = "-";
+            }
+            else {
+                allocated = String.valueOf(entry.getAllocatedBytes() / BYTES_PER_KILOBYTE);
+            }
+            summary.append(String.format(Locale.ROOT, SUMMARY_FORMAT,
+                    entry.getModuleName(), entry.getPhase().getName(),
+                    entry.getCalls(),
+                    String.format(Locale.ROOT, "%.1f", entry.getNanos() / NANOS_PER_MILLI),
+                    allocated));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Returns all measurements as a JSON document, sorted like the summary table.
+     * Allocated bytes are left out if allocation is not measured.
+     *
+     * @return the JSON document
+     */
+    public String toJson() {
+        final StringBuilder json = new StringBuilder(256);
+        json.append("{\n  \"allocationMeasured\": ").append(isAllocationMeasured())
+                .append(",\n  \"measurements\": [");
+        String separator = "\n";
+        for (Entry entry : getEntries()) {
+            json.append(separator)
+                    .append("    {\"module\": \"")
+                    .append(escapeJson(entry.getModuleName()))
+                    .append("\", \"phase\": \"").append(entry.getPhase().getName())
+                    .append("\", \"calls\": ").append(entry.getCalls())
+                    .append(", \"timeNanos\": ").append(entry.getNanos());
+            if (allocationBean != null) {
+                json.append(", \"allocatedBytes\": ").append(entry.getAllocatedBytes());
+            }
+            json.append('}');
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+        return json.toString();
+    }
+
+    /**
+     * Escapes quotes, backslashes and control characters of a JSON string value.
+     *
+     * @param value the value to escape
+     * @return the escaped value
+     */
+    private static String escapeJson(String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (int index = 0; index < value.length(); index++) {
+            final char chr = value.charAt(index);
+            if (chr == '"' || chr == '\\') {
+                escaped.append('\\').append(chr);
+            }
+            else if (chr < FIRST_PLAIN_CHAR) {
+                escaped.append(String.format(Locale.ROOT, UNICODE_ESCAPE_FORMAT, (int) chr));
+            }
+            else {
+                escaped.append(chr);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Returns the measured phases of all modules, the slowest first.
+     *
+     * @return the measurements
+     */
+    public List<Entry> getEntries() {
+        final List<Entry> entries = new ArrayList<>();
+        measurements.forEach((moduleName, moduleMeasurements) -> {
+            for (Phase phase : Phase.values()) {
+                final Measurement measurement = moduleMeasurements[phase.ordinal()];
+                final long calls = measurement.calls.sum();
+                if (calls > 0) {
+                    entries.add(new Entry(moduleName, phase, calls,
+                            measurement.nanos.sum(), measurement.bytes.sum()));
+                }
+            }
+        });
+        entries.sort(Comparator.comparingLong(Entry::getNanos).reversed()
+                .thenComparing(Entry::getModuleName)
+                .thenComparing(Entry::getPhase));
+        return entries;
+    }
+
+    /**
+     * Creates empty measurements for every phase of a module.
+     *
+     * @return the measurements indexed by phase ordinal
+     */
+    private static Measurement[] createMeasurements() {
+        final Phase[] phases = Phase.values();
+        final Measurement[] result = new Measurement[phases.length];
+        for (Phase phase : phases) {
+            result[phase.ordinal()] = new Measurement();
+        }
+        return result;
+    }
+
+    /**
+     * A measured part of the life cycle of a module.
+     */
+    public enum Phase {
+
+        /** Parsing of a file or of a Javadoc comment, before checks walk its tree. */
+        PARSE("parse"),
+
+        /** {@code AbstractCheck.beginTree} and {@code AbstractJavadocCheck.beginJavadocTree}. */
+        BEGIN_TREE("beginTree"),
+
+        /** {@code AbstractCheck.visitToken} and {@code AbstractJavadocCheck.visitJavadocToken}. */
+        VISIT_TOKEN("visitToken"),
+
+        /** {@code AbstractCheck.leaveToken} and {@code AbstractJavadocCheck.leaveJavadocToken}. */
+        LEAVE_TOKEN("leaveToken"),
+
+        /** {@code AbstractCheck.finishTree} and {@code AbstractJavadocCheck.finishJavadocTree}. */
+        FINISH_TREE("finishTree"),
+
+        /** {@code FileSetCheck.process}. */
+        PROCESS("process"),
+
+        /** {@code Filter.accept} and {@code TreeWalkerFilter.accept}. */
+        ACCEPT("accept");
+
+        /** The name of the phase in reports. */
+        private final String name;
+
+        /**
+         * Creates a new phase.
+         *
+         * @param name the name of the phase in reports
+         */
+        Phase(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the phase in reports.
+         *
+         * @return the name of the phase
+         */
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    /**
+     * The measurements of a phase of a module.
+     */
+    public static final class Entry {
+
+        /** The class name of the module. */
+        private final String moduleName;
+
+        /** The measured phase. */
+        private final Phase phase;
+
+        /** The number of invocations. */
+        private final long calls;
+
+        /** The cumulative wall time in nanoseconds. */
+        private final long nanos;
+
+        /** The cumulative allocated bytes. */
+        private final long allocatedBytes;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param moduleName the class name of the module
+         * @param phase the measured phase
+         * @param calls the number of invocations
+         * @param nanos the cumulative wall time in nanoseconds
+         * @param allocatedBytes the cumulative allocated bytes
+         */
+        private Entry(String moduleName, Phase phase, long calls, long nanos,
+                long allocatedBytes) {
+            this.moduleName = moduleName;
+            this.phase = phase;
+            this.calls = calls;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Returns the class name of the module.
+         *
+         * @return the class name of the module
+         */
+        public String getModuleName() {
+            return moduleName;
+        }
+
+        /**
+         * Returns the measured phase.
+         *
+         * @return the measured phase
+         */
+        public Phase getPhase() {
+            return phase;
+        }
+
+        /**
+         * Returns the number of invocations.
+         *
+         * @return the number of invocations
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        /**
+         * Returns the cumulative wall time.
+         *
+         * @return the cumulative wall time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the cumulative allocated memory.
+         *
+         * @return the cumulative allocated bytes, 0 if allocation is not measured
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+    }
+
+    /**
+     * Cumulative measurements of a phase of a module, updated by many threads.
+     */
+    private static final class Measurement {
+
+        /** The number of invocations. */
+        private final LongAdder calls = new LongAdder();
+
+        /** The cumulative wall time in nanoseconds. */
+        private final LongAdder nanos = new LongAdder();
+
+        /** The cumulative allocated bytes. */
+        private final LongAdder bytes = new LongAdder();
+
+        /**
+         * Adds an invocation.
+         *
+         * @param elapsedNanos the wall time of the invocation
+         * @param allocatedBytes the memory allocated by the invocation
+         */
+        private void add(long elapsedNanos, long allocatedBytes) {
+            calls.increment();
+            nanos.add(elapsedNanos);
+            bytes.add(allocatedBytes);
+        }
+
+    }
+
+}
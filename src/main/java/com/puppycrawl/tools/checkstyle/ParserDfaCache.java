@@ -0,0 +1,168 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.lang.ref.SoftReference;
+
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Policy that keeps the prediction DFA learned by a parser across files and
+ * clears it only when it grows too large or the heap runs low.
+ *
+ * <p>The DFA is shared by all instances of a generated parser and makes
+ * parsing faster the more files were parsed, so it is not cleared at fixed
+ * intervals. Its size is checked every few files against a limit derived from
+ * the maximum heap size, and a softly reachable sentinel signals heap
+ * pressure, since the garbage collector clears it before running out of memory.
+ * Sizes and clear events are reported through debug logging.</p>
+ */
+final class ParserDfaCache {
+
+    /** Estimated heap size of a DFA state with its configurations, in bytes. */
+    private static final long ESTIMATED_STATE_SIZE = 2048;
+
+    /** Divisor of the maximum heap size that gives the heap size the DFA may use. */
+    private static final long HEAP_FRACTION_DIVISOR = 4;
+
+    /** Lowest limit of DFA states, for small heaps. */
+    private static final long MIN_MAX_STATES = 10_000;
+
+    /** The number of files parsed between two checks of the DFA size. */
+    private static final int DEFAULT_CHECK_INTERVAL = 50;
+
+    /** The number of checks between two debug reports of the DFA size. */
+    private static final int REPORT_INTERVAL = 20;
+
+    /** Logger for the DFA size and clear events. */
+    private static final Log LOG = LogFactory.getLog(ParserDfaCache.class);
+
+    /** The number of DFA states above which the DFA is cleared. */
+    private final long maxStates;
+
+    /** The number of files parsed between two checks of the DFA size. */
+    private final int checkInterval;
+
+    /** The number of files parsed since the DFA was last checked. */
+    private int filesSinceCheck;
+
+    /** The number of checks since the DFA size was last reported. */
+    private int checksSinceReport;
+
+    /** The number of files parsed since the DFA was last cleared. */
+    private long filesSinceClear;
+
+    /** Sentinel that the garbage collector clears when the heap runs low. */
+    private SoftReference<Object> heapPressureSentinel = new SoftReference<>(new Object());
+
+    /**
+     * Creates a policy with limits derived from the maximum heap size.
+     */
+    /* package */ ParserDfaCache() {
+        this(Math.max(MIN_MAX_STATES, Runtime.getRuntime().maxMemory()
+                / HEAP_FRACTION_DIVISOR / ESTIMATED_STATE_SIZE), DEFAULT_CHECK_INTERVAL);
+    }
+
+    /**
+     * Creates a policy with the given limits.
+     *
+     * @param maxStates the number of DFA states above which the DFA is cleared
+     * @param checkInterval the number of files parsed between two checks of the DFA size
+     */
+    /* package */ ParserDfaCache(long maxStates, int checkInterval) {
+        this.maxStates = maxStates;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Notifies the policy that a file was parsed, clearing the DFA if needed.
+     *
+     * @param interpreter the interpreter of the parser that parsed the file
+     */
+    /* package */ synchronized void fileParsed(ParserATNSimulator interpreter) {
+        filesSinceClear++;
+        filesSinceCheck++;
+        if (filesSinceCheck >= checkInterval) {
+            filesSinceCheck = 0;
+            final long states = countStates(interpreter);
+            if (heapPressureSentinel.get() == null) {
+                clear(interpreter, states, "heap pressure");
+                heapPressureSentinel = new SoftReference<>(new Object());
+            }
+            else if (states > maxStates) {
+                clear(interpreter, states, "limit of " + maxStates + " states");
+            }
+            else {
+                report(states);
+            }
+        }
+    }
+
+    /**
+     * Clears the DFA.
+     *
+     * @param interpreter the interpreter of the parser
+     * @param states the number of DFA states
+     * @param reason the reason to log
+     */
+    private void clear(ParserATNSimulator interpreter, long states, String reason) {
+        interpreter.clearDFA();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared parser DFA of " + states + " states after "
+                    + filesSinceClear + " files because of " + reason);
+        }
+        filesSinceClear = 0;
+        checksSinceReport = 0;
+    }
+
+    /**
+     * Reports the size of the DFA every few checks.
+     *
+     * @param states the number of DFA states
+     */
+    private void report(long states) {
+        checksSinceReport++;
+        if (checksSinceReport >= REPORT_INTERVAL) {
+            checksSinceReport = 0;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Parser DFA has " + states + " states, "
+                        + filesSinceClear + " files since last clear");
+            }
+        }
+    }
+
+    /**
+     * Counts the states of the DFA of a parser.
+     *
+     * @param interpreter the interpreter of the parser
+     * @return the number of states
+     */
+    /* package */ static long countStates(ParserATNSimulator interpreter) {
+        long result = 0;
+        for (DFA dfa : interpreter.decisionToDFA) {
+            result += dfa.states.size();
+        }
+        return result;
+    }
+
+}
@@ -32,14 +32,21 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 import com.puppycrawl.tools.checkstyle.utils.OsSpecificUtil;
 
@@ -53,6 +60,16 @@ import com.puppycrawl.tools.checkstyle.utils.OsSpecificUtil;
  * cache file to ensure the cache is invalidated when the
  * configuration has changed.
  *
+ * <p>
+ * In content hash mode files are keyed by the name passed by the caller
+ * (usually relative to the base directory) and by a digest of their content,
+ * so the cache survives fresh checkouts. The entries are stored in a compact
+ * binary file, see {@link BinaryCacheFile}, of which only the entries that are
+ * asked for are decoded. The file is only written again when an entry changed.
+ * Files that have violations are kept in the cache together with their violations,
+ * so the violations can be reported again without checking the file.
+ * </p>
+ *
  */
 public final class PropertyCacheFile {
 
@@ -78,21 +95,39 @@ public final class PropertyCacheFile {
     /** Default buffer for reading from streams. */
     private static final byte[] BUFFER = new byte[BUFFER_SIZE];
 
+    /** Message of the exception thrown when a hashcode can not be calculated. */
+    private static final String HASHCODE_ERROR_MESSAGE = "Unable to calculate hashcode.";
+
     /** Default number for base 16 encoding. */
     private static final int BASE_16 = 16;
 
-    /** The details on files. **/
+    /** Separates the state of a file from its encoded violations. */
+    private static final char VIOLATIONS_SEPARATOR = ':';
+
+    /**
+     * The details on files. In content hash mode holds only the entries
+     * changed since the binary cache file was loaded.
+     **/
     private final Properties details = new Properties();
 
+    /** Keys removed since the binary cache file was loaded. */
+    private final Set<String> removedKeys = ConcurrentHashMap.newKeySet();
+
     /** Configuration object. **/
     private final Configuration config;
 
     /** File name of cache. **/
     private final String fileName;
 
+    /** Whether files are identified by their content instead of their timestamp. **/
+    private final boolean contentHashing;
+
     /** Generated configuration hash. **/
     private String configHash;
 
+    /** The loaded binary cache file, {@code null} if there is none. */
+    private BinaryCacheFile storedEntries;
+
     /**
      * Creates a new {@code PropertyCacheFile} instance.
      *
@@ -101,6 +136,19 @@ public final class PropertyCacheFile {
      * @throws IllegalArgumentException when either arguments are null
      */
     public PropertyCacheFile(Configuration config, String fileName) {
+        this(config, fileName, false);
+    }
+
+    /**
+     * Creates a new {@code PropertyCacheFile} instance.
+     *
+     * @param config the current configuration, not null
+     * @param fileName the cache file
+     * @param contentHashing whether files are identified by a digest of their content
+     *     and stored in the binary format
+     * @throws IllegalArgumentException when either arguments are null
+     */
+    public PropertyCacheFile(Configuration config, String fileName, boolean contentHashing) {
         if (config == null) {
             throw new IllegalArgumentException("config can not be null");
         }
@@ -109,6 +157,16 @@ public final class PropertyCacheFile {
         }
         this.config = config;
         this.fileName = fileName;
+        this.contentHashing = contentHashing;
+    }
+
+    /**
+     * Checks whether files are identified by a digest of their content.
+     *
+     * @return true if the cache is in content hash mode
+     */
+    public boolean isContentHashing() {
+        return contentHashing;
     }
 
     /**
@@ -121,7 +179,10 @@ public final class PropertyCacheFile {
         // the first time the hash will be added to output file
         configHash = getHashCodeBasedOnObjectContent(config);
         final Path path = Path.of(fileName);
-        if (Files.exists(path)) {
+        if (contentHashing) {
+            loadBinary(path);
+        }
+        else if (Files.exists(path)) {
             try (InputStream inStream = Files.newInputStream(path)) {
                 details.load(inStream);
                 final String cachedConfigHash = details.getProperty(CONFIG_HASH_KEY);
@@ -137,6 +198,26 @@ public final class PropertyCacheFile {
         }
     }
 
+    /**
+     * Loads the binary cache file. A file that is not in the binary format
+     * or is damaged is treated as an empty cache.
+     *
+     * @param path the cache file
+     * @throws IOException when there is a problems with file read
+     */
+    private void loadBinary(Path path) throws IOException {
+        reset();
+        final BinaryCacheFile binaryCacheFile = BinaryCacheFile.load(path);
+        if (binaryCacheFile != null) {
+            storedEntries = binaryCacheFile;
+            details.clear();
+            if (!configHash.equals(getDetail(CONFIG_HASH_KEY))) {
+                // Detected configuration change - clear cache
+                reset();
+            }
+        }
+    }
+
     /**
      * Cleans up the object and updates the cache file.
      *
@@ -149,8 +230,30 @@ public final class PropertyCacheFile {
         if (directory != null) {
             OsSpecificUtil.updateDirectory(directory);
         }
-        try (OutputStream out = Files.newOutputStream(path)) {
-            details.store(out, null);
+        if (contentHashing) {
+            persistBinary(path);
+        }
+        else {
+            try (OutputStream out = Files.newOutputStream(path)) {
+                details.store(out, null);
+            }
+        }
+    }
+
+    /**
+     * Writes the changed entries together with the loaded entries that are still
+     * valid in the binary format. Nothing is written when no entry changed.
+     *
+     * @param path the cache file
+     * @throws IOException when there is a problems with file save
+     */
+    private void persistBinary(Path path) throws IOException {
+        if (!details.isEmpty() || !removedKeys.isEmpty()) {
+            final Map<String, String> changed = new HashMap<>();
+            for (String key : details.stringPropertyNames()) {
+                changed.put(key, details.getProperty(key));
+            }
+            BinaryCacheFile.write(path, storedEntries, changed, removedKeys);
         }
     }
 
@@ -158,6 +261,8 @@ public final class PropertyCacheFile {
      * Resets the cache to be empty except for the configuration hash.
      */
     public void reset() {
+        storedEntries = null;
+        removedKeys.clear();
         details.clear();
         details.setProperty(CONFIG_HASH_KEY, configHash);
     }
@@ -170,8 +275,20 @@ public final class PropertyCacheFile {
      * @return whether the specified file has already been checked ok
      */
     public boolean isInCache(String uncheckedFileName, long timestamp) {
-        final String lastChecked = details.getProperty(uncheckedFileName);
-        return Objects.equals(lastChecked, Long.toString(timestamp));
+        return isInCache(uncheckedFileName, Long.toString(timestamp));
+    }
+
+    /**
+     * Checks that file is in cache.
+     *
+     * @param uncheckedFileName the file to check
+     * @param state the timestamp or the content hash of the file to check,
+     *     {@code null} if it is unknown
+     * @return whether the specified file has already been checked ok
+     */
+    public boolean isInCache(String uncheckedFileName, String state) {
+        final String cached = getDetail(uncheckedFileName);
+        return state != null && cached != null && Objects.equals(getState(cached), state);
     }
 
     /**
@@ -181,7 +298,111 @@ public final class PropertyCacheFile {
      * @param timestamp the timestamp of the file
      */
     public void put(String checkedFileName, long timestamp) {
-        details.setProperty(checkedFileName, Long.toString(timestamp));
+        put(checkedFileName, Long.toString(timestamp));
+    }
+
+    /**
+     * Records that a file checked ok. A file with unknown state is removed from the cache.
+     *
+     * @param checkedFileName name of the file that checked ok
+     * @param state the timestamp or the content hash of the file, {@code null} if it is unknown
+     */
+    public void put(String checkedFileName, String state) {
+        if (state == null) {
+            remove(checkedFileName);
+        }
+        else {
+            setDetail(checkedFileName, state);
+        }
+    }
+
+    /**
+     * Records the violations of a file that is in cache. In content hash mode the violations
+     * are stored with the file, otherwise a file with violations is removed from the cache.
+     *
+     * @param checkedFileName name of the file
+     * @param violations the violations reported for the file
+     */
+    public void putViolations(String checkedFileName, Collection<Violation> violations) {
+        final String cached = getDetail(checkedFileName);
+        if (cached != null && contentHashing) {
+            setDetail(checkedFileName,
+                    getState(cached) + VIOLATIONS_SEPARATOR
+                            + BinaryCacheFile.encodeViolations(violations));
+        }
+        else if (!violations.isEmpty()) {
+            remove(checkedFileName);
+        }
+    }
+
+    /**
+     * Retrieves the violations stored with a file in content hash mode.
+     *
+     * @param checkedFileName name of the file
+     * @param classLoader the class loader to load the sources of the violations
+     * @return the stored violations in the order they were reported, an empty list if
+     *     the file checked ok or {@code null} if the file is not in cache or its violations
+     *     can not be restored
+     */
+    public List<Violation> getViolations(String checkedFileName, ClassLoader classLoader) {
+        List<Violation> result = null;
+        final String cached = getDetail(checkedFileName);
+        if (cached != null) {
+            final int separatorIndex = cached.indexOf(VIOLATIONS_SEPARATOR);
+            if (separatorIndex == -1) {
+                result = new ArrayList<>();
+            }
+            else {
+                try {
+                    result = BinaryCacheFile.decodeViolations(
+                            cached.substring(separatorIndex + 1), classLoader);
+                }
+                catch (IOException | ClassNotFoundException | IllegalArgumentException ignored) {
+                    // the sources of violations changed, the file has to be checked again
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Extracts the state of a file from a cached value.
+     *
+     * @param cached the cached value
+     * @return the state of the file
+     */
+    private static String getState(String cached) {
+        final String result;
+        final int separatorIndex = cached.indexOf(VIOLATIONS_SEPARATOR);
+        if (separatorIndex == -1) {
+            result = cached;
+        }
+        else {
+            result = cached.substring(0, separatorIndex);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the digest of the content of a file, which is the state of the file
+     * in content hash mode. The raw bytes of the file are digested as they are read.
+     *
+     * @param file the file
+     * @return the digest of the content
+     * @throws IOException when the file can not be read
+     * @throws IllegalStateException when some unexpected happened
+     */
+    public static String getContentHash(Path file) throws IOException {
+        final MessageDigest digest = createDigest();
+        try (InputStream input = Files.newInputStream(file)) {
+            final byte[] chunk = new byte[BUFFER_SIZE];
+            int length = input.read(chunk);
+            while (length != -1) {
+                digest.update(chunk, 0, length);
+                length = input.read(chunk);
+            }
+        }
+        return toHexString(digest);
     }
 
     /**
@@ -191,7 +412,7 @@ public final class PropertyCacheFile {
      * @return The has of the file or {@code null}.
      */
     public String get(String name) {
-        return details.getProperty(name);
+        return getDetail(name);
     }
 
     /**
@@ -201,6 +422,37 @@ public final class PropertyCacheFile {
      */
     public void remove(String checkedFileName) {
         details.remove(checkedFileName);
+        if (storedEntries != null) {
+            removedKeys.add(checkedFileName);
+        }
+    }
+
+    /**
+     * Retrieves a value from the changed entries or, if it was not changed,
+     * from the loaded binary cache file.
+     *
+     * @param key the key of the value
+     * @return the value or {@code null}
+     */
+    private String getDetail(String key) {
+        String result = details.getProperty(key);
+        if (result == null && storedEntries != null && !removedKeys.contains(key)) {
+            result = storedEntries.get(key);
+        }
+        return result;
+    }
+
+    /**
+     * Stores a value, unless the same value is already stored.
+     *
+     * @param key the key of the value
+     * @param value the value
+     */
+    private void setDetail(String key, String value) {
+        if (!value.equals(getDetail(key))) {
+            details.setProperty(key, value);
+            removedKeys.remove(key);
+        }
     }
 
     /**
@@ -219,17 +471,43 @@ public final class PropertyCacheFile {
             // use a message digest here to keep the length of the
             // hashcode reasonable
 
-            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            final MessageDigest digest = createDigest();
             digest.update(outputStream.toByteArray());
 
-            return new BigInteger(1, digest.digest()).toString(BASE_16).toUpperCase(Locale.ROOT);
+            return toHexString(digest);
         }
-        catch (final IOException | NoSuchAlgorithmException ex) {
+        catch (final IOException ex) {
             // rethrow as unchecked exception
-            throw new IllegalStateException("Unable to calculate hashcode.", ex);
+            throw new IllegalStateException(HASHCODE_ERROR_MESSAGE, ex);
         }
     }
 
+    /**
+     * Creates the message digest the hashcodes are calculated with.
+     *
+     * @return the message digest.
+     * @throws IllegalStateException when the digest algorithm is not available.
+     */
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        }
+        catch (final NoSuchAlgorithmException ex) {
+            // rethrow as unchecked exception
+            throw new IllegalStateException(HASHCODE_ERROR_MESSAGE, ex);
+        }
+    }
+
+    /**
+     * Encodes the digest of a message digest as an upper case hexadecimal string.
+     *
+     * @param digest the message digest.
+     * @return the encoded digest.
+     */
+    private static String toHexString(MessageDigest digest) {
+        return new BigInteger(1, digest.digest()).toString(BASE_16).toUpperCase(Locale.ROOT);
+    }
+
     /**
      * Serializes object to output stream.
      *
@@ -345,7 +623,7 @@ public final class PropertyCacheFile {
         boolean changed = false;
         if (isResourceLocationInCache(resource.location)) {
             final String contentHashSum = resource.contentHashSum;
-            final String cachedHashSum = details.getProperty(resource.location);
+            final String cachedHashSum = getDetail(resource.location);
             if (!cachedHashSum.equals(contentHashSum)) {
                 changed = true;
             }
@@ -364,7 +642,7 @@ public final class PropertyCacheFile {
      */
     private void fillCacheWithExternalResources(Set<ExternalResource> externalResources) {
         externalResources
-            .forEach(resource -> details.setProperty(resource.location, resource.contentHashSum));
+            .forEach(resource -> setDetail(resource.location, resource.contentHashSum));
     }
 
     /**
@@ -374,7 +652,7 @@ public final class PropertyCacheFile {
      * @return true if resource location is in cache.
      */
     private boolean isResourceLocationInCache(String location) {
-        final String cachedHashSum = details.getProperty(location);
+        final String cachedHashSum = getDetail(location);
         return cachedHashSum != null;
     }
 
@@ -19,6 +19,7 @@
 
 package com.puppycrawl.tools.checkstyle;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,8 +29,14 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import com.puppycrawl.tools.checkstyle.api.AuditEvent;
 import com.puppycrawl.tools.checkstyle.api.AuditListener;
@@ -51,23 +58,23 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
     /** Input stream buffer size. */
     private static final int BUFFER_SIZE = 1024;
 
-    /** The placeholder for message. */
-    private static final String MESSAGE_PLACEHOLDER = "${message}";
+    /** Size of the buffer of the writer, in characters. */
+    private static final int WRITER_BUFFER_SIZE = 64 * 1024;
 
-    /** The placeholder for severity level. */
-    private static final String SEVERITY_LEVEL_PLACEHOLDER = "${severityLevel}";
+    /** The first character that never needs to be escaped. */
+    private static final char FIRST_PLAIN_CHAR = '\u0080';
 
-    /** The placeholder for uri. */
-    private static final String URI_PLACEHOLDER = "${uri}";
+    /** Escaped form of characters below {@link #FIRST_PLAIN_CHAR}, null if kept as is. */
+    private static final String[] ESCAPES = createEscapes();
 
-    /** The placeholder for line. */
-    private static final String LINE_PLACEHOLDER = "${line}";
+    /** The pattern of placeholders in templates. */
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{\\w++}");
 
-    /** The placeholder for column. */
-    private static final String COLUMN_PLACEHOLDER = "${column}";
-
-    /** The placeholder for rule id. */
-    private static final String RULE_ID_PLACEHOLDER = "${ruleId}";
+    /** The placeholders of results, by their text in templates. */
+    private static final Map<String, Placeholder> PLACEHOLDERS = Arrays.stream(
+            Placeholder.values())
+        .collect(Collectors.toUnmodifiableMap(placeholder -> placeholder.text,
+            Function.identity()));
 
     /** The placeholder for version. */
     private static final String VERSION_PLACEHOLDER = "${version}";
@@ -75,29 +82,38 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
     /** The placeholder for results. */
     private static final String RESULTS_PLACEHOLDER = "${results}";
 
+    /** The separator of results. */
+    private static final String RESULTS_SEPARATOR = ",\n";
+
     /** Helper writer that allows easy encoding and printing. */
     private final PrintWriter writer;
 
     /** Close output stream in auditFinished. */
     private final boolean closeStream;
 
-    /** The results. */
-    private final List<String> results = new ArrayList<>();
+    /** Content of the report before results. */
+    private final String reportHeader;
 
-    /** Content for the entire report. */
-    private final String report;
+    /** Content of the report after results. */
+    private final String reportFooter;
 
     /** Content for result representing an error with source line and column. */
-    private final String resultLineColumn;
+    private final Template resultLineColumn;
 
     /** Content for result representing an error with source line only. */
-    private final String resultLineOnly;
+    private final Template resultLineOnly;
 
     /** Content for result representing an error with filename only and without source location. */
-    private final String resultFileOnly;
+    private final Template resultFileOnly;
 
     /** Content for result representing an error without filename or location. */
-    private final String resultErrorOnly;
+    private final Template resultErrorOnly;
+
+    /** Whether the report header was written. */
+    private boolean headerWritten;
+
+    /** Whether a result was written. */
+    private boolean resultWritten;
 
     /**
      * Creates a new {@code SarifLogger} instance.
@@ -113,17 +129,22 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
         if (outputStreamOptions == null) {
             throw new IllegalArgumentException("Parameter outputStreamOptions can not be null");
         }
-        writer = new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE));
         closeStream = outputStreamOptions == OutputStreamOptions.CLOSE;
-        report = readResource("/com/puppycrawl/tools/checkstyle/sarif/SarifReport.template");
-        resultLineColumn =
-            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultLineColumn.template");
-        resultLineOnly =
-            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultLineOnly.template");
-        resultFileOnly =
-            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultFileOnly.template");
-        resultErrorOnly =
-            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultErrorOnly.template");
+        final String report =
+            readResource("/com/puppycrawl/tools/checkstyle/sarif/SarifReport.template");
+        final int resultsIndex = report.indexOf(RESULTS_PLACEHOLDER);
+        reportHeader = report.substring(0, resultsIndex);
+        reportFooter = report.substring(resultsIndex + RESULTS_PLACEHOLDER.length());
+        resultLineColumn = new Template(
+            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultLineColumn.template"));
+        resultLineOnly = new Template(
+            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultLineOnly.template"));
+        resultFileOnly = new Template(
+            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultFileOnly.template"));
+        resultErrorOnly = new Template(
+            readResource("/com/puppycrawl/tools/checkstyle/sarif/ResultErrorOnly.template"));
     }
 
     @Override
@@ -133,16 +154,13 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
 
     @Override
     public void auditStarted(AuditEvent event) {
-        // No code by default
+        writeHeader();
     }
 
     @Override
     public void auditFinished(AuditEvent event) {
-        final String version = SarifLogger.class.getPackage().getImplementationVersion();
-        final String rendered = report
-            .replace(VERSION_PLACEHOLDER, String.valueOf(version))
-            .replace(RESULTS_PLACEHOLDER, String.join(",\n", results));
-        writer.print(rendered);
+        writeHeader();
+        writer.print(reportFooter);
         if (closeStream) {
             writer.close();
         }
@@ -154,23 +172,10 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
     @Override
     public void addError(AuditEvent event) {
         if (event.getColumn() > 0) {
-            results.add(resultLineColumn
-                .replace(SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()))
-                .replace(URI_PLACEHOLDER, event.getFileName())
-                .replace(COLUMN_PLACEHOLDER, Integer.toString(event.getColumn()))
-                .replace(LINE_PLACEHOLDER, Integer.toString(event.getLine()))
-                .replace(MESSAGE_PLACEHOLDER, escape(event.getMessage()))
-                .replace(RULE_ID_PLACEHOLDER, event.getViolation().getKey())
-            );
+            writeResult(resultLineColumn, event, event.getMessage());
         }
         else {
-            results.add(resultLineOnly
-                .replace(SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()))
-                .replace(URI_PLACEHOLDER, event.getFileName())
-                .replace(LINE_PLACEHOLDER, Integer.toString(event.getLine()))
-                .replace(MESSAGE_PLACEHOLDER, escape(event.getMessage()))
-                .replace(RULE_ID_PLACEHOLDER, event.getViolation().getKey())
-            );
+            writeResult(resultLineOnly, event, event.getMessage());
         }
     }
 
@@ -180,17 +185,10 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
         final PrintWriter printer = new PrintWriter(stringWriter);
         throwable.printStackTrace(printer);
         if (event.getFileName() == null) {
-            results.add(resultErrorOnly
-                .replace(SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()))
-                .replace(MESSAGE_PLACEHOLDER, escape(stringWriter.toString()))
-            );
+            writeResult(resultErrorOnly, event, stringWriter.toString());
         }
         else {
-            results.add(resultFileOnly
-                .replace(SEVERITY_LEVEL_PLACEHOLDER, renderSeverityLevel(event.getSeverityLevel()))
-                .replace(URI_PLACEHOLDER, event.getFileName())
-                .replace(MESSAGE_PLACEHOLDER, escape(stringWriter.toString()))
-            );
+            writeResult(resultFileOnly, event, stringWriter.toString());
         }
     }
 
@@ -204,6 +202,69 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
         // No need to implement this method in this class
     }
 
+    /**
+     * Writes the report up to its results, if it was not written yet.
+     */
+    private void writeHeader() {
+        if (!headerWritten) {
+            final String version = SarifLogger.class.getPackage().getImplementationVersion();
+            writer.print(reportHeader.replace(VERSION_PLACEHOLDER, String.valueOf(version)));
+            headerWritten = true;
+        }
+    }
+
+    /**
+     * Writes a result, so the report is a valid JSON document once the footer is written.
+     *
+     * @param template the template of the result
+     * @param event the event of the result
+     * @param message the message of the result, not escaped
+     */
+    private void writeResult(Template template, AuditEvent event, String message) {
+        writeHeader();
+        if (resultWritten) {
+            writer.print(RESULTS_SEPARATOR);
+        }
+        resultWritten = true;
+        final int placeholderCount = template.placeholders.length;
+        for (int index = 0; index < placeholderCount; index++) {
+            writer.print(template.literals[index]);
+            writeValue(template.placeholders[index], event, message);
+        }
+        writer.print(template.literals[placeholderCount]);
+    }
+
+    /**
+     * Writes the value of a placeholder of a result.
+     *
+     * @param placeholder the placeholder
+     * @param event the event of the result
+     * @param message the message of the result, not escaped
+     */
+    private void writeValue(Placeholder placeholder, AuditEvent event, String message) {
+        switch (placeholder) {
+            case SEVERITY_LEVEL:
+                writer.print(renderSeverityLevel(event.getSeverityLevel()));
+                break;
+            case URI:
+                writer.print(event.getFileName());
+                break;
+            case LINE:
+                writer.print(event.getLine());
+                break;
+            case COLUMN:
+                writer.print(event.getColumn());
+                break;
+            case MESSAGE:
+                writeEscaped(writer, message);
+                break;
+            case RULE_ID:
+            default:
+                writer.print(event.getViolation().getKey());
+                break;
+        }
+    }
+
     /**
      * Render the severity level into SARIF severity level.
      *
@@ -238,46 +299,52 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
      * @return the escaped value if necessary.
      */
     public static String escape(String value) {
+        final StringWriter result = new StringWriter(value.length());
+        writeEscaped(new PrintWriter(result), value);
+        return result.toString();
+    }
+
+    /**
+     * Writes a value with \b, \f, \n, \r, \t, \", \\ and U+0000 through U+001F escaped.
+     * Runs of characters that need no escaping are written without copying them.
+     *
+     * @param out the writer to write to.
+     * @param value the value to escape.
+     */
+    private static void writeEscaped(PrintWriter out, String value) {
         final int length = value.length();
-        final StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            final char chr = value.charAt(i);
-            switch (chr) {
-                case '"':
-                    sb.append("\\\"");
-                    break;
-                case '\\':
-                    sb.append("\\\\");
-                    break;
-                case '\b':
-                    sb.append("\\b");
-                    break;
-                case '\f':
-                    sb.append("\\f");
-                    break;
-                case '\n':
-                    sb.append("\\n");
-                    break;
-                case '\r':
-                    sb.append("\\r");
-                    break;
-                case '\t':
-                    sb.append("\\t");
-                    break;
-                case '/':
-                    sb.append("\\/");
-                    break;
-                default:
-                    if (chr <= UNICODE_ESCAPE_UPPER_LIMIT) {
-                        sb.append(escapeUnicode1F(chr));
-                    }
-                    else {
-                        sb.append(chr);
-                    }
-                    break;
+        int start = 0;
+        for (int index = 0; index < length; index++) {
+            final char chr = value.charAt(index);
+            if (chr < FIRST_PLAIN_CHAR && ESCAPES[chr] != null) {
+                out.write(value, start, index - start);
+                out.write(ESCAPES[chr]);
+                start = index + 1;
             }
         }
-        return sb.toString();
+        out.write(value, start, length - start);
+    }
+
+    /**
+     * Creates the table of escaped characters.
+     *
+     * @return the escaped form of characters below {@link #FIRST_PLAIN_CHAR},
+     *     null for characters kept as is.
+     */
+    private static String[] createEscapes() {
+        final String[] escapes = new String[FIRST_PLAIN_CHAR];
+        for (char chr = 0; chr <= UNICODE_ESCAPE_UPPER_LIMIT; chr++) {
+            escapes[chr] = escapeUnicode1F(chr);
+        }
+        escapes['"'] = "\\\"";
+        escapes['\\'] = "\\\\";
+        escapes['\b'] = "\\b";
+        escapes['\f'] = "\\f";
+        escapes['\n'] = "\\n";
+        escapes['\r'] = "\\r";
+        escapes['\t'] = "\\t";
+        escapes['/'] = "\\/";
+        return escapes;
     }
 
     /**
@@ -315,4 +382,76 @@ public class SarifLogger extends AbstractAutomaticBean implements AuditListener
             return result.toString(StandardCharsets.UTF_8);
         }
     }
+
+    /**
+     * A value of a result template.
+     */
+    private enum Placeholder {
+
+        /** The severity level. */
+        SEVERITY_LEVEL("${severityLevel}"),
+
+        /** The file name. */
+        URI("${uri}"),
+
+        /** The line. */
+        LINE("${line}"),
+
+        /** The column. */
+        COLUMN("${column}"),
+
+        /** The message, escaped. */
+        MESSAGE("${message}"),
+
+        /** The rule id. */
+        RULE_ID("${ruleId}");
+
+        /** The text of the placeholder in templates. */
+        private final String text;
+
+        /**
+         * Creates a new placeholder.
+         *
+         * @param text the text of the placeholder in templates
+         */
+        Placeholder(String text) {
+            this.text = text;
+        }
+
+    }
+
+    /**
+     * A result template split at its placeholders, so results are written
+     * without building them in memory.
+     */
+    private static final class Template {
+
+        /** The literal text around placeholders, one more than placeholders. */
+        private final String[] literals;
+
+        /** The placeholders, in the order of the template. */
+        private final Placeholder[] placeholders;
+
+        /**
+         * Splits a template at its placeholders.
+         *
+         * @param content the content of the template, with known placeholders only
+         */
+        private Template(String content) {
+            final List<String> literalList = new ArrayList<>();
+            final List<Placeholder> placeholderList = new ArrayList<>();
+            final Matcher matcher = PLACEHOLDER_PATTERN.matcher(content);
+            int start = 0;
+            while (matcher.find()) {
+                literalList.add(content.substring(start, matcher.start()));
+                placeholderList.add(PLACEHOLDERS.get(matcher.group()));
+                start = matcher.end();
+            }
+            literalList.add(content.substring(start));
+            literals = literalList.toArray(String[]::new);
+            placeholders = placeholderList.toArray(new Placeholder[0]);
+        }
+
+    }
+
 }
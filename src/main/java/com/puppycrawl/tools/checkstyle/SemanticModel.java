@@ -0,0 +1,355 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.utils.CheckUtil;
+import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
+
+/**
+ * Scopes and declarations of a Java file, for checks that need to know the
+ * declarations of the whole file before the regular walk reaches them.
+ *
+ * <p>The model is computed with a single walk of the tree the first time a check
+ * of the current thread requests it for a tree, and later requests for the same
+ * tree reuse it. {@link TreeWalker} releases the model when the file is done.</p>
+ *
+ * <p>A scope is created for each type declaration, anonymous class, enum constant
+ * with a body, method, constructor, lambda, block, {@code for} loop, {@code catch}
+ * clause and {@code try} with resources. Each declaration belongs to the innermost
+ * scope containing it.</p>
+ */
+public final class SemanticModel {
+
+    /** Tokens that always open a scope. */
+    private static final BitSet SCOPE_TOKENS = TokenUtil.asBitSet(
+        TokenTypes.CLASS_DEF,
+        TokenTypes.INTERFACE_DEF,
+        TokenTypes.ENUM_DEF,
+        TokenTypes.ANNOTATION_DEF,
+        TokenTypes.RECORD_DEF,
+        TokenTypes.METHOD_DEF,
+        TokenTypes.CTOR_DEF,
+        TokenTypes.COMPACT_CTOR_DEF,
+        TokenTypes.LAMBDA,
+        TokenTypes.SLIST,
+        TokenTypes.LITERAL_FOR,
+        TokenTypes.LITERAL_CATCH
+    );
+
+    /** The model of the tree processed last by the current thread. */
+    private static final ThreadLocal<SemanticModel> SHARED_MODEL = new ThreadLocal<>();
+
+    /** The root of the tree. */
+    private final DetailAST root;
+
+    /** The scope of the whole file. */
+    private final DeclarationScope fileScope;
+
+    /** The scopes of the file by the AST opening them. */
+    private final Map<DetailAST, DeclarationScope> scopes = new HashMap<>();
+
+    /**
+     * Creates the model of a tree.
+     *
+     * @param root the root of the tree
+     */
+    private SemanticModel(DetailAST root) {
+        this.root = root;
+        fileScope = new DeclarationScope(root, null, false);
+        collect();
+    }
+
+    /**
+     * Returns the model of the tree, shared by all checks of the current thread.
+     *
+     * @param rootAst the root of the tree
+     * @return the model of the tree
+     */
+    public static SemanticModel of(DetailAST rootAst) {
+        SemanticModel model = SHARED_MODEL.get();
+        if (model == null || model.root != rootAst) {
+            model = new SemanticModel(rootAst);
+            SHARED_MODEL.set(model);
+        }
+        return model;
+    }
+
+    /**
+     * Drops the model shared on the current thread. Must be called when the tree
+     * is no longer processed.
+     */
+    public static void release() {
+        SHARED_MODEL.remove();
+    }
+
+    /**
+     * Returns the scope of the whole file, which contains all other scopes.
+     *
+     * @return the scope of the file
+     */
+    public DeclarationScope getFileScope() {
+        return fileScope;
+    }
+
+    /**
+     * Returns the scope opened by the given AST.
+     *
+     * @param ast the AST opening the scope
+     * @return the scope, or {@code null} if the AST does not open a scope
+     */
+    public DeclarationScope getScope(DetailAST ast) {
+        return scopes.get(ast);
+    }
+
+    /**
+     * Walks the tree once and collects its scopes and declarations.
+     */
+    private void collect() {
+        final Deque<DeclarationScope> scopeStack = new ArrayDeque<>();
+        scopeStack.push(fileScope);
+        DetailAST curNode = root;
+        while (curNode != null) {
+            enter(scopeStack, curNode);
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                leave(scopeStack, curNode);
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+    }
+
+    /**
+     * Collects the declaration of an AST and opens the scope of the AST.
+     *
+     * @param scopeStack the scopes containing the AST
+     * @param ast the AST to collect
+     */
+    private void enter(Deque<DeclarationScope> scopeStack, DetailAST ast) {
+        final DeclarationScope scope = scopeStack.peek();
+        switch (ast.getType()) {
+            case TokenTypes.VARIABLE_DEF:
+                if (scope.isTypeScope()) {
+                    scope.fields.add(ast);
+                }
+                else {
+                    scope.locals.add(ast);
+                }
+                break;
+            case TokenTypes.ENUM_CONSTANT_DEF:
+            case TokenTypes.RECORD_COMPONENT_DEF:
+                scope.fields.add(ast);
+                break;
+            case TokenTypes.PARAMETER_DEF:
+                if (!CheckUtil.isReceiverParameter(ast)) {
+                    scope.parameters.add(ast);
+                }
+                break;
+            case TokenTypes.IDENT:
+                // the body of a lambda is never a bare identifier
+                if (TokenUtil.isOfType(ast.getParent(), TokenTypes.LAMBDA)) {
+                    scope.parameters.add(ast);
+                }
+                break;
+            case TokenTypes.PATTERN_VARIABLE_DEF:
+                scope.locals.add(ast);
+                break;
+            case TokenTypes.RESOURCE:
+                if (ast.findFirstToken(TokenTypes.ASSIGN) != null) {
+                    scope.locals.add(ast);
+                }
+                break;
+            default:
+                break;
+        }
+        if (isScopeStart(ast)) {
+            final DeclarationScope child = new DeclarationScope(ast, scope, isTypeBody(ast));
+            scope.children.add(child);
+            scopes.put(ast, child);
+            scopeStack.push(child);
+        }
+    }
+
+    /**
+     * Closes the scope of an AST whose subtree was collected.
+     *
+     * @param scopeStack the scopes containing the AST
+     * @param ast the AST whose subtree was collected
+     */
+    private static void leave(Deque<DeclarationScope> scopeStack, DetailAST ast) {
+        if (isScopeStart(ast)) {
+            scopeStack.pop();
+        }
+    }
+
+    /**
+     * Checks whether the AST opens a scope.
+     *
+     * @param ast the AST to check
+     * @return true if the AST opens a scope
+     */
+    private static boolean isScopeStart(DetailAST ast) {
+        final int type = ast.getType();
+        return SCOPE_TOKENS.get(type)
+            || type == TokenTypes.LITERAL_TRY
+                && ast.getFirstChild().getType() == TokenTypes.RESOURCE_SPECIFICATION
+            || isTypeBody(ast);
+    }
+
+    /**
+     * Checks whether the AST opens a scope whose variables are fields.
+     *
+     * @param ast the AST to check
+     * @return true for type declarations, anonymous classes and enum constants with a body
+     */
+    private static boolean isTypeBody(DetailAST ast) {
+        final int type = ast.getType();
+        final boolean result;
+        if (type == TokenTypes.LITERAL_NEW || type == TokenTypes.ENUM_CONSTANT_DEF) {
+            final DetailAST lastChild = ast.getLastChild();
+            result = lastChild != null && lastChild.getType() == TokenTypes.OBJBLOCK;
+        }
+        else {
+            result = TokenUtil.isTypeDeclaration(type);
+        }
+        return result;
+    }
+
+    /**
+     * A scope of the file and the declarations directly contained in it.
+     */
+    public static final class DeclarationScope {
+
+        /** The AST opening the scope. */
+        private final DetailAST ast;
+
+        /** The enclosing scope, {@code null} for the scope of the file. */
+        private final DeclarationScope parent;
+
+        /** Whether variables declared in the scope are fields. */
+        private final boolean typeScope;
+
+        /** The scopes directly contained in this scope. */
+        private final List<DeclarationScope> children = new ArrayList<>();
+
+        /** The field, enum constant and record component declarations. */
+        private final List<DetailAST> fields = new ArrayList<>();
+
+        /** The parameter declarations. */
+        private final List<DetailAST> parameters = new ArrayList<>();
+
+        /** The local variable, resource and pattern variable declarations. */
+        private final List<DetailAST> locals = new ArrayList<>();
+
+        /**
+         * Creates a new scope.
+         *
+         * @param ast the AST opening the scope
+         * @param parent the enclosing scope
+         * @param typeScope whether variables declared in the scope are fields
+         */
+        private DeclarationScope(DetailAST ast, DeclarationScope parent, boolean typeScope) {
+            this.ast = ast;
+            this.parent = parent;
+            this.typeScope = typeScope;
+        }
+
+        /**
+         * Returns the AST opening the scope.
+         *
+         * @return the AST opening the scope, the root of the tree for the scope of the file
+         */
+        public DetailAST getAst() {
+            return ast;
+        }
+
+        /**
+         * Returns the enclosing scope.
+         *
+         * @return the enclosing scope, {@code null} for the scope of the file
+         */
+        public DeclarationScope getParent() {
+            return parent;
+        }
+
+        /**
+         * Checks whether the scope is the body of a type, whose variables are fields.
+         *
+         * @return true for type declarations, anonymous classes and enum constants with a body
+         */
+        public boolean isTypeScope() {
+            return typeScope;
+        }
+
+        /**
+         * Returns the scopes directly contained in this scope.
+         *
+         * @return the nested scopes in the order of the file
+         */
+        public List<DeclarationScope> getChildren() {
+            return Collections.unmodifiableList(children);
+        }
+
+        /**
+         * Returns the fields declared in the scope.
+         *
+         * @return the {@code VARIABLE_DEF}, {@code ENUM_CONSTANT_DEF} and
+         *     {@code RECORD_COMPONENT_DEF} ASTs in the order of the file
+         */
+        public List<DetailAST> getFields() {
+            return Collections.unmodifiableList(fields);
+        }
+
+        /**
+         * Returns the parameters declared by the scope. Receiver parameters are
+         * not declarations and are left out.
+         *
+         * @return the {@code PARAMETER_DEF} ASTs, or the {@code IDENT} of the
+         *     parameter of a lambda without parentheses
+         */
+        public List<DetailAST> getParameters() {
+            return Collections.unmodifiableList(parameters);
+        }
+
+        /**
+         * Returns the local variables declared in the scope.
+         *
+         * @return the {@code VARIABLE_DEF}, {@code RESOURCE} and
+         *     {@code PATTERN_VARIABLE_DEF} ASTs in the order of the file
+         */
+        public List<DetailAST> getLocals() {
+            return Collections.unmodifiableList(locals);
+        }
+
+    }
+
+}
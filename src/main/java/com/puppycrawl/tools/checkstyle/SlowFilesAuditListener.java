@@ -0,0 +1,200 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.FileTimings;
+
+/**
+ * Reports the slowest files of an audit, with the time spent reading, parsing,
+ * walking and filtering each of them. The report is printed when the audit finishes.
+ * Only files with {@link AuditEvent#getTimings() timings} are taken into account.
+ */
+public class SlowFilesAuditListener
+        extends AbstractAutomaticBean
+        implements AuditListener {
+
+    /** Format of a line of the report. */
+    private static final String REPORT_FORMAT = "%10s %10s %10s %10s %10s  %s%n";
+
+    /** Format of a time in the report. */
+    private static final String TIME_FORMAT = "%.1f";
+
+    /** Number of nanoseconds in a millisecond. */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /** Orders files by total time, the fastest first. */
+    private static final Comparator<SlowFile> BY_TOTAL_TIME =
+            Comparator.comparingLong(SlowFile::getTotalNanos)
+                    .thenComparing(SlowFile::getFileName, Comparator.reverseOrder());
+
+    /** Helper writer that allows easy encoding and printing. */
+    private final PrintWriter writer;
+
+    /** Close output stream in auditFinished. */
+    private final boolean closeStream;
+
+    /** The maximum number of reported files. */
+    private final int limit;
+
+    /** The slowest files so far, the fastest of them at the head. */
+    private final PriorityQueue<SlowFile> slowestFiles = new PriorityQueue<>(BY_TOTAL_TIME);
+
+    /**
+     * Creates a new {@code SlowFilesAuditListener} instance.
+     *
+     * @param out the output stream
+     * @param outputStreamOptions if {@code CLOSE} stream should be closed in auditFinished()
+     * @param limit the maximum number of reported files
+     * @throws IllegalArgumentException if {@code limit} is not positive
+     */
+    public SlowFilesAuditListener(OutputStream out, OutputStreamOptions outputStreamOptions,
+            int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        closeStream = outputStreamOptions == OutputStreamOptions.CLOSE;
+        this.limit = limit;
+    }
+
+    @Override
+    protected void finishLocalSetup() {
+        // No code by default
+    }
+
+    @Override
+    public void auditStarted(AuditEvent event) {
+        slowestFiles.clear();
+    }
+
+    @Override
+    public void auditFinished(AuditEvent event) {
+        final List<SlowFile> files = new ArrayList<>(slowestFiles);
+        files.sort(BY_TOTAL_TIME.reversed());
+        writer.printf(Locale.ROOT, REPORT_FORMAT,
+                "Total, ms", "Read, ms", "Parse, ms", "Walk, ms", "Filter, ms", "File");
+        for (SlowFile file : files) {
+            final FileTimings timings = file.timings;
+            writer.printf(Locale.ROOT, REPORT_FORMAT,
+                    formatTime(timings.getTotalNanos()), formatTime(timings.getReadNanos()),
+                    formatTime(timings.getParseNanos()), formatTime(timings.getWalkNanos()),
+                    formatTime(timings.getFilterNanos()), file.fileName);
+        }
+        writer.flush();
+        if (closeStream) {
+            writer.close();
+        }
+    }
+
+    @Override
+    public void fileStarted(AuditEvent event) {
+        // No code by default
+    }
+
+    @Override
+    public void fileFinished(AuditEvent event) {
+        final FileTimings timings = event.getTimings();
+        if (timings != null) {
+            final SlowFile file = new SlowFile(event.getFileName(), timings);
+            if (slowestFiles.size() < limit) {
+                slowestFiles.add(file);
+            }
+            else if (BY_TOTAL_TIME.compare(file, slowestFiles.peek()) > 0) {
+                slowestFiles.poll();
+                slowestFiles.add(file);
+            }
+        }
+    }
+
+    @Override
+    public void addError(AuditEvent event) {
+        // No code by default
+    }
+
+    @Override
+    public void addException(AuditEvent event, Throwable throwable) {
+        // No code by default
+    }
+
+    /**
+     * Formats a time in milliseconds.
+     *
+     * @param nanos the time in nanoseconds
+     * @return the formatted time
+     */
+    private static String formatTime(long nanos) {
+        return String.format(Locale.ROOT, TIME_FORMAT, nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * A file with the time spent on it.
+     */
+    private static final class SlowFile {
+
+        /** The name of the file. */
+        private final String fileName;
+
+        /** The time spent on the file. */
+        private final FileTimings timings;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fileName the name of the file
+         * @param timings the time spent on the file
+         */
+        private SlowFile(String fileName, FileTimings timings) {
+            this.fileName = fileName;
+            this.timings = timings;
+        }
+
+        /**
+         * Returns the name of the file.
+         *
+         * @return the name of the file
+         */
+        private String getFileName() {
+            return fileName;
+        }
+
+        /**
+         * Returns the time spent on the file in all phases.
+         *
+         * @return the time in nanoseconds
+         */
+        private long getTotalNanos() {
+            return timings.getTotalNanos();
+        }
+
+    }
+
+}
@@ -90,21 +90,19 @@ public class ThreadModeSettings implements Serializable {
      *
      * @param name The original module name.
      * @return resolved module name.
-     * @throws IllegalArgumentException when name is Checker or TreeWalker
      */
     public final String resolveName(String name) {
-        if (checkerThreadsNumber > 1) {
-            if (CHECKER_MODULE_NAME.equals(name)) {
-                throw new IllegalArgumentException(
-                        "Multi thread mode for Checker module is not implemented");
-            }
-            if (TREE_WALKER_MODULE_NAME.equals(name)) {
-                throw new IllegalArgumentException(
-                        "Multi thread mode for TreeWalker module is not implemented");
-            }
+        final String result;
+        if (checkerThreadsNumber > 1 && CHECKER_MODULE_NAME.equals(name)) {
+            result = MULTI_THREAD_CHECKER_MODULE_NAME;
         }
-
-        return name;
+        else if (treeWalkerThreadsNumber > 1 && TREE_WALKER_MODULE_NAME.equals(name)) {
+            result = MULTI_THREAD_TREE_WALKER_MODULE_NAME;
+        }
+        else {
+            result = name;
+        }
+        return result;
     }
 
 }
@@ -20,16 +20,25 @@
 package com.puppycrawl.tools.checkstyle;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,13 +51,37 @@ import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.ExternalResourceHolder;
 import com.puppycrawl.tools.checkstyle.api.FileContents;
 import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.AbstractJavadocCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocDispatcher;
 import com.puppycrawl.tools.checkstyle.utils.TokenUtil;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
 
 /**
  * Responsible for walking an abstract syntax tree and notifying interested
  * checks at each node.
  *
+ * <p>When the configuration requests more than one tree walker thread (see
+ * {@link ThreadModeSettings#getTreeWalkerThreadsNumber()}), checks are split into
+ * groups that walk the same tree concurrently, one group per thread. The whole
+ * life cycle of a check for a file is executed by one thread, and the violations of
+ * all groups are merged into one sorted set, so the result does not depend on the
+ * scheduling.
+ * </p>
+ *
+ * <p>Comment checks walk the tree after comment nodes were added to it, ordinary
+ * checks walk it before. When the file has no comments, both trees are the same,
+ * so ordinary and comment checks are notified in a single walk. Each kind of
+ * check is still notified in the same order as in two separate walks.
+ * </p>
+ *
+ * <p>Javadoc checks are notified of Javadoc comments by a {@link JavadocDispatcher},
+ * which parses each comment once and walks its tree once for all of them, after the
+ * other checks interested in the {@code BLOCK_COMMENT_BEGIN} token.
+ * </p>
+ *
  */
 @FileStatefulCheck
 public final class TreeWalker extends AbstractFileSetCheck implements ExternalResourceHolder {
@@ -79,6 +112,21 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
     /** A factory for creating submodules (i.e. the Checks) */
     private ModuleFactory moduleFactory;
 
+    /** The number of threads used to walk a tree. */
+    private int treeWalkerThreadsNumber = 1;
+
+    /**
+     * Groups of checks walked concurrently, one per thread, created on first use.
+     * In single thread mode, the only group contains all checks.
+     */
+    private List<CheckGroup> checkGroups;
+
+    /** The executor walking all groups but the first one in multi thread mode. */
+    private ExecutorService executor;
+
+    /** The profiler measuring checks, filters and parsing, {@code null} if not profiling. */
+    private ModuleProfiler profiler;
+
     /**
      * Creates a new {@code TreeWalker} instance.
      */
@@ -95,12 +143,28 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         this.moduleFactory = moduleFactory;
     }
 
+    /**
+     * Sets the profiler measuring checks, filters and parsing. The profiler is
+     * passed by {@link Checker} through the context.
+     *
+     * @param profiler the profiler, {@code null} to disable profiling
+     */
+    public void setProfiler(ModuleProfiler profiler) {
+        this.profiler = profiler;
+    }
+
     @Override
     public void finishLocalSetup() {
         final DefaultContext checkContext = new DefaultContext();
         checkContext.add("severity", getSeverity());
         checkContext.add("tabWidth", String.valueOf(getTabWidth()));
         childContext = checkContext;
+
+        final Configuration configuration = getConfiguration();
+        if (configuration instanceof DefaultConfiguration) {
+            treeWalkerThreadsNumber = ((DefaultConfiguration) configuration)
+                    .getThreadModeSettings().getTreeWalkerThreadsNumber();
+        }
     }
 
     /**
@@ -149,26 +213,99 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
         // check if already checked and passed the file
         if (!ordinaryChecks.isEmpty() || !commentChecks.isEmpty()) {
             final FileContents contents = getFileContents();
-            final DetailAST rootAST = JavaParser.parse(contents);
-            if (!ordinaryChecks.isEmpty()) {
-                walk(rootAST, contents, AstState.ORDINARY);
-            }
-            if (!commentChecks.isEmpty()) {
-                final DetailAST astWithComments = JavaParser.appendHiddenCommentNodes(rootAST);
-                walk(astWithComments, contents, AstState.WITH_COMMENTS);
-            }
-            if (filters.isEmpty()) {
-                addViolations(violations);
+            final DetailAST rootAST = parse(contents);
+            try {
+                if (!ordinaryChecks.isEmpty() && !commentChecks.isEmpty()
+                        && !hasComments(contents)) {
+                    walk(rootAST, contents, AstState.WITHOUT_COMMENTS_IN_FILE);
+                }
+                else {
+                    if (!ordinaryChecks.isEmpty()) {
+                        walk(rootAST, contents, AstState.ORDINARY);
+                    }
+                    if (!commentChecks.isEmpty()) {
+                        final DetailAST astWithComments = appendHiddenCommentNodes(rootAST);
+                        walk(astWithComments, contents, AstState.WITH_COMMENTS);
+                    }
+                }
+                if (filters.isEmpty()) {
+                    addViolations(violations);
+                }
+                else {
+                    final SortedSet<Violation> filteredViolations =
+                        getFilteredViolations(file.getAbsolutePath(), contents, rootAST);
+                    addViolations(filteredViolations);
+                }
             }
-            else {
-                final SortedSet<Violation> filteredViolations =
-                    getFilteredViolations(file.getAbsolutePath(), contents, rootAST);
-                addViolations(filteredViolations);
+            finally {
+                // the xpath view and the semantic model of the tree are shared
+                // by checks and filters of this file
+                XpathUtil.releaseSharedRootNode();
+                SemanticModel.release();
             }
             violations.clear();
         }
     }
 
+    /**
+     * Parses a file, measuring the parsing when profiling. The time of parsing
+     * is reported to the timer of the file.
+     *
+     * @param contents the contents of the file
+     * @return the root of the AST
+     * @throws CheckstyleException if the contents is not a valid Java source
+     */
+    private DetailAST parse(FileContents contents) throws CheckstyleException {
+        final long startNanos = System.nanoTime();
+        final DetailAST result;
+        if (profiler == null) {
+            result = JavaParser.parse(contents);
+        }
+        else {
+            final long startBytes = profiler.getAllocatedBytes();
+            result = JavaParser.parse(contents);
+            profiler.addSample(JavaParser.class, ModuleProfiler.Phase.PARSE,
+                    startNanos, startBytes);
+        }
+        FileTimer.addParseTimeOfCurrentFile(startNanos);
+        return result;
+    }
+
+    /**
+     * Appends comment nodes to an AST, measuring it as parsing when profiling.
+     * The time is reported to the timer of the file as parsing.
+     *
+     * @param rootAST the root of the AST
+     * @return the root of the AST with comment nodes
+     */
+    private DetailAST appendHiddenCommentNodes(DetailAST rootAST) {
+        final long startNanos = System.nanoTime();
+        final DetailAST result;
+        if (profiler == null) {
+            result = JavaParser.appendHiddenCommentNodes(rootAST);
+        }
+        else {
+            final long startBytes = profiler.getAllocatedBytes();
+            result = JavaParser.appendHiddenCommentNodes(rootAST);
+            profiler.addSample(JavaParser.class, ModuleProfiler.Phase.PARSE,
+                    startNanos, startBytes);
+        }
+        FileTimer.addParseTimeOfCurrentFile(startNanos);
+        return result;
+    }
+
+    /**
+     * Checks whether the lexer found any comment in the file. Without comments,
+     * appending comment nodes does not change the tree.
+     *
+     * @param contents the contents of the parsed file
+     * @return true if the file has at least one comment
+     */
+    private static boolean hasComments(FileContents contents) {
+        return !contents.getSingleLineComments().isEmpty()
+                || !contents.getBlockComments().isEmpty();
+    }
+
     /**
      * Returns filtered set of {@link Violation}.
      *
@@ -179,17 +316,41 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
      */
     private SortedSet<Violation> getFilteredViolations(
             String fileName, FileContents fileContents, DetailAST rootAST) {
+        final long startNanos = System.nanoTime();
         final SortedSet<Violation> result = new TreeSet<>(violations);
         for (Violation element : violations) {
             final TreeWalkerAuditEvent event =
                     new TreeWalkerAuditEvent(fileContents, fileName, element, rootAST);
             for (TreeWalkerFilter filter : filters) {
-                if (!filter.accept(event)) {
+                if (!accept(filter, event)) {
                     result.remove(element);
                     break;
                 }
             }
         }
+        FileTimer.addFilterTimeOfCurrentFile(startNanos);
+        return result;
+    }
+
+    /**
+     * Asks a filter to accept an event, measuring the filter when profiling.
+     *
+     * @param filter the filter
+     * @param event the event to filter
+     * @return true if the filter accepts the event
+     */
+    private boolean accept(TreeWalkerFilter filter, TreeWalkerAuditEvent event) {
+        final boolean result;
+        if (profiler == null) {
+            result = filter.accept(event);
+        }
+        else {
+            final long startBytes = profiler.getAllocatedBytes();
+            final long startNanos = System.nanoTime();
+            result = filter.accept(event);
+            profiler.addSample(filter.getClass(), ModuleProfiler.Phase.ACCEPT,
+                    startNanos, startBytes);
+        }
         return result;
     }
 
@@ -266,118 +427,125 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
      * @param ast the root AST
      * @param contents the contents of the file the AST was generated from.
      * @param astState state of AST.
+     * @throws CheckstyleException if the walk was interrupted.
      */
     private void walk(DetailAST ast, FileContents contents,
-            AstState astState) {
-        notifyBegin(ast, contents, astState);
-        processIter(ast, astState);
-        notifyEnd(ast, astState);
-    }
-
-    /**
-     * Notify checks that we are about to begin walking a tree.
-     *
-     * @param rootAST the root of the tree.
-     * @param contents the contents of the file the AST was generated from.
-     * @param astState state of AST.
-     */
-    private void notifyBegin(DetailAST rootAST, FileContents contents,
-            AstState astState) {
-        final Set<AbstractCheck> checks;
-
-        if (astState == AstState.WITH_COMMENTS) {
-            checks = commentChecks;
+            AstState astState) throws CheckstyleException {
+        if (checkGroups == null) {
+            checkGroups = createCheckGroups();
         }
-        else {
-            checks = ordinaryChecks;
+        if (checkGroups.size() > 1) {
+            walkInParallel(ast, contents, astState);
         }
-
-        for (AbstractCheck check : checks) {
-            check.setFileContents(contents);
-            check.clearViolations();
-            check.beginTree(rootAST);
+        else {
+            checkGroups.get(0).walk(ast, contents, astState, violations, profiler);
         }
     }
 
     /**
-     * Notify checks that we have finished walking a tree.
+     * Walks an AST with every group of checks on its own thread.
+     * The first group is walked by the current thread.
      *
-     * @param rootAST the root of the tree.
+     * @param ast the root AST
+     * @param contents the contents of the file the AST was generated from.
      * @param astState state of AST.
+     * @throws CheckstyleException if the walk was interrupted.
      */
-    private void notifyEnd(DetailAST rootAST, AstState astState) {
-        final Set<AbstractCheck> checks;
-
-        if (astState == AstState.WITH_COMMENTS) {
-            checks = commentChecks;
+    private void walkInParallel(DetailAST ast, FileContents contents,
+            AstState astState) throws CheckstyleException {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(checkGroups.size() - 1, runnable -> {
+                final Thread thread = new Thread(runnable, "TreeWalker");
+                thread.setDaemon(true);
+                return thread;
+            });
         }
-        else {
-            checks = ordinaryChecks;
+        final List<CheckGroup> workerGroups = checkGroups.subList(1, checkGroups.size());
+        for (final CheckGroup group : workerGroups) {
+            group.submitWalk(executor, ast, contents, astState, profiler);
         }
-
-        for (AbstractCheck check : checks) {
-            check.finishTree(rootAST);
-            violations.addAll(check.getViolations());
+        try {
+            checkGroups.get(0).walk(ast, contents, astState, violations, profiler);
+        }
+        finally {
+            for (final CheckGroup group : workerGroups) {
+                group.addWalkResult(violations);
+            }
         }
     }
 
     /**
-     * Notify checks that visiting a node.
+     * Splits the registered checks into one group per thread. Checks that share
+     * thread confined state with other modules are kept in the first group, which is
+     * walked by the thread that runs TreeWalker: {@link SuppressWarningsHolder}
+     * publishes its suppressions to filters of the Checker through a thread local, and
+     * all Javadoc checks share the parsed comments of one dispatcher. Every other check
+     * goes to the group that currently has the fewest checks.
      *
-     * @param ast the node to notify for.
-     * @param astState state of AST.
+     * @return the groups of checks.
      */
-    private void notifyVisit(DetailAST ast, AstState astState) {
-        final Collection<AbstractCheck> visitors = getListOfChecks(ast, astState);
-
-        if (visitors != null) {
-            for (AbstractCheck check : visitors) {
-                check.visitToken(ast);
-            }
+    private List<CheckGroup> createCheckGroups() {
+        final List<CheckGroup> groups = new ArrayList<>();
+        for (int index = 0; index < treeWalkerThreadsNumber; index++) {
+            groups.add(new CheckGroup());
         }
+        final Map<AbstractCheck, CheckGroup> checkToGroup = new HashMap<>();
+        Stream.concat(ordinaryChecks.stream(), commentChecks.stream()).forEach(check -> {
+            final CheckGroup group = CheckGroup.select(groups, check);
+            group.addCheck(check);
+            checkToGroup.put(check, group);
+        });
+        tokenToOrdinaryChecks.forEach((tokenId, checks) -> {
+            for (AbstractCheck check : checks) {
+                checkToGroup.get(check).addCheck(tokenId, check);
+            }
+        });
+        tokenToCommentChecks.forEach((tokenId, checks) -> {
+            for (AbstractCheck check : checks) {
+                checkToGroup.get(check).addCheck(tokenId, check);
+            }
+        });
+        return groups;
     }
 
     /**
-     * Notify checks that leaving a node.
+     * Merges ordinary and comment checks, ordinary checks first.
      *
-     * @param ast
-     *        the node to notify for
-     * @param astState state of AST.
+     * @param ordinary the ordinary checks.
+     * @param comment the comment checks.
+     * @return the checks in notification order.
      */
-    private void notifyLeave(DetailAST ast, AstState astState) {
-        final Collection<AbstractCheck> visitors = getListOfChecks(ast, astState);
-
-        if (visitors != null) {
-            for (AbstractCheck check : visitors) {
-                check.leaveToken(ast);
-            }
-        }
+    private static Set<AbstractCheck> mergeChecks(Set<AbstractCheck> ordinary,
+            Set<AbstractCheck> comment) {
+        final Set<AbstractCheck> result = new LinkedHashSet<>(ordinary);
+        result.addAll(comment);
+        return result;
     }
 
     /**
-     * Method returns list of checks.
+     * Merges the checks interested in each token, ordinary checks first.
      *
-     * @param ast
-     *            the node to notify for
-     * @param astState
-     *            state of AST.
-     * @return list of visitors
+     * @param ordinary the ordinary checks interested in each token.
+     * @param comment the comment checks interested in each token.
+     * @return the checks interested in each token in notification order.
      */
-    private Collection<AbstractCheck> getListOfChecks(DetailAST ast, AstState astState) {
-        final Collection<AbstractCheck> visitors;
-        final int tokenId = ast.getType();
-
-        if (astState == AstState.WITH_COMMENTS) {
-            visitors = tokenToCommentChecks.get(tokenId);
-        }
-        else {
-            visitors = tokenToOrdinaryChecks.get(tokenId);
-        }
-        return visitors;
+    private static Map<Integer, Set<AbstractCheck>> mergeTokenToChecks(
+            Map<Integer, Set<AbstractCheck>> ordinary, Map<Integer, Set<AbstractCheck>> comment) {
+        final Map<Integer, Set<AbstractCheck>> result = new HashMap<>();
+        ordinary.forEach((tokenId, checks) -> result.put(tokenId, new LinkedHashSet<>(checks)));
+        comment.forEach((tokenId, checks) -> {
+            result.computeIfAbsent(tokenId, empty -> new LinkedHashSet<>()).addAll(checks);
+        });
+        return result;
     }
 
     @Override
     public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        checkGroups = null;
         ordinaryChecks.forEach(AbstractCheck::destroy);
         commentChecks.forEach(AbstractCheck::destroy);
         super.destroy();
@@ -395,27 +563,6 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
             .collect(Collectors.toUnmodifiableSet());
     }
 
-    /**
-     * Processes a node calling interested checks at each node.
-     * Uses iterative algorithm.
-     *
-     * @param root the root of tree for process
-     * @param astState state of AST.
-     */
-    private void processIter(DetailAST root, AstState astState) {
-        DetailAST curNode = root;
-        while (curNode != null) {
-            notifyVisit(curNode, astState);
-            DetailAST toVisit = curNode.getFirstChild();
-            while (curNode != null && toVisit == null) {
-                notifyLeave(curNode, astState);
-                toVisit = curNode.getNextSibling();
-                curNode = curNode.getParent();
-            }
-            curNode = toVisit;
-        }
-    }
-
     /**
      * Creates a new {@link SortedSet} with a deterministic order based on the
      * Check's name before the default ordering.
@@ -446,6 +593,513 @@ public final class TreeWalker extends AbstractFileSetCheck implements ExternalRe
          */
         WITH_COMMENTS,
 
+        /**
+         * AST of a file without comments, the same with and without comment nodes.
+         */
+        WITHOUT_COMMENTS_IN_FILE,
+
+    }
+
+    /**
+     * Checks walked together over a tree by one thread.
+     */
+    private static final class CheckGroup {
+
+        /** Ordinary checks of the group. */
+        private final Set<AbstractCheck> ordinaryChecks = createNewCheckSortedSet();
+
+        /** Comment checks of the group. */
+        private final Set<AbstractCheck> commentChecks = createNewCheckSortedSet();
+
+        /** Maps from token id to ordinary checks of the group. */
+        private final Map<Integer, Set<AbstractCheck>> tokenToOrdinaryChecks = new HashMap<>();
+
+        /** Maps from token id to comment checks of the group. */
+        private final Map<Integer, Set<AbstractCheck>> tokenToCommentChecks = new HashMap<>();
+
+        /** Ordinary checks followed by comment checks of the group, created on first use. */
+        private Set<AbstractCheck> allChecks;
+
+        /** Maps from token id to all checks of the group, created on first use. */
+        private Map<Integer, Set<AbstractCheck>> tokenToAllChecks;
+
+        /** Dispatch tables of the group by state of AST, created on first use. */
+        private final Map<AstState, TokenDispatchTable> dispatchTables =
+                new EnumMap<>(AstState.class);
+
+        /** The walk of the group on a thread of the executor, {@code null} if none. */
+        private Future<SortedSet<Violation>> pendingWalk;
+
+        /**
+         * Selects the group a check is added to.
+         *
+         * @param groups the groups of checks.
+         * @param check the check to add.
+         * @return the first group for checks sharing thread confined state, otherwise
+         *     the group that currently has the fewest checks.
+         */
+        private static CheckGroup select(List<CheckGroup> groups, AbstractCheck check) {
+            final CheckGroup group;
+            if (check instanceof SuppressWarningsHolder
+                    || check instanceof AbstractJavadocCheck) {
+                group = groups.get(0);
+            }
+            else {
+                group = groups.stream()
+                        .min(Comparator.comparingInt(CheckGroup::size))
+                        .orElseThrow();
+            }
+            return group;
+        }
+
+        /**
+         * Adds a check to the group.
+         *
+         * @param check the check to add.
+         */
+        private void addCheck(AbstractCheck check) {
+            if (check.isCommentNodesRequired()) {
+                commentChecks.add(check);
+            }
+            else {
+                ordinaryChecks.add(check);
+            }
+        }
+
+        /**
+         * Registers a check of the group for a token.
+         *
+         * @param tokenId the id of the token.
+         * @param check the check to register.
+         */
+        private void addCheck(int tokenId, AbstractCheck check) {
+            final Map<Integer, Set<AbstractCheck>> tokenToChecks;
+            if (check.isCommentNodesRequired()) {
+                tokenToChecks = tokenToCommentChecks;
+            }
+            else {
+                tokenToChecks = tokenToOrdinaryChecks;
+            }
+            tokenToChecks.computeIfAbsent(tokenId, empty -> createNewCheckSortedSet())
+                    .add(check);
+        }
+
+        /**
+         * Returns the number of checks in the group.
+         *
+         * @return the number of checks.
+         */
+        private int size() {
+            return ordinaryChecks.size() + commentChecks.size();
+        }
+
+        /**
+         * Returns the checks of the group for the given state of AST.
+         *
+         * @param astState state of AST.
+         * @return the checks.
+         */
+        private Set<AbstractCheck> getChecks(AstState astState) {
+            final Set<AbstractCheck> checks;
+            if (astState == AstState.WITH_COMMENTS) {
+                checks = commentChecks;
+            }
+            else if (astState == AstState.WITHOUT_COMMENTS_IN_FILE) {
+                mergeChecks();
+                checks = allChecks;
+            }
+            else {
+                checks = ordinaryChecks;
+            }
+            return checks;
+        }
+
+        /**
+         * Returns the token to checks map of the group for the given state of AST.
+         *
+         * @param astState state of AST.
+         * @return the token to checks map.
+         */
+        private Map<Integer, Set<AbstractCheck>> getTokenToChecks(AstState astState) {
+            final Map<Integer, Set<AbstractCheck>> tokenToChecks;
+            if (astState == AstState.WITH_COMMENTS) {
+                tokenToChecks = tokenToCommentChecks;
+            }
+            else if (astState == AstState.WITHOUT_COMMENTS_IN_FILE) {
+                mergeChecks();
+                tokenToChecks = tokenToAllChecks;
+            }
+            else {
+                tokenToChecks = tokenToOrdinaryChecks;
+            }
+            return tokenToChecks;
+        }
+
+        /**
+         * Returns the dispatch table of the group for the given state of AST.
+         *
+         * @param astState state of AST.
+         * @return the checks interested in each token.
+         */
+        private TokenDispatchTable getDispatchTable(AstState astState) {
+            return dispatchTables.computeIfAbsent(astState,
+                    state -> new TokenDispatchTable(getTokenToChecks(state)));
+        }
+
+        /**
+         * Merges ordinary and comment checks of the group, if not merged yet.
+         */
+        private void mergeChecks() {
+            if (allChecks == null) {
+                allChecks = TreeWalker.mergeChecks(ordinaryChecks, commentChecks);
+                tokenToAllChecks = mergeTokenToChecks(tokenToOrdinaryChecks,
+                        tokenToCommentChecks);
+            }
+        }
+
+        /**
+         * Walks an AST with the checks of the group.
+         *
+         * @param ast the root AST
+         * @param contents the contents of the file the AST was generated from.
+         * @param astState state of AST.
+         * @param result the collection to add found violations to.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         */
+        private void walk(DetailAST ast, FileContents contents, AstState astState,
+                Collection<Violation> result, ModuleProfiler profiler) {
+            final Set<AbstractCheck> checks = getChecks(astState);
+            // a view created before the comment nodes were added is out of date
+            XpathUtil.releaseSharedRootNode();
+            notifyBegin(ast, contents, checks, profiler);
+            processIter(ast, getDispatchTable(astState), profiler);
+            notifyEnd(ast, checks, result, profiler);
+        }
+
+        /**
+         * Starts the walk of an AST with the checks of the group on a thread of the
+         * executor, if the group has checks for the state of AST.
+         *
+         * @param executor the executor to walk the AST on.
+         * @param ast the root AST
+         * @param contents the contents of the file the AST was generated from.
+         * @param astState state of AST.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         */
+        private void submitWalk(ExecutorService executor, DetailAST ast, FileContents contents,
+                AstState astState, ModuleProfiler profiler) {
+            pendingWalk = null;
+            if (!getChecks(astState).isEmpty()) {
+                pendingWalk = executor.submit(() -> {
+                    return walkOnWorker(ast, contents, astState, profiler);
+                });
+            }
+        }
+
+        /**
+         * Waits for the walk started by
+         * {@link #submitWalk(ExecutorService, DetailAST, FileContents, AstState, ModuleProfiler)}
+         * to finish and adds the violations found. Exceptions thrown by the checks are
+         * rethrown as is.
+         *
+         * @param result the collection to add found violations to.
+         * @throws CheckstyleException if the walk was interrupted.
+         */
+        private void addWalkResult(Collection<Violation> result) throws CheckstyleException {
+            final Future<SortedSet<Violation>> walk = pendingWalk;
+            pendingWalk = null;
+            if (walk != null) {
+                try {
+                    result.addAll(walk.get());
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new CheckstyleException("Tree walk was interrupted", ex);
+                }
+                catch (ExecutionException ex) {
+                    final Throwable cause = ex.getCause();
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw (RuntimeException) cause;
+                }
+            }
+        }
+
+        /**
+         * Walks an AST with the checks of the group on a thread of the executor. The
+         * views of the tree shared by the checks of the thread are released after the walk.
+         *
+         * @param ast the root AST
+         * @param contents the contents of the file the AST was generated from.
+         * @param astState state of AST.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         * @return the violations found by the group.
+         */
+        private SortedSet<Violation> walkOnWorker(DetailAST ast, FileContents contents,
+                AstState astState, ModuleProfiler profiler) {
+            final SortedSet<Violation> groupViolations = new TreeSet<>();
+            try {
+                walk(ast, contents, astState, groupViolations, profiler);
+            }
+            finally {
+                XpathUtil.releaseSharedRootNode();
+                SemanticModel.release();
+            }
+            return groupViolations;
+        }
+
+        /**
+         * Notify checks that we are about to begin walking a tree.
+         *
+         * @param rootAST the root of the tree.
+         * @param contents the contents of the file the AST was generated from.
+         * @param checks the checks to notify.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         */
+        private static void notifyBegin(DetailAST rootAST, FileContents contents,
+                Set<AbstractCheck> checks, ModuleProfiler profiler) {
+            for (AbstractCheck check : checks) {
+                check.setFileContents(contents);
+                check.clearViolations();
+                if (profiler == null) {
+                    check.beginTree(rootAST);
+                }
+                else {
+                    final long startBytes = profiler.getAllocatedBytes();
+                    final long startNanos = System.nanoTime();
+                    check.beginTree(rootAST);
+                    profiler.addSample(check.getClass(), ModuleProfiler.Phase.BEGIN_TREE,
+                            startNanos, startBytes);
+                }
+            }
+        }
+
+        /**
+         * Notify checks that we have finished walking a tree.
+         *
+         * @param rootAST the root of the tree.
+         * @param checks the checks to notify.
+         * @param result the collection to add found violations to.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         */
+        private static void notifyEnd(DetailAST rootAST, Set<AbstractCheck> checks,
+                Collection<Violation> result, ModuleProfiler profiler) {
+            for (AbstractCheck check : checks) {
+                if (profiler == null) {
+                    check.finishTree(rootAST);
+                }
+                else {
+                    final long startBytes = profiler.getAllocatedBytes();
+                    final long startNanos = System.nanoTime();
+                    check.finishTree(rootAST);
+                    profiler.addSample(check.getClass(), ModuleProfiler.Phase.FINISH_TREE,
+                            startNanos, startBytes);
+                }
+                result.addAll(check.getViolations());
+            }
+        }
+
+        /**
+         * Notify checks that visiting a node.
+         *
+         * @param ast the node to notify for.
+         * @param dispatchTable the checks interested in each token.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         */
+        private static void notifyVisit(DetailAST ast, TokenDispatchTable dispatchTable,
+                ModuleProfiler profiler) {
+            for (AbstractCheck check : dispatchTable.getVisitors(ast.getType())) {
+                if (profiler == null) {
+                    check.visitToken(ast);
+                }
+                else {
+                    final long startBytes = profiler.getAllocatedBytes();
+                    final long startNanos = System.nanoTime();
+                    check.visitToken(ast);
+                    profiler.addSample(check.getClass(), ModuleProfiler.Phase.VISIT_TOKEN,
+                            startNanos, startBytes);
+                }
+            }
+            final JavadocDispatcher javadocDispatcher =
+                    dispatchTable.getJavadocDispatcher(ast.getType());
+            if (javadocDispatcher != null) {
+                javadocDispatcher.visitBlockComment(ast, profiler);
+            }
+        }
+
+        /**
+         * Notify checks that leaving a node.
+         *
+         * @param ast
+         *        the node to notify for
+         * @param dispatchTable the checks interested in each token.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         */
+        private static void notifyLeave(DetailAST ast, TokenDispatchTable dispatchTable,
+                ModuleProfiler profiler) {
+            for (AbstractCheck check : dispatchTable.getLeavers(ast.getType())) {
+                if (profiler == null) {
+                    check.leaveToken(ast);
+                }
+                else {
+                    final long startBytes = profiler.getAllocatedBytes();
+                    final long startNanos = System.nanoTime();
+                    check.leaveToken(ast);
+                    profiler.addSample(check.getClass(), ModuleProfiler.Phase.LEAVE_TOKEN,
+                            startNanos, startBytes);
+                }
+            }
+        }
+
+        /**
+         * Processes a node calling interested checks at each node.
+         * Uses iterative algorithm.
+         *
+         * @param root the root of tree for process
+         * @param dispatchTable the checks interested in each token.
+         * @param profiler the profiler measuring the checks, {@code null} if not profiling.
+         */
+        private static void processIter(DetailAST root, TokenDispatchTable dispatchTable,
+                ModuleProfiler profiler) {
+            DetailAST curNode = root;
+            while (curNode != null) {
+                notifyVisit(curNode, dispatchTable, profiler);
+                DetailAST toVisit = curNode.getFirstChild();
+                while (curNode != null && toVisit == null) {
+                    notifyLeave(curNode, dispatchTable, profiler);
+                    toVisit = curNode.getNextSibling();
+                    curNode = curNode.getParent();
+                }
+                curNode = toVisit;
+            }
+        }
+
+    }
+
+    /**
+     * Checks interested in each token, in arrays indexed by token type. Checks
+     * that do not override {@link AbstractCheck#leaveToken(DetailAST)} are left
+     * out of the checks notified when leaving a token. Javadoc checks are visited
+     * together by a {@link JavadocDispatcher} instead.
+     */
+    private static final class TokenDispatchTable {
+
+        /** Checks notified for token types without interested checks. */
+        private static final AbstractCheck[] NO_CHECKS = new AbstractCheck[0];
+
+        /** Checks notified when visiting a token, by token type. */
+        private final AbstractCheck[][] visitors;
+
+        /** Checks notified when leaving a token, by token type. */
+        private final AbstractCheck[][] leavers;
+
+        /** The dispatcher of Javadoc checks, {@code null} if there are none. */
+        private final JavadocDispatcher javadocDispatcher;
+
+        /**
+         * Creates the dispatch table of checks.
+         *
+         * @param tokenToChecks the checks interested in each token, in notification order.
+         */
+        private TokenDispatchTable(Map<Integer, Set<AbstractCheck>> tokenToChecks) {
+            final int size = tokenToChecks.keySet().stream()
+                    .mapToInt(Integer::intValue)
+                    .max()
+                    .orElse(-1) + 1;
+            visitors = new AbstractCheck[size][];
+            leavers = new AbstractCheck[size][];
+            Arrays.fill(visitors, NO_CHECKS);
+            Arrays.fill(leavers, NO_CHECKS);
+            tokenToChecks.forEach((tokenId, checks) -> {
+                visitors[tokenId] = checks.stream()
+                        .filter(check -> !(check instanceof AbstractJavadocCheck))
+                        .toArray(AbstractCheck[]::new);
+                leavers[tokenId] = checks.stream()
+                        .filter(TokenDispatchTable::isLeaveTokenOverridden)
+                        .toArray(AbstractCheck[]::new);
+            });
+            final List<AbstractJavadocCheck> javadocChecks = tokenToChecks
+                    .getOrDefault(TokenTypes.BLOCK_COMMENT_BEGIN, Collections.emptySet())
+                    .stream()
+                    .filter(AbstractJavadocCheck.class::isInstance)
+                    .map(AbstractJavadocCheck.class::cast)
+                    .collect(Collectors.toUnmodifiableList());
+            if (javadocChecks.isEmpty()) {
+                javadocDispatcher = null;
+            }
+            else {
+                javadocDispatcher = new JavadocDispatcher(javadocChecks);
+            }
+        }
+
+        /**
+         * Returns the dispatcher of Javadoc checks to notify when visiting a token.
+         *
+         * @param tokenType the type of the token.
+         * @return the dispatcher, {@code null} if no Javadoc check is interested in the token.
+         */
+        private JavadocDispatcher getJavadocDispatcher(int tokenType) {
+            JavadocDispatcher result = null;
+            if (tokenType == TokenTypes.BLOCK_COMMENT_BEGIN) {
+                result = javadocDispatcher;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the checks to notify when visiting a token.
+         *
+         * @param tokenType the type of the token.
+         * @return the checks in notification order.
+         */
+        private AbstractCheck[] getVisitors(int tokenType) {
+            return getChecks(visitors, tokenType);
+        }
+
+        /**
+         * Returns the checks to notify when leaving a token.
+         *
+         * @param tokenType the type of the token.
+         * @return the checks in notification order.
+         */
+        private AbstractCheck[] getLeavers(int tokenType) {
+            return getChecks(leavers, tokenType);
+        }
+
+        /**
+         * Returns the checks of a token type from one of the tables.
+         *
+         * @param table the table to look up.
+         * @param tokenType the type of the token.
+         * @return the checks in notification order.
+         */
+        private static AbstractCheck[] getChecks(AbstractCheck[][] table, int tokenType) {
+            final AbstractCheck[] checks;
+            if (tokenType < table.length) {
+                checks = table[tokenType];
+            }
+            else {
+                checks = NO_CHECKS;
+            }
+            return checks;
+        }
+
+        /**
+         * Checks whether the class of a check overrides
+         * {@link AbstractCheck#leaveToken(DetailAST)}.
+         *
+         * @param check the check to examine.
+         * @return true if leaving a token may do something in the check.
+         */
+        private static boolean isLeaveTokenOverridden(AbstractCheck check) {
+            return Arrays.stream(check.getClass().getMethods())
+                    .anyMatch(method -> {
+                        return "leaveToken".equals(method.getName())
+                                && method.getDeclaringClass() != AbstractCheck.class;
+                    });
+        }
+
     }
 
 }
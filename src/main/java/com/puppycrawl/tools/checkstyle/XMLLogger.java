@@ -19,6 +19,7 @@
 
 package com.puppycrawl.tools.checkstyle;
 
+import java.io.BufferedWriter;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -57,6 +58,15 @@ public class XMLLogger
     private static final String[] ENTITIES = {"gt", "amp", "lt", "apos",
                                               "quot", };
 
+    /** Size of the buffer of the writer, in characters. */
+    private static final int WRITER_BUFFER_SIZE = 64 * 1024;
+
+    /** The first character that never needs to be encoded. */
+    private static final char FIRST_PLAIN_CHAR = '\u00A0';
+
+    /** Encoded form of characters below {@link #FIRST_PLAIN_CHAR}, null if kept as is. */
+    private static final String[] ENCODINGS = createEncodings();
+
     /** Close output stream in auditFinished. */
     private final boolean closeStream;
 
@@ -97,7 +107,8 @@ public class XMLLogger
      * @throws IllegalArgumentException if outputStreamOptions is null.
      */
     public XMLLogger(OutputStream outputStream, OutputStreamOptions outputStreamOptions) {
-        writer = new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE));
         if (outputStreamOptions == null) {
             throw new IllegalArgumentException("Parameter outputStreamOptions can not be null");
         }
@@ -115,7 +126,9 @@ public class XMLLogger
 
         final String version = XMLLogger.class.getPackage().getImplementationVersion();
 
-        writer.println("<checkstyle version=\"" + version + "\">");
+        writer.print("<checkstyle version=\"");
+        writer.print(version);
+        writer.println("\">");
     }
 
     @Override
@@ -171,7 +184,9 @@ public class XMLLogger
      * @param fileName The filename to output.
      */
     private void writeFileOpeningTag(String fileName) {
-        writer.println("<file name=\"" + encode(fileName) + "\">");
+        writer.print("<file name=\"");
+        writeEncoded(writer, fileName);
+        writer.println("\">");
     }
 
     /**
@@ -203,22 +218,22 @@ public class XMLLogger
      * @param event An event to print.
      */
     private void writeFileError(AuditEvent event) {
-        writer.print("<error" + " line=\"" + event.getLine() + "\"");
+        writer.print("<error line=\"");
+        writer.print(event.getLine());
         if (event.getColumn() > 0) {
-            writer.print(" column=\"" + event.getColumn() + "\"");
+            writer.print("\" column=\"");
+            writer.print(event.getColumn());
         }
-        writer.print(" severity=\""
-                + event.getSeverityLevel().getName()
-                + "\"");
-        writer.print(" message=\""
-                + encode(event.getMessage())
-                + "\"");
-        writer.print(" source=\"");
+        writer.print("\" severity=\"");
+        writer.print(event.getSeverityLevel().getName());
+        writer.print("\" message=\"");
+        writeEncoded(writer, event.getMessage());
+        writer.print("\" source=\"");
         if (event.getModuleId() == null) {
-            writer.print(encode(event.getSourceName()));
+            writeEncoded(writer, event.getSourceName());
         }
         else {
-            writer.print(encode(event.getModuleId()));
+            writeEncoded(writer, event.getModuleId());
         }
         writer.println("\"/>");
     }
@@ -249,7 +264,8 @@ public class XMLLogger
         final StringWriter stringWriter = new StringWriter();
         final PrintWriter printer = new PrintWriter(stringWriter);
         throwable.printStackTrace(printer);
-        writer.println(encode(stringWriter.toString()));
+        writeEncoded(writer, stringWriter.toString());
+        writer.println();
 
         writer.println("]]>");
         writer.println("</exception>");
@@ -262,45 +278,55 @@ public class XMLLogger
      * @return the escaped value if necessary.
      */
     public static String encode(String value) {
-        final StringBuilder sb = new StringBuilder(256);
-        for (int i = 0; i < value.length(); i++) {
-            final char chr = value.charAt(i);
-            switch (chr) {
-                case '<':
-                    sb.append("&lt;");
-                    break;
-                case '>':
-                    sb.append("&gt;");
-                    break;
-                case '\'':
-                    sb.append("&apos;");
-                    break;
-                case '\"':
-                    sb.append("&quot;");
-                    break;
-                case '&':
-                    sb.append("&amp;");
-                    break;
-                case '\r':
-                    break;
-                case '\n':
-                    sb.append("&#10;");
-                    break;
-                default:
-                    if (Character.isISOControl(chr)) {
-                        // true escape characters need '&' before, but it also requires XML 1.1
-                        // until https://github.com/checkstyle/checkstyle/issues/5168
-                        sb.append("#x");
-                        sb.append(Integer.toHexString(chr));
-                        sb.append(';');
-                    }
-                    else {
-                        sb.append(chr);
-                    }
-                    break;
+        final StringWriter result = new StringWriter(value.length());
+        writeEncoded(new PrintWriter(result), value);
+        return result.toString();
+    }
+
+    /**
+     * Writes a value with &lt;, &gt; &amp; &#39; and &quot; escaped as their entities.
+     * Runs of characters that need no escaping are written without copying them.
+     *
+     * @param out the writer to write to.
+     * @param value the value to escape.
+     */
+    private static void writeEncoded(PrintWriter out, String value) {
+        final int length = value.length();
+        int start = 0;
+        for (int index = 0; index < length; index++) {
+            final char chr = value.charAt(index);
+            if (chr < FIRST_PLAIN_CHAR && ENCODINGS[chr] != null) {
+                out.write(value, start, index - start);
+                out.write(ENCODINGS[chr]);
+                start = index + 1;
+            }
+        }
+        out.write(value, start, length - start);
+    }
+
+    /**
+     * Creates the table of encoded characters. Carriage returns are dropped.
+     *
+     * @return the encoded form of characters below {@link #FIRST_PLAIN_CHAR},
+     *     null for characters kept as is.
+     */
+    private static String[] createEncodings() {
+        final String[] encodings = new String[FIRST_PLAIN_CHAR];
+        for (char chr = 0; chr < FIRST_PLAIN_CHAR; chr++) {
+            if (Character.isISOControl(chr)) {
+                // true escape characters need '&' before, but it also requires XML 1.1
+                // until https://github.com/checkstyle/checkstyle/issues/5168
+                encodings[chr] = "#x" + Integer.toHexString(chr) + ';';
             }
         }
-        return sb.toString();
+        encodings['<'] = "&lt;";
+        encodings['>'] = "&gt;";
+        encodings['\''] = "&apos;";
+        encodings['\"'] = "&quot;";
+        encodings['&'] = "&amp;";
+        encodings['\r'] = "";
+        encodings['\n'] = "&#10;";
+        return encodings;
     }
 
     /**
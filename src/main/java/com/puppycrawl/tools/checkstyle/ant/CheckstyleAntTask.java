@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -47,6 +48,7 @@ import com.puppycrawl.tools.checkstyle.Checker;
 import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
 import com.puppycrawl.tools.checkstyle.DefaultLogger;
 import com.puppycrawl.tools.checkstyle.ModuleFactory;
+import com.puppycrawl.tools.checkstyle.ModuleProfiler;
 import com.puppycrawl.tools.checkstyle.PackageObjectFactory;
 import com.puppycrawl.tools.checkstyle.PropertiesExpander;
 import com.puppycrawl.tools.checkstyle.SarifLogger;
@@ -115,6 +117,9 @@ public class CheckstyleAntTask extends Task {
      */
     private boolean executeIgnoredModules;
 
+    /** The file the measurements of the profiler are written to, if profiling. */
+    private File profile;
+
     ////////////////////////////////////////////////////////////////////////////
     // Setters for ANT specific attributes
     ////////////////////////////////////////////////////////////////////////////
@@ -239,6 +244,16 @@ public class CheckstyleAntTask extends Task {
         executeIgnoredModules = omit;
     }
 
+    /**
+     * Sets the file to write profiler measurements to. Setting it enables the
+     * profiling of modules, whose summary is logged after the files are processed.
+     *
+     * @param file the file to write the measurements to as JSON
+     */
+    public void setProfile(File file) {
+        profile = file;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Setters for Root Module's configuration attributes
     ////////////////////////////////////////////////////////////////////////////
@@ -295,7 +310,11 @@ public class CheckstyleAntTask extends Task {
         // Create the root module
         RootModule rootModule = null;
         try {
-            rootModule = createRootModule();
+            ModuleProfiler profiler = null;
+            if (profile != null) {
+                profiler = new ModuleProfiler();
+            }
+            rootModule = createRootModule(profiler);
 
             // setup the listeners
             final AuditListener[] listeners = getListeners();
@@ -306,7 +325,7 @@ public class CheckstyleAntTask extends Task {
                 new SeverityLevelCounter(SeverityLevel.WARNING);
             rootModule.addListener(warningCounter);
 
-            processFiles(rootModule, warningCounter, checkstyleVersion);
+            processFiles(rootModule, warningCounter, checkstyleVersion, profiler);
         }
         finally {
             if (rootModule != null) {
@@ -321,11 +340,12 @@ public class CheckstyleAntTask extends Task {
      * @param rootModule Root module to process files
      * @param warningCounter Root Module's counter of warnings
      * @param checkstyleVersion Checkstyle compile version
+     * @param profiler the profiler measuring modules, {@code null} if not profiling
      * @throws BuildException if the files could not be processed,
      *     or if the build failed due to violations.
      */
     private void processFiles(RootModule rootModule, final SeverityLevelCounter warningCounter,
-            final String checkstyleVersion) {
+            final String checkstyleVersion, ModuleProfiler profiler) {
         final long startTime = System.currentTimeMillis();
         final List<File> files = getFilesToCheck();
         final long endTime = System.currentTimeMillis();
@@ -350,6 +370,9 @@ public class CheckstyleAntTask extends Task {
         catch (CheckstyleException ex) {
             throw new BuildException("Unable to process files: " + files, ex);
         }
+        if (profiler != null) {
+            writeProfile(profiler);
+        }
         final int numWarnings = warningCounter.getCount();
         final boolean okStatus = numErrs <= maxErrors && numWarnings <= maxWarnings;
 
@@ -368,13 +391,30 @@ public class CheckstyleAntTask extends Task {
         }
     }
 
+    /**
+     * Logs the summary of a profiler and writes its measurements to the profile file.
+     *
+     * @param profiler the profiler
+     * @throws BuildException if the profile file could not be written.
+     */
+    private void writeProfile(ModuleProfiler profiler) {
+        log(profiler.getSummary(), Project.MSG_INFO);
+        try {
+            Files.writeString(profile.toPath(), profiler.toJson(), StandardCharsets.UTF_8);
+        }
+        catch (IOException ex) {
+            throw new BuildException("Unable to write profile to " + profile, ex);
+        }
+    }
+
     /**
      * Creates new instance of the root module.
      *
+     * @param profiler the profiler measuring modules, {@code null} if not profiling
      * @return new instance of the root module
      * @throws BuildException if the root module could not be created.
      */
-    private RootModule createRootModule() {
+    private RootModule createRootModule(ModuleProfiler profiler) {
         final RootModule rootModule;
         try {
             final Properties props = createOverridingProperties();
@@ -398,6 +438,9 @@ public class CheckstyleAntTask extends Task {
                     Checker.class.getPackage().getName() + ".", moduleClassLoader);
 
             rootModule = (RootModule) factory.createModule(configuration.getName());
+            if (profiler != null && rootModule instanceof Checker) {
+                ((Checker) rootModule).setProfiler(profiler);
+            }
             rootModule.setModuleClassLoader(moduleClassLoader);
             rootModule.configure(configuration);
         }
@@ -243,7 +243,7 @@ public abstract class AbstractCheck extends AbstractViolationReporter {
     public final void log(int lineNo, int colNo, String key,
             Object... args) {
         final int col = 1 + CommonUtil.lengthExpandedTabs(
-            getLines()[lineNo - 1], colNo, tabWidth);
+            getLine(lineNo - 1), colNo, tabWidth);
         context.get().violations.add(
             new Violation(
                 lineNo,
@@ -273,7 +273,7 @@ public abstract class AbstractCheck extends AbstractViolationReporter {
         // is increased by one.
 
         final int col = 1 + CommonUtil.lengthExpandedTabs(
-                getLines()[ast.getLineNo() - 1], ast.getColumnNo(), tabWidth);
+                getLine(ast.getLineNo() - 1), ast.getColumnNo(), tabWidth);
         context.get().violations.add(
                 new Violation(
                         ast.getLineNo(),
@@ -43,6 +43,8 @@ public final class AuditEvent {
     private final String fileName;
     /** Violation associated with the event. **/
     private final Violation violation;
+    /** Time spent on the file, only for the end of a processed file. **/
+    private final FileTimings timings;
 
     /**
      * Creates a new instance.
@@ -72,6 +74,19 @@ public final class AuditEvent {
      * @throws IllegalArgumentException if {@code src} is {@code null}.
      */
     public AuditEvent(Object src, String fileName, Violation violation) {
+        this(src, fileName, violation, null);
+    }
+
+    /**
+     * Creates a new {@code AuditEvent} instance.
+     *
+     * @param src source of the event
+     * @param fileName file associated with the event
+     * @param violation the actual violation
+     * @param timings time spent on the file
+     * @throws IllegalArgumentException if {@code src} is {@code null}.
+     */
+    public AuditEvent(Object src, String fileName, Violation violation, FileTimings timings) {
         if (src == null) {
             throw new IllegalArgumentException("null source");
         }
@@ -79,6 +94,7 @@ public final class AuditEvent {
         source = src;
         this.fileName = fileName;
         this.violation = violation;
+        this.timings = timings;
     }
 
     /**
@@ -169,4 +185,14 @@ public final class AuditEvent {
         return violation;
     }
 
+    /**
+     * Gets the time spent on the file, split into phases.
+     *
+     * @return the time spent on the file, or null if the event is not the end
+     *         of a file processed by Checker.
+     */
+    public FileTimings getTimings() {
+        return timings;
+    }
+
 }
@@ -19,20 +19,16 @@
 
 package com.puppycrawl.tools.checkstyle.api;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -46,24 +42,27 @@ import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
  * This class will be passed to instances of class FileSetCheck by
  * Checker.
  * </p>
+ * <p>
+ * Instances are immutable, so one instance is shared by all FileSetChecks
+ * and the {@link FileContents} of every check processing the same file.
+ * </p>
  *
  */
 public final class FileText {
 
     /**
-     * The number of characters to read in one go.
+     * The initial capacity of the line breaks of a file that is read.
      */
-    private static final int READ_BUFFER_SIZE = 1024;
+    private static final int INITIAL_LINE_BREAKS_CAPACITY = 256;
 
     /**
      * Regular expression pattern matching all line terminators.
      */
     private static final Pattern LINE_TERMINATOR = Pattern.compile("\\n|\\r\\n?");
 
-    // For now, we always keep both full text and lines array.
-    // In the long run, however, the one passed at initialization might be
-    // enough, while the other could be lazily created when requested.
-    // This would save memory but cost CPU cycles.
+    // A file that is read keeps its full text and creates each line from it
+    // when the line is requested. A text reconstructed from a list of lines
+    // keeps both the full text and the lines array.
 
     /**
      * The name of the file.
@@ -79,6 +78,8 @@ public final class FileText {
 
     /**
      * The lines of the file, without terminators.
+     * The lines of a file that is read are created from the full text on first
+     * access, so {@code null} entries are lines that were not requested yet.
      */
     private final String[] lines;
 
@@ -98,16 +99,17 @@ public final class FileText {
     /**
      * Copy constructor.
      *
+     * <p>The copy shares the line data of the original, which is never
+     * modified once created, so no arrays are duplicated.</p>
+     *
      * @param fileText to make copy of
      */
     public FileText(FileText fileText) {
         file = fileText.file;
         charset = fileText.charset;
         fullText = fileText.fullText;
-        lines = fileText.lines.clone();
-        if (fileText.lineBreaks != null) {
-            lineBreaks = fileText.lineBreaks.clone();
-        }
+        lines = fileText.lines;
+        lineBreaks = fileText.lineBreaks;
     }
 
     /**
@@ -163,51 +165,64 @@ public final class FileText {
             throw new IllegalStateException(message, ex);
         }
 
-        fullText = readFile(file, decoder);
-
-        // Use the BufferedReader to break down the lines as this
-        // is about 30% faster than using the
-        // LINE_TERMINATOR.split(fullText, -1) method
-        try (BufferedReader reader = new BufferedReader(new StringReader(fullText))) {
-            final ArrayList<String> textLines = new ArrayList<>();
-            while (true) {
-                final String line = reader.readLine();
-                if (line == null) {
-                    break;
-                }
-                textLines.add(line);
-            }
-            lines = textLines.toArray(CommonUtil.EMPTY_STRING_ARRAY);
-        }
+        final CharBuffer text = decoder.decode(readFile(file));
+        lineBreaks = findReadLineBreaks(text);
+        fullText = text.toString();
+        lines = new String[lineBreaks.length - 1];
     }
 
     /**
-     * Reads file using specific decoder and returns all its content as a String.
+     * Reads all bytes of a file into a heap buffer, so the content is decoded in one
+     * pass. Files are not mapped into memory, as a mapping keeps the file open until
+     * it is garbage collected, which locks the file on Windows.
      *
      * @param inputFile File to read
-     * @param decoder Charset decoder
-     * @return File's text
+     * @return File's content
      * @throws IOException Unable to open or read the file
      * @throws FileNotFoundException when inputFile does not exist
      */
-    private static String readFile(final File inputFile, final CharsetDecoder decoder)
-            throws IOException {
+    private static ByteBuffer readFile(final File inputFile) throws IOException {
         if (!inputFile.exists()) {
             throw new FileNotFoundException(inputFile.getPath() + " (No such file or directory)");
         }
-        final StringBuilder buf = new StringBuilder(1024);
-        final InputStream stream = Files.newInputStream(inputFile.toPath());
-        try (Reader reader = new InputStreamReader(stream, decoder)) {
-            final char[] chars = new char[READ_BUFFER_SIZE];
-            while (true) {
-                final int len = reader.read(chars);
-                if (len == -1) {
-                    break;
+        return ByteBuffer.wrap(Files.readAllBytes(inputFile.toPath()));
+    }
+
+    /**
+     * Finds the first position of each line of a text that was read, the same
+     * way {@link java.io.BufferedReader#readLine()} breaks it into lines.
+     *
+     * @param text the text
+     * @return an array giving the first positions of each line, followed by
+     *         the end of the text if the last line has no terminator.
+     */
+    private static int[] findReadLineBreaks(CharBuffer text) {
+        int[] lineBreakPositions = new int[INITIAL_LINE_BREAKS_CAPACITY];
+        int count = 1;
+        final int length = text.length();
+        int pos = 0;
+        while (pos < length) {
+            final char chr = text.get(pos);
+            pos++;
+            if (chr == '\r' && pos < length && text.get(pos) == '\n') {
+                pos++;
+            }
+            if (chr == '\n' || chr == '\r') {
+                if (count == lineBreakPositions.length) {
+                    lineBreakPositions = Arrays.copyOf(lineBreakPositions, count * 2);
                 }
-                buf.append(chars, 0, len);
+                lineBreakPositions[count] = pos;
+                count++;
             }
         }
-        return buf.toString();
+        if (lineBreakPositions[count - 1] < length) {
+            lineBreakPositions = Arrays.copyOf(lineBreakPositions, count + 1);
+            lineBreakPositions[count] = length;
+        }
+        else {
+            lineBreakPositions = Arrays.copyOf(lineBreakPositions, count);
+        }
+        return lineBreakPositions;
     }
 
     /**
@@ -218,7 +233,21 @@ public final class FileText {
      * @return the line with the given number
      */
     public String get(final int lineNo) {
-        return lines[lineNo];
+        String line = lines[lineNo];
+        if (line == null) {
+            // concurrent readers may both create the line, which is harmless
+            final int start = lineBreaks[lineNo];
+            int end = lineBreaks[lineNo + 1];
+            if (end > start && fullText.charAt(end - 1) == '\n') {
+                end--;
+            }
+            if (end > start && fullText.charAt(end - 1) == '\r') {
+                end--;
+            }
+            line = fullText.substring(start, end);
+            lines[lineNo] = line;
+        }
+        return line;
     }
 
     /**
@@ -257,6 +286,9 @@ public final class FileText {
      * @return an array of all lines of the text
      */
     public String[] toLinesArray() {
+        for (int lineNo = 0; lineNo < lines.length; lineNo++) {
+            get(lineNo);
+        }
         return lines.clone();
     }
 
@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.api;
+
+/**
+ * The wall time spent on a file, split into the phases of its processing.
+ * Carried by the {@link AuditEvent} that notifies listeners about the end of a file.
+ *
+ * @see AuditEvent#getTimings()
+ */
+public final class FileTimings {
+
+    /** Time spent reading the file, in nanoseconds. */
+    private final long readNanos;
+
+    /** Time spent parsing the file, in nanoseconds. */
+    private final long parseNanos;
+
+    /** Time spent by checks walking the file, in nanoseconds. */
+    private final long walkNanos;
+
+    /** Time spent filtering the violations of the file, in nanoseconds. */
+    private final long filterNanos;
+
+    /**
+     * Creates a new {@code FileTimings} instance.
+     *
+     * @param readNanos time spent reading the file, in nanoseconds
+     * @param parseNanos time spent parsing the file, in nanoseconds
+     * @param walkNanos time spent by checks walking the file, in nanoseconds
+     * @param filterNanos time spent filtering the violations of the file, in nanoseconds
+     */
+    public FileTimings(long readNanos, long parseNanos, long walkNanos, long filterNanos) {
+        this.readNanos = readNanos;
+        this.parseNanos = parseNanos;
+        this.walkNanos = walkNanos;
+        this.filterNanos = filterNanos;
+    }
+
+    /**
+     * Returns the time spent reading the file.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getReadNanos() {
+        return readNanos;
+    }
+
+    /**
+     * Returns the time spent parsing the file, including appending comment nodes.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    /**
+     * Returns the time spent by checks on the file, apart from parsing and filtering.
+     * For a TreeWalker it is the walk of the tree, for other FileSetChecks the whole
+     * processing of the file.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getWalkNanos() {
+        return walkNanos;
+    }
+
+    /**
+     * Returns the time spent by filters, including the filters of TreeWalker.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getFilterNanos() {
+        return filterNanos;
+    }
+
+    /**
+     * Returns the time spent on the file in all phases.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return readNanos + parseNanos + walkNanos + filterNanos;
+    }
+
+}
@@ -21,8 +21,11 @@ package com.puppycrawl.tools.checkstyle.api;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.puppycrawl.tools.checkstyle.LocalizedMessage;
 import com.puppycrawl.tools.checkstyle.utils.UnmodifiableCollectionUtil;
@@ -42,6 +45,20 @@ public final class Violation
     /** The default severity level if one is not specified. */
     private static final SeverityLevel DEFAULT_SEVERITY = SeverityLevel.ERROR;
 
+    /** Orders nullable strings, {@code null} first. */
+    private static final Comparator<String> NULLS_FIRST =
+            Comparator.nullsFirst(Comparator.naturalOrder());
+
+    /** Orders violations of the same module by key, bundle, custom message and arguments. */
+    private static final Comparator<Violation> STRUCTURAL_ORDER = Comparator
+            .comparing((Violation violation) -> violation.key, NULLS_FIRST)
+            .thenComparing(violation -> violation.bundle, NULLS_FIRST)
+            .thenComparing(violation -> violation.customMessage, NULLS_FIRST)
+            .thenComparing(violation -> violation.args, Violation::compareArgs);
+
+    /** Compiled custom message formats, keyed by their pattern. */
+    private static final Map<String, MessageFormat> CUSTOM_FORMATS = new ConcurrentHashMap<>();
+
     /** The line number. **/
     private final int lineNo;
     /** The column number. **/
@@ -72,6 +89,12 @@ public final class Violation
     /** A custom violation overriding the default violation from the bundle. */
     private final String customMessage;
 
+    /**
+     * The translated violation, created when it is first requested.
+     * Races are benign as every thread creates an equal text.
+     */
+    private String violationText;
+
     /**
      * Creates a new {@code Violation} instance.
      *
@@ -119,6 +142,10 @@ public final class Violation
         this.moduleId = moduleId;
         this.sourceClass = sourceClass;
         this.customMessage = customMessage;
+        // custom messages are compiled right away, so an invalid format fails the log call
+        if (customMessage != null) {
+            getCustomFormat(customMessage);
+        }
     }
 
     /**
@@ -392,7 +419,7 @@ public final class Violation
             if (columnNo == other.columnNo) {
                 if (Objects.equals(moduleId, other.moduleId)) {
                     if (Objects.equals(sourceClass, other.sourceClass)) {
-                        result = getViolation().compareTo(other.getViolation());
+                        result = compareViolations(other);
                     }
                     else if (sourceClass == null) {
                         result = -1;
@@ -424,22 +451,64 @@ public final class Violation
         return result;
     }
 
+    /**
+     * Compares two violations of the same module by the key, bundle, custom message
+     * and arguments they are created from, so they are not translated to be ordered.
+     *
+     * @param other the violation to compare to
+     * @return the result of comparing the violations
+     */
+    private int compareViolations(Violation other) {
+        return STRUCTURAL_ORDER.compare(this, other);
+    }
+
+    /**
+     * Compares the arguments of two violations by their string values.
+     *
+     * @param first the arguments of the first violation, may be {@code null}
+     * @param second the arguments of the second violation, may be {@code null}
+     * @return the result of comparing the arguments
+     */
+    private static int compareArgs(Object[] first, Object[] second) {
+        return Arrays.compare(first, second, Comparator.comparing(Objects::toString));
+    }
+
     /**
      * Gets the translated violation.
      *
      * @return the translated violation
      */
     public String getViolation() {
-        final String violation;
+        String violation = violationText;
 
-        if (customMessage != null) {
-            violation = new MessageFormat(customMessage, Locale.ROOT).format(args);
-        }
-        else {
-            violation = new LocalizedMessage(bundle, sourceClass, key, args).getMessage();
+        if (violation == null) {
+            if (customMessage == null) {
+                violation = new LocalizedMessage(bundle, sourceClass, key, args).getMessage();
+            }
+            else {
+                final MessageFormat formatter = getCustomFormat(customMessage);
+                // MessageFormat is not thread safe, the cached instance is shared
+                synchronized (formatter) {
+                    violation = formatter.format(args);
+                }
+            }
+            violationText = violation;
         }
 
         return violation;
     }
 
+    /**
+     * Gets the compiled format of a custom message, compiling it when it is
+     * first used.
+     *
+     * @param pattern the custom message
+     * @return the compiled format
+     * @throws IllegalArgumentException if the custom message is not a valid format
+     */
+    private static MessageFormat getCustomFormat(String pattern) {
+        return CUSTOM_FORMATS.computeIfAbsent(pattern,
+            ignored -> new MessageFormat(pattern, Locale.ROOT));
+    }
+
 }
@@ -19,13 +19,17 @@
 
 package com.puppycrawl.tools.checkstyle.checks;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import com.puppycrawl.tools.checkstyle.StatelessCheck;
@@ -91,6 +95,15 @@ public class SuppressWarningsHolder
     private static final ThreadLocal<List<Entry>> ENTRIES =
             ThreadLocal.withInitial(LinkedList::new);
 
+    /**
+     * A thread-local holder for the index of the suppression entries for the
+     * last file parsed, built on the first check of a suppression.
+     */
+    private static final ThreadLocal<EntryIndex> INDEX = new ThreadLocal<>();
+
+    /** A cache of the keys of the default aliases of checks, by check source name. */
+    private static final Map<String, String> DEFAULT_ALIAS_KEYS = new ConcurrentHashMap<>();
+
     /**
      * Compiled pattern used to match whitespace in text block content.
      */
@@ -174,6 +187,8 @@ public class SuppressWarningsHolder
     /**
      * Checks for a suppression of a check with the given source name and
      * location in the last file processed.
+     * The suppressions of a file are indexed on the first check, so every
+     * further check is a binary search among the suppressions of the same check.
      *
      * @param event audit event.
      * @return whether the check with the given name is suppressed at the given
@@ -181,58 +196,48 @@ public class SuppressWarningsHolder
      */
     public static boolean isSuppressed(AuditEvent event) {
         final List<Entry> entries = ENTRIES.get();
-        final String sourceName = event.getSourceName();
-        final String checkAlias = getAlias(sourceName);
-        final int line = event.getLine();
-        final int column = event.getColumn();
-        boolean suppressed = false;
-        for (Entry entry : entries) {
-            final boolean afterStart = isSuppressedAfterEventStart(line, column, entry);
-            final boolean beforeEnd = isSuppressedBeforeEventEnd(line, column, entry);
-            final String checkName = entry.getCheckName();
-            final boolean nameMatches =
-                ALL_WARNING_MATCHING_ID.equals(checkName)
-                    || checkName.equalsIgnoreCase(checkAlias)
-                    || getDefaultAlias(checkName).equalsIgnoreCase(checkAlias);
-            if (afterStart && beforeEnd
-                    && (nameMatches || checkName.equals(event.getModuleId()))) {
-                suppressed = true;
-                break;
-            }
+        EntryIndex index = INDEX.get();
+        if (index == null || index.size != entries.size()) {
+            index = new EntryIndex(entries);
+            INDEX.set(index);
         }
-        return suppressed;
+        return index.isSuppressed(event);
     }
 
     /**
-     * Checks whether suppression entry position is after the audit event occurrence position
-     * in the source file.
+     * Returns the key of the alias of a check. The key of the default alias
+     * is cached, as it only depends on the source name.
      *
-     * @param line the line number in the source file where the event occurred.
-     * @param column the column number in the source file where the event occurred.
-     * @param entry suppression entry.
-     * @return true if suppression entry position is after the audit event occurrence position
-     *         in the source file.
+     * @param sourceName the source name of the check
+     * @return the key of the current alias for the given check
      */
-    private static boolean isSuppressedAfterEventStart(int line, int column, Entry entry) {
-        return entry.getFirstLine() < line
-            || entry.getFirstLine() == line
-            && (column == 0 || entry.getFirstColumn() <= column);
+    private static String getAliasKey(String sourceName) {
+        final String checkAlias = CHECK_ALIAS_MAP.get(sourceName);
+        final String aliasKey;
+        if (checkAlias == null) {
+            aliasKey = DEFAULT_ALIAS_KEYS.computeIfAbsent(sourceName,
+                name -> toCaseInsensitiveKey(getDefaultAlias(name)));
+        }
+        else {
+            aliasKey = toCaseInsensitiveKey(checkAlias);
+        }
+        return aliasKey;
     }
 
     /**
-     * Checks whether suppression entry position is before the audit event occurrence position
-     * in the source file.
+     * Returns a key for a name, such that the keys of two names are equal
+     * exactly when {@link String#equalsIgnoreCase(String)} considers the
+     * names equal.
      *
-     * @param line the line number in the source file where the event occurred.
-     * @param column the column number in the source file where the event occurred.
-     * @param entry suppression entry.
-     * @return true if suppression entry position is before the audit event occurrence position
-     *         in the source file.
+     * @param name the name
+     * @return the key of the name
      */
-    private static boolean isSuppressedBeforeEventEnd(int line, int column, Entry entry) {
-        return entry.getLastLine() > line
-            || entry.getLastLine() == line && entry
-                .getLastColumn() >= column;
+    private static String toCaseInsensitiveKey(String name) {
+        final char[] key = name.toCharArray();
+        for (int index = 0; index < key.length; index++) {
+            key[index] = Character.toLowerCase(Character.toUpperCase(key[index]));
+        }
+        return String.valueOf(key);
     }
 
     @Override
@@ -253,6 +258,7 @@ public class SuppressWarningsHolder
     @Override
     public void beginTree(DetailAST rootAST) {
         ENTRIES.get().clear();
+        INDEX.remove();
     }
 
     @Override
@@ -515,6 +521,7 @@ public class SuppressWarningsHolder
     public void destroy() {
         super.destroy();
         ENTRIES.remove();
+        INDEX.remove();
     }
 
     /** Records a particular suppression for a region of a file. */
@@ -596,4 +603,154 @@ public class SuppressWarningsHolder
 
     }
 
+    /**
+     * Indexes the suppression entries of a file by the names they match, so
+     * each event is only compared with the entries of its own check.
+     */
+    private static final class EntryIndex {
+
+        /** The number of indexed entries. */
+        private final int size;
+
+        /** Regions of entries, by the key of their check name and default alias. */
+        private final Map<String, Regions> regionsByAlias = new HashMap<>();
+
+        /** Regions of entries, by their check name matched against module ids. */
+        private final Map<String, Regions> regionsByName = new HashMap<>();
+
+        /** Regions of the entries suppressing all checks. */
+        private final Regions allRegions;
+
+        /**
+         * Indexes the given entries.
+         *
+         * @param entries the suppression entries of a file
+         */
+        private EntryIndex(List<Entry> entries) {
+            size = entries.size();
+            final Map<String, List<Entry>> entriesByAlias = new HashMap<>();
+            final Map<String, List<Entry>> entriesByName = new HashMap<>();
+            final List<Entry> allEntries = new ArrayList<>();
+            for (Entry entry : entries) {
+                final String checkName = entry.getCheckName();
+                if (ALL_WARNING_MATCHING_ID.equals(checkName)) {
+                    allEntries.add(entry);
+                }
+                final String nameKey = toCaseInsensitiveKey(checkName);
+                final String defaultAliasKey =
+                    toCaseInsensitiveKey(getDefaultAlias(checkName));
+                entriesByAlias.computeIfAbsent(nameKey, key -> new ArrayList<>()).add(entry);
+                if (!defaultAliasKey.equals(nameKey)) {
+                    entriesByAlias.computeIfAbsent(defaultAliasKey, key -> new ArrayList<>())
+                        .add(entry);
+                }
+                entriesByName.computeIfAbsent(checkName, key -> new ArrayList<>()).add(entry);
+            }
+            entriesByAlias.forEach((key, value) -> regionsByAlias.put(key, new Regions(value)));
+            entriesByName.forEach((key, value) -> regionsByName.put(key, new Regions(value)));
+            allRegions = new Regions(allEntries);
+        }
+
+        /**
+         * Checks whether an entry suppresses the given event.
+         *
+         * @param event audit event
+         * @return whether the check of the event is suppressed at its location
+         */
+        private boolean isSuppressed(AuditEvent event) {
+            final int line = event.getLine();
+            final int column = event.getColumn();
+            final Regions aliasRegions =
+                regionsByAlias.get(getAliasKey(event.getSourceName()));
+            boolean suppressed = allRegions.contains(line, column)
+                || aliasRegions != null && aliasRegions.contains(line, column);
+            final String moduleId = event.getModuleId();
+            if (!suppressed && moduleId != null) {
+                final Regions nameRegions = regionsByName.get(moduleId);
+                suppressed = nameRegions != null && nameRegions.contains(line, column);
+            }
+            return suppressed;
+        }
+
+    }
+
+    /**
+     * Suppression regions sorted by their start, with the furthest end of
+     * the regions starting up to each of them. A location is in a region
+     * exactly when the furthest end of the regions starting before it is
+     * after it, which a binary search finds.
+     */
+    private static final class Regions {
+
+        /** The starts of the regions, in ascending order. */
+        private final long[] starts;
+
+        /** The furthest end of the regions up to the same index in {@link #starts}. */
+        private final long[] furthestEnds;
+
+        /**
+         * Sorts the regions of the given entries.
+         *
+         * @param entries the suppression entries
+         */
+        private Regions(List<Entry> entries) {
+            final Entry[] sorted = entries.toArray(new Entry[0]);
+            Arrays.sort(sorted, Comparator.comparingLong(
+                entry -> toPosition(entry.getFirstLine(), entry.getFirstColumn())));
+            starts = new long[sorted.length];
+            furthestEnds = new long[sorted.length];
+            long furthestEnd = Long.MIN_VALUE;
+            for (int index = 0; index < sorted.length; index++) {
+                final Entry entry = sorted[index];
+                starts[index] = toPosition(entry.getFirstLine(), entry.getFirstColumn());
+                furthestEnd = Math.max(furthestEnd,
+                    toPosition(entry.getLastLine(), entry.getLastColumn()));
+                furthestEnds[index] = furthestEnd;
+            }
+        }
+
+        /**
+         * Checks whether a location is in any of the regions. An event without
+         * a column is in the regions starting on its line.
+         *
+         * @param line the line number of the location
+         * @param column the column number of the location
+         * @return true if the location is in a region
+         */
+        private boolean contains(int line, int column) {
+            final long start;
+            if (column == 0) {
+                start = toPosition(line, Integer.MAX_VALUE);
+            }
+            else {
+                start = toPosition(line, column);
+            }
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (starts[middle] <= start) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+            return low > 0 && furthestEnds[low - 1] >= toPosition(line, column);
+        }
+
+        /**
+         * Combines a line and a column into a number ordered like locations
+         * in a file.
+         *
+         * @param line the line number
+         * @param column the column number
+         * @return the position
+         */
+        private static long toPosition(int line, int column) {
+            return ((long) line << Integer.SIZE) + column;
+        }
+
+    }
+
 }
@@ -26,6 +26,7 @@ import com.puppycrawl.tools.checkstyle.StatelessCheck;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
 import com.puppycrawl.tools.checkstyle.xpath.AbstractNode;
 import com.puppycrawl.tools.checkstyle.xpath.RootNode;
 import net.sf.saxon.Configuration;
@@ -150,7 +151,7 @@ public class MatchXpathCheck extends AbstractCheck {
      */
     private List<DetailAST> findMatchingNodesByXpathQuery(DetailAST rootAST) {
         try {
-            final RootNode rootNode = new RootNode(rootAST);
+            final RootNode rootNode = XpathUtil.getSharedRootNode(rootAST);
             final XPathDynamicContext xpathDynamicContext =
                     xpathExpression.createDynamicContext(rootNode);
             final List<Item> matchingItems = xpathExpression.evaluate(xpathDynamicContext);
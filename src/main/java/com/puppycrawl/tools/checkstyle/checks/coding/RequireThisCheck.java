@@ -30,6 +30,7 @@ import java.util.Queue;
 import java.util.Set;
 
 import com.puppycrawl.tools.checkstyle.FileStatefulCheck;
+import com.puppycrawl.tools.checkstyle.SemanticModel;
 import com.puppycrawl.tools.checkstyle.api.AbstractCheck;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
@@ -232,17 +233,46 @@ public class RequireThisCheck extends AbstractCheck {
         current.clear();
 
         final Deque<AbstractFrame> frameStack = new LinkedList<>();
-        DetailAST curNode = rootAST;
-        while (curNode != null) {
-            collectDeclarations(frameStack, curNode);
-            DetailAST toVisit = curNode.getFirstChild();
-            while (curNode != null && toVisit == null) {
-                endCollectingDeclarations(frameStack, curNode);
-                toVisit = curNode.getNextSibling();
-                curNode = curNode.getParent();
+        final SemanticModel model = SemanticModel.of(rootAST);
+        for (SemanticModel.DeclarationScope scope : model.getFileScope().getChildren()) {
+            collectScope(frameStack, scope);
+        }
+    }
+
+    /**
+     * Builds the frames of a scope of the shared semantic model and of its nested
+     * scopes. Scopes that are not frames of this check, like lambdas, are skipped
+     * by {@link #collectDeclarations} and {@link #endCollectingDeclarations}.
+     *
+     * @param frameStack stack containing the FrameTree being built.
+     * @param scope the scope to collect.
+     */
+    private void collectScope(Deque<AbstractFrame> frameStack,
+                              SemanticModel.DeclarationScope scope) {
+        final DetailAST scopeAst = scope.getAst();
+        // an enum constant with a body was collected as a field of its enum
+        if (scopeAst.getType() != TokenTypes.ENUM_CONSTANT_DEF) {
+            collectDeclarations(frameStack, scopeAst);
+        }
+        if (scopeAst.getType() == TokenTypes.LITERAL_TRY) {
+            // all resources are collected here, the model leaves out resources
+            // referring to existing variables as they are not declarations
+            final DetailAST resources = scopeAst.getFirstChild()
+                    .findFirstToken(TokenTypes.RESOURCES);
+            for (DetailAST resource = resources.getFirstChild(); resource != null;
+                    resource = resource.getNextSibling()) {
+                collectDeclarations(frameStack, resource);
             }
-            curNode = toVisit;
         }
+        scope.getFields().forEach(field -> collectDeclarations(frameStack, field));
+        scope.getParameters().forEach(parameter -> collectDeclarations(frameStack, parameter));
+        scope.getLocals().stream()
+                .filter(local -> local.getType() != TokenTypes.RESOURCE)
+                .forEach(local -> collectDeclarations(frameStack, local));
+        for (SemanticModel.DeclarationScope child : scope.getChildren()) {
+            collectScope(frameStack, child);
+        }
+        endCollectingDeclarations(frameStack, scopeAst);
     }
 
     @Override
@@ -728,11 +728,10 @@ public class CustomImportOrderCheck extends AbstractCheck {
      */
     private int getCountOfEmptyLinesBetween(int fromLineNo, int toLineNo) {
         int result = 0;
-        final String[] lines = getLines();
 
         for (int i = fromLineNo + 1; i <= toLineNo - 1; i++) {
             // "- 1" because the numbering is one-based
-            if (CommonUtil.isBlank(lines[i - 1])) {
+            if (CommonUtil.isBlank(getLine(i - 1))) {
                 result++;
             }
         }
@@ -20,6 +20,7 @@
 package com.puppycrawl.tools.checkstyle.checks.javadoc;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -81,6 +82,8 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
     /**
      * Key is "line:column". Value is {@link DetailNode} tree. Map is stored in {@link ThreadLocal}
      * to guarantee basic thread safety and avoid shared, mutable state when not necessary.
+     * Used when checks are notified one by one, {@link JavadocDispatcher} parses each
+     * comment once by itself.
      */
     private static final ThreadLocal<Map<LineColumn, ParseStatus>> TREE_CACHE =
             ThreadLocal.withInitial(HashMap::new);
@@ -318,7 +321,7 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
     public final void visitToken(DetailAST blockCommentNode) {
         if (JavadocUtil.isJavadocComment(blockCommentNode)) {
             // store as field, to share with child Checks
-            context.get().blockCommentAst = blockCommentNode;
+            setBlockCommentAst(blockCommentNode);
 
             final LineColumn treeCacheKey = new LineColumn(blockCommentNode.getLineNo(),
                     blockCommentNode.getColumnNo());
@@ -327,24 +330,53 @@ public abstract class AbstractJavadocCheck extends AbstractCheck {
                 return context.get().parser.parseJavadocAsDetailNode(blockCommentNode);
             });
 
-            if (result.getParseErrorMessage() == null) {
-                if (acceptJavadocWithNonTightHtml() || !result.isNonTight()) {
-                    processTree(result.getTree());
-                }
-
-                if (violateExecutionOnNonTightHtml && result.isNonTight()) {
-                    log(result.getFirstNonTightHtmlTag().getLine(),
-                            MSG_KEY_UNCLOSED_HTML_TAG,
-                            result.getFirstNonTightHtmlTag().getText());
-                }
+            if (result.getParseErrorMessage() == null
+                    && (acceptJavadocWithNonTightHtml() || !result.isNonTight())) {
+                processTree(result.getTree());
             }
-            else {
-                final ParseErrorMessage parseErrorMessage = result.getParseErrorMessage();
-                log(parseErrorMessage.getLineNumber(),
-                        parseErrorMessage.getMessageKey(),
-                        parseErrorMessage.getMessageArguments());
+            logParseStatus(result);
+        }
+    }
+
+    /**
+     * Logs the parse error of a Javadoc comment, or its first non-tight HTML tag
+     * if the check reports them.
+     *
+     * @param parseStatus the result of parsing the comment
+     */
+    /* package */ void logParseStatus(ParseStatus parseStatus) {
+        final ParseErrorMessage parseErrorMessage = parseStatus.getParseErrorMessage();
+        if (parseErrorMessage == null) {
+            if (violateExecutionOnNonTightHtml && parseStatus.isNonTight()) {
+                log(parseStatus.getFirstNonTightHtmlTag().getLine(),
+                        MSG_KEY_UNCLOSED_HTML_TAG,
+                        parseStatus.getFirstNonTightHtmlTag().getText());
             }
         }
+        else {
+            log(parseErrorMessage.getLineNumber(),
+                    parseErrorMessage.getMessageKey(),
+                    parseErrorMessage.getMessageArguments());
+        }
+    }
+
+    /**
+     * Returns the javadoc tokens the check is interested in, once the check is initialized.
+     *
+     * @return the javadoc token types
+     */
+    /* package */ Set<Integer> getJavadocTokens() {
+        return Collections.unmodifiableSet(javadocTokens);
+    }
+
+    /**
+     * Sets the block comment in Java language syntax tree of the Javadoc comment
+     * being processed.
+     *
+     * @param blockCommentAst the {@code BLOCK_COMMENT_BEGIN} node of the comment
+     */
+    /* package */ void setBlockCommentAst(DetailAST blockCommentAst) {
+        context.get().blockCommentAst = blockCommentAst;
     }
 
     /**
@@ -0,0 +1,400 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.checks.javadoc;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser;
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser.ParseStatus;
+import com.puppycrawl.tools.checkstyle.ModuleProfiler;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
+import com.puppycrawl.tools.checkstyle.utils.JavadocUtil;
+
+/**
+ * Notifies many Javadoc checks of the Javadoc comments of a tree at once. Each comment
+ * is parsed once and its {@link DetailNode} tree is walked once for all checks, which
+ * are notified through arrays indexed by Javadoc token type. Checks are notified in
+ * the order they were given, exactly like each check notifies itself in
+ * {@link AbstractJavadocCheck#visitToken(DetailAST)}.
+ *
+ * <p>Comments of plain text, without HTML, inline tags and block tags, are not parsed
+ * when no check can be notified of them. Such comments always parse without errors
+ * and with tight HTML, so no violation is missed. Other comments are always parsed,
+ * as every check reports their parse errors.</p>
+ *
+ * <p>A dispatcher is not thread safe, it is used by the thread walking the tree.</p>
+ */
+public final class JavadocDispatcher {
+
+    /** Checks notified for token types without interested checks. */
+    private static final AbstractJavadocCheck[] NO_CHECKS = new AbstractJavadocCheck[0];
+
+    /** The difference between indexes of the tables and token types, {@code EOF} is -1. */
+    private static final int INDEX_OFFSET = -JavadocTokenTypes.EOF;
+
+    /** Javadoc token types of the tree of a comment of plain text. */
+    private static final int[] PLAIN_TEXT_TOKENS = {
+        JavadocTokenTypes.JAVADOC,
+        JavadocTokenTypes.LEADING_ASTERISK,
+        JavadocTokenTypes.NEWLINE,
+        JavadocTokenTypes.TEXT,
+        JavadocTokenTypes.WS,
+        JavadocTokenTypes.CHAR,
+        JavadocTokenTypes.EOF,
+    };
+
+    /** The parser of Javadoc comments. */
+    private final JavadocDetailNodeParser parser = new JavadocDetailNodeParser();
+
+    /** All checks, in notification order. */
+    private final AbstractJavadocCheck[] checks;
+
+    /** All checks by token type, notified for comments with tight HTML. */
+    private final TokenTable tightHtmlTable;
+
+    /** Checks accepting non-tight HTML by token type, notified for other comments. */
+    private final TokenTable nonTightHtmlTable;
+
+    /** Whether comments of plain text are parsed, as a check can be notified of them. */
+    private final boolean plainTextParsed;
+
+    /**
+     * Creates a dispatcher of initialized checks.
+     *
+     * @param checks the checks, in notification order
+     */
+    public JavadocDispatcher(Collection<AbstractJavadocCheck> checks) {
+        this.checks = checks.toArray(NO_CHECKS);
+        tightHtmlTable = new TokenTable(this.checks);
+        nonTightHtmlTable = new TokenTable(Arrays.stream(this.checks)
+                .filter(AbstractJavadocCheck::acceptJavadocWithNonTightHtml)
+                .toArray(AbstractJavadocCheck[]::new));
+        plainTextParsed = Arrays.stream(this.checks)
+                .anyMatch(JavadocDispatcher::isNotifiedOfPlainText);
+    }
+
+    /**
+     * Notifies the checks of a block comment, if it is a Javadoc comment.
+     *
+     * @param blockCommentNode the {@code BLOCK_COMMENT_BEGIN} node
+     * @param profiler the profiler measuring the checks, {@code null} if not profiling
+     */
+    public void visitBlockComment(DetailAST blockCommentNode, ModuleProfiler profiler) {
+        if (JavadocUtil.isJavadocComment(blockCommentNode)
+                && (plainTextParsed || !isPlainText(blockCommentNode))) {
+            final ParseStatus parseStatus = parse(blockCommentNode, profiler);
+            for (AbstractJavadocCheck check : checks) {
+                check.setBlockCommentAst(blockCommentNode);
+            }
+            if (parseStatus.getParseErrorMessage() == null) {
+                final TokenTable table;
+                if (parseStatus.isNonTight()) {
+                    table = nonTightHtmlTable;
+                }
+                else {
+                    table = tightHtmlTable;
+                }
+                processTree(parseStatus.getTree(), table, profiler);
+            }
+            for (AbstractJavadocCheck check : checks) {
+                check.logParseStatus(parseStatus);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a Javadoc comment is plain text. HTML starts with {@code <}, inline
+     * and block tags start with {@code @}. A comment without both characters is parsed
+     * into nodes of {@link #PLAIN_TEXT_TOKENS} only.
+     *
+     * @param blockCommentNode the {@code BLOCK_COMMENT_BEGIN} node of the comment
+     * @return true if the comment has no HTML, inline tags and block tags
+     */
+    private static boolean isPlainText(DetailAST blockCommentNode) {
+        final String content = blockCommentNode.getFirstChild().getText();
+        return content.indexOf('<') == -1 && content.indexOf('@') == -1;
+    }
+
+    /**
+     * Checks whether a check can be notified of a comment of plain text: it is
+     * interested in a token of such comments or it overrides the notification
+     * of the beginning or the end of every tree.
+     *
+     * @param check the check to examine
+     * @return true if the check can be notified of a comment of plain text
+     */
+    private static boolean isNotifiedOfPlainText(AbstractJavadocCheck check) {
+        final Set<Integer> javadocTokens = check.getJavadocTokens();
+        return Arrays.stream(PLAIN_TEXT_TOKENS).anyMatch(javadocTokens::contains)
+                || Arrays.stream(check.getClass().getMethods())
+                    .anyMatch(method -> {
+                        final String name = method.getName();
+                        return ("beginJavadocTree".equals(name)
+                                    || "finishJavadocTree".equals(name))
+                                && method.getDeclaringClass() != AbstractJavadocCheck.class;
+                    });
+    }
+
+    /**
+     * Parses a Javadoc comment.
+     *
+     * @param blockCommentNode the {@code BLOCK_COMMENT_BEGIN} node of the comment
+     * @param profiler the profiler measuring the parser, {@code null} if not profiling
+     * @return the result of parsing
+     */
+    private ParseStatus parse(DetailAST blockCommentNode, ModuleProfiler profiler) {
+        final ParseStatus result;
+        if (profiler == null) {
+            result = parser.parseJavadocAsDetailNode(blockCommentNode);
+        }
+        else {
+            final long startBytes = profiler.getAllocatedBytes();
+            final long startNanos = System.nanoTime();
+            result = parser.parseJavadocAsDetailNode(blockCommentNode);
+            profiler.addSample(JavadocDetailNodeParser.class, ModuleProfiler.Phase.PARSE,
+                    startNanos, startBytes);
+        }
+        return result;
+    }
+
+    /**
+     * Processes the tree of a Javadoc comment with the checks of a table.
+     *
+     * @param root the root of the tree
+     * @param table the checks interested in each token
+     * @param profiler the profiler measuring the checks, {@code null} if not profiling
+     */
+    private static void processTree(DetailNode root, TokenTable table,
+            ModuleProfiler profiler) {
+        for (AbstractJavadocCheck check : table.checks) {
+            if (profiler == null) {
+                check.beginJavadocTree(root);
+            }
+            else {
+                final long startBytes = profiler.getAllocatedBytes();
+                final long startNanos = System.nanoTime();
+                check.beginJavadocTree(root);
+                profiler.addSample(check.getClass(), ModuleProfiler.Phase.BEGIN_TREE,
+                        startNanos, startBytes);
+            }
+        }
+        walk(root, table, profiler);
+        for (AbstractJavadocCheck check : table.checks) {
+            if (profiler == null) {
+                check.finishJavadocTree(root);
+            }
+            else {
+                final long startBytes = profiler.getAllocatedBytes();
+                final long startNanos = System.nanoTime();
+                check.finishJavadocTree(root);
+                profiler.addSample(check.getClass(), ModuleProfiler.Phase.FINISH_TREE,
+                        startNanos, startBytes);
+            }
+        }
+    }
+
+    /**
+     * Walks the tree of a Javadoc comment, notifying interested checks at each node.
+     *
+     * @param root the root of the tree
+     * @param table the checks interested in each token
+     * @param profiler the profiler measuring the checks, {@code null} if not profiling
+     */
+    private static void walk(DetailNode root, TokenTable table, ModuleProfiler profiler) {
+        DetailNode curNode = root;
+        while (curNode != null) {
+            notifyVisit(curNode, table.getVisitors(curNode.getType()), profiler);
+            DetailNode toVisit = JavadocUtil.getFirstChild(curNode);
+            while (curNode != null && toVisit == null) {
+                notifyLeave(curNode, table.getLeavers(curNode.getType()), profiler);
+                toVisit = JavadocUtil.getNextSibling(curNode);
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+    }
+
+    /**
+     * Notifies checks of visiting a node.
+     *
+     * @param node the node
+     * @param visitors the checks to notify
+     * @param profiler the profiler measuring the checks, {@code null} if not profiling
+     */
+    private static void notifyVisit(DetailNode node, AbstractJavadocCheck[] visitors,
+            ModuleProfiler profiler) {
+        for (AbstractJavadocCheck check : visitors) {
+            if (profiler == null) {
+                check.visitJavadocToken(node);
+            }
+            else {
+                final long startBytes = profiler.getAllocatedBytes();
+                final long startNanos = System.nanoTime();
+                check.visitJavadocToken(node);
+                profiler.addSample(check.getClass(), ModuleProfiler.Phase.VISIT_TOKEN,
+                        startNanos, startBytes);
+            }
+        }
+    }
+
+    /**
+     * Notifies checks of leaving a node.
+     *
+     * @param node the node
+     * @param leavers the checks to notify
+     * @param profiler the profiler measuring the checks, {@code null} if not profiling
+     */
+    private static void notifyLeave(DetailNode node, AbstractJavadocCheck[] leavers,
+            ModuleProfiler profiler) {
+        for (AbstractJavadocCheck check : leavers) {
+            if (profiler == null) {
+                check.leaveJavadocToken(node);
+            }
+            else {
+                final long startBytes = profiler.getAllocatedBytes();
+                final long startNanos = System.nanoTime();
+                check.leaveJavadocToken(node);
+                profiler.addSample(check.getClass(), ModuleProfiler.Phase.LEAVE_TOKEN,
+                        startNanos, startBytes);
+            }
+        }
+    }
+
+    /**
+     * Checks interested in each Javadoc token, in arrays indexed by token type.
+     * Checks that do not override {@link AbstractJavadocCheck#leaveJavadocToken(DetailNode)}
+     * are left out of the checks notified when leaving a token.
+     */
+    private static final class TokenTable {
+
+        /** The checks of the table, in notification order. */
+        private final AbstractJavadocCheck[] checks;
+
+        /** Checks notified when visiting a token, by token type. */
+        private final AbstractJavadocCheck[][] visitors;
+
+        /** Checks notified when leaving a token, by token type. */
+        private final AbstractJavadocCheck[][] leavers;
+
+        /**
+         * Creates the table of checks.
+         *
+         * @param checks the checks, in notification order
+         */
+        private TokenTable(AbstractJavadocCheck[] checks) {
+            this.checks = checks;
+            final int size = Arrays.stream(checks)
+                    .flatMap(check -> check.getJavadocTokens().stream())
+                    .mapToInt(tokenType -> tokenType + INDEX_OFFSET)
+                    .max()
+                    .orElse(-1) + 1;
+            visitors = new AbstractJavadocCheck[size][];
+            leavers = new AbstractJavadocCheck[size][];
+            Arrays.fill(visitors, NO_CHECKS);
+            Arrays.fill(leavers, NO_CHECKS);
+            for (AbstractJavadocCheck check : checks) {
+                final boolean leaving = isLeaveJavadocTokenOverridden(check);
+                for (int tokenType : check.getJavadocTokens()) {
+                    final int index = tokenType + INDEX_OFFSET;
+                    visitors[index] = append(visitors[index], check);
+                    if (leaving) {
+                        leavers[index] = append(leavers[index], check);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the checks to notify when visiting a token.
+         *
+         * @param tokenType the type of the token
+         * @return the checks in notification order
+         */
+        private AbstractJavadocCheck[] getVisitors(int tokenType) {
+            return getChecks(visitors, tokenType);
+        }
+
+        /**
+         * Returns the checks to notify when leaving a token.
+         *
+         * @param tokenType the type of the token
+         * @return the checks in notification order
+         */
+        private AbstractJavadocCheck[] getLeavers(int tokenType) {
+            return getChecks(leavers, tokenType);
+        }
+
+        /**
+         * Returns the checks of a token type from one of the tables.
+         *
+         * @param table the table to look up
+         * @param tokenType the type of the token
+         * @return the checks in notification order
+         */
+        private static AbstractJavadocCheck[] getChecks(AbstractJavadocCheck[][] table,
+                int tokenType) {
+            final int index = tokenType + INDEX_OFFSET;
+            final AbstractJavadocCheck[] result;
+            if (index < table.length) {
+                result = table[index];
+            }
+            else {
+                result = NO_CHECKS;
+            }
+            return result;
+        }
+
+        /**
+         * Appends a check to the checks of a token type.
+         *
+         * @param tokenChecks the checks of the token type
+         * @param check the check to append
+         * @return the new checks of the token type
+         */
+        private static AbstractJavadocCheck[] append(AbstractJavadocCheck[] tokenChecks,
+                AbstractJavadocCheck check) {
+            final AbstractJavadocCheck[] result =
+                    Arrays.copyOf(tokenChecks, tokenChecks.length + 1);
+            result[tokenChecks.length] = check;
+            return result;
+        }
+
+        /**
+         * Checks whether the class of a check overrides
+         * {@link AbstractJavadocCheck#leaveJavadocToken(DetailNode)}.
+         *
+         * @param check the check to examine
+         * @return true if leaving a token may do something in the check
+         */
+        private static boolean isLeaveJavadocTokenOverridden(AbstractJavadocCheck check) {
+            return Arrays.stream(check.getClass().getMethods())
+                    .anyMatch(method -> {
+                        return "leaveJavadocToken".equals(method.getName())
+                                && method.getDeclaringClass() != AbstractJavadocCheck.class;
+                    });
+        }
+
+    }
+
+}
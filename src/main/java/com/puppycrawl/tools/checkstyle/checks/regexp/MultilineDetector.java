@@ -76,7 +76,7 @@ class MultilineDetector {
      * @param fileText the text to process
      */
     public void processLines(FileText fileText) {
-        text = new FileText(fileText);
+        text = fileText;
         resetState();
 
         final String format = options.getFormat();
@@ -163,10 +163,39 @@ public class SuppressFilterElement
         return event.getFileName() != null
                 && (fileRegexp == null || fileRegexp.matcher(event.getFileName()).find())
                 && event.getViolation() != null
-                && (moduleId == null || moduleId.equals(event.getModuleId()))
+                && isCheckMatching(event);
+    }
+
+    /**
+     * Is matching by module id and Check name.
+     *
+     * @param event event with a violation
+     * @return true if it is matching
+     */
+    /* package */ boolean isCheckMatching(AuditEvent event) {
+        return (moduleId == null || moduleId.equals(event.getModuleId()))
                 && (checkRegexp == null || checkRegexp.matcher(event.getSourceName()).find());
     }
 
+    /**
+     * Is matching by message, line and column.
+     *
+     * @param event event with a violation
+     * @return true if it is matching
+     */
+    /* package */ boolean isMessageAndLineMatching(AuditEvent event) {
+        return isMessageNameMatching(event) && isLineAndColumnMatching(event);
+    }
+
+    /**
+     * Returns the regexp to match file names against.
+     *
+     * @return the regexp, or null if the element is not restricted to some files
+     */
+    /* package */ Pattern getFileRegexp() {
+        return fileRegexp;
+    }
+
     /**
      * Is matching by message.
      *
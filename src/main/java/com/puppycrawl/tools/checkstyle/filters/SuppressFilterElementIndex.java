@@ -0,0 +1,435 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.Filter;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+
+/**
+ * Indexed view of a {@link FilterSet} of {@link SuppressFilterElement}s, so that
+ * suppressions files with many elements do not cost a scan of every element per event.
+ *
+ * <p>
+ * Elements are grouped by their {@code files} pattern and every distinct pattern is
+ * evaluated once per file. Patterns that are plain literals, optionally ending with
+ * {@code $} and using {@code [\\/]} as a path separator, are looked up by hash or by
+ * substring instead of being run as regular expressions. The elements that match
+ * the file are further grouped by check name and module id, so an event only
+ * evaluates the message, line and column criteria of the elements for its check.
+ * Any other filter of the set is applied to every event.
+ * </p>
+ */
+final class SuppressFilterElementIndex implements Filter {
+
+    /** Regular expression characters that have a special meaning. */
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+
+    /** Character class matching either path separator. */
+    private static final String SEPARATOR_CLASS = "[\\\\/]";
+
+    /** Character class matching either path separator, in reversed order. */
+    private static final String REVERSED_SEPARATOR_CLASS = "[/\\\\]";
+
+    /** Placeholder of a separator class while a pattern is parsed. */
+    private static final char SEPARATOR_MARKER = '\0';
+
+    /** Characters {@code $} can match before at the end of the input. */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+
+    /** Filters of the set that are not suppress elements. */
+    private final List<Filter> otherFilters = new ArrayList<>();
+
+    /** Elements that are not restricted to some files. */
+    private final List<SuppressFilterElement> anyFileElements = new ArrayList<>();
+
+    /** All groups of elements with the same files pattern. */
+    private final List<FilePatternGroup> groups = new ArrayList<>();
+
+    /** Groups with a literal suffix pattern, by suffix. */
+    private final Map<String, List<FilePatternGroup>> suffixGroups = new HashMap<>();
+
+    /** Groups with a literal suffix pattern using separator classes, by suffix. */
+    private final Map<String, List<FilePatternGroup>> separatorSuffixGroups = new HashMap<>();
+
+    /** Groups with a literal pattern that is not anchored. */
+    private final List<FilePatternGroup> containsGroups = new ArrayList<>();
+
+    /** Groups with a pattern that has to be evaluated as regular expression. */
+    private final List<FilePatternGroup> regexGroups = new ArrayList<>();
+
+    /**
+     * Candidate elements of the file filtered last by the current thread, so every
+     * files pattern is evaluated only once per file.
+     */
+    private final ThreadLocal<FileCandidates> lastFileCandidates = new ThreadLocal<>();
+
+    /** Length of the longest literal suffix. */
+    private int maxSuffixLength;
+
+    /**
+     * Creates an index over the given filters.
+     *
+     * @param filterSet the filters, usually loaded by {@link SuppressionsLoader}
+     */
+    /* package */ SuppressFilterElementIndex(FilterSet filterSet) {
+        final Map<List<Object>, FilePatternGroup> groupsByPattern = new LinkedHashMap<>();
+        for (Filter filter : filterSet.getFilters()) {
+            if (filter instanceof SuppressFilterElement) {
+                final SuppressFilterElement element = (SuppressFilterElement) filter;
+                final Pattern fileRegexp = element.getFileRegexp();
+                if (fileRegexp == null) {
+                    anyFileElements.add(element);
+                }
+                else {
+                    groupsByPattern.computeIfAbsent(
+                            Arrays.asList(fileRegexp.pattern(), fileRegexp.flags()),
+                            key -> new FilePatternGroup(fileRegexp)).elements.add(element);
+                }
+            }
+            else {
+                otherFilters.add(filter);
+            }
+        }
+        groupsByPattern.values().forEach(this::addGroup);
+    }
+
+    /**
+     * Registers a group of elements in the lookup structure of its pattern.
+     *
+     * @param group the group
+     */
+    private void addGroup(FilePatternGroup group) {
+        groups.add(group);
+        final LiteralPattern literal = group.literal;
+        if (literal == null) {
+            regexGroups.add(group);
+        }
+        else if (literal.suffix) {
+            final Map<String, List<FilePatternGroup>> suffixes;
+            if (literal.separatorInsensitive) {
+                suffixes = separatorSuffixGroups;
+            }
+            else {
+                suffixes = suffixGroups;
+            }
+            suffixes.computeIfAbsent(literal.text, key -> new ArrayList<>()).add(group);
+            maxSuffixLength = Math.max(maxSuffixLength, literal.text.length());
+        }
+        else {
+            containsGroups.add(group);
+        }
+    }
+
+    @Override
+    public boolean accept(AuditEvent event) {
+        boolean result = true;
+        for (Filter filter : otherFilters) {
+            if (!filter.accept(event)) {
+                result = false;
+                break;
+            }
+        }
+        if (result && event.getFileName() != null && event.getViolation() != null) {
+            for (SuppressFilterElement element : getCheckCandidates(event)) {
+                if (element.isMessageAndLineMatching(event)) {
+                    result = false;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the elements that match the file, check name and module id of the event.
+     *
+     * @param event event with a file name and a violation
+     * @return the elements
+     */
+    private List<SuppressFilterElement> getCheckCandidates(AuditEvent event) {
+        final String fileName = event.getFileName();
+        FileCandidates fileCandidates = lastFileCandidates.get();
+        if (fileCandidates == null || !fileCandidates.fileName.equals(fileName)) {
+            fileCandidates = new FileCandidates(fileName, getFileCandidates(fileName));
+            lastFileCandidates.set(fileCandidates);
+        }
+        final List<SuppressFilterElement> elements = fileCandidates.elements;
+        return fileCandidates.checkCandidates.computeIfAbsent(
+                Arrays.asList(event.getSourceName(), event.getModuleId()), key -> {
+                    final List<SuppressFilterElement> result = new ArrayList<>();
+                    for (SuppressFilterElement element : elements) {
+                        if (element.isCheckMatching(event)) {
+                            result.add(element);
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Returns the elements whose files pattern matches the file name.
+     *
+     * @param fileName the file name
+     * @return the elements
+     */
+    private List<SuppressFilterElement> getFileCandidates(String fileName) {
+        final List<SuppressFilterElement> result = new ArrayList<>(anyFileElements);
+        // '$' also matches before a line terminator at the end, which literals do not model
+        if (fileName.isEmpty()
+                || LINE_TERMINATORS.indexOf(fileName.charAt(fileName.length() - 1)) == -1) {
+            final String normalizedName = fileName.replace('\\', '/');
+            addSuffixMatches(result, suffixGroups, fileName);
+            addSuffixMatches(result, separatorSuffixGroups, normalizedName);
+            for (FilePatternGroup group : containsGroups) {
+                if (group.isLiteralContained(fileName, normalizedName)) {
+                    result.addAll(group.elements);
+                }
+            }
+            addRegexMatches(result, regexGroups, fileName);
+        }
+        else {
+            addRegexMatches(result, groups, fileName);
+        }
+        return result;
+    }
+
+    /**
+     * Adds the elements of the groups whose literal suffix ends the name.
+     *
+     * @param result the list to add to
+     * @param suffixes the groups by suffix
+     * @param name the name to look up
+     */
+    private void addSuffixMatches(List<SuppressFilterElement> result,
+            Map<String, List<FilePatternGroup>> suffixes, String name) {
+        if (!suffixes.isEmpty()) {
+            for (int index = Math.max(0, name.length() - maxSuffixLength);
+                    index <= name.length(); index++) {
+                final List<FilePatternGroup> matches = suffixes.get(name.substring(index));
+                if (matches != null) {
+                    matches.forEach(group -> result.addAll(group.elements));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the elements of the groups whose pattern is found in the name.
+     *
+     * @param result the list to add to
+     * @param candidates the groups to evaluate
+     * @param name the name to match
+     */
+    private static void addRegexMatches(List<SuppressFilterElement> result,
+            List<FilePatternGroup> candidates, String name) {
+        for (FilePatternGroup group : candidates) {
+            if (group.pattern.matcher(name).find()) {
+                result.addAll(group.elements);
+            }
+        }
+    }
+
+    /**
+     * Parses a pattern that matches a literal text, where separator classes
+     * match either path separator.
+     *
+     * @param pattern the pattern
+     * @return the literal, or null if the pattern is not a plain literal
+     */
+    private static LiteralPattern parseLiteral(Pattern pattern) {
+        final String regex = pattern.pattern();
+        final StringBuilder text = new StringBuilder(regex.length());
+        boolean suffix = false;
+        int index = 0;
+        if (pattern.flags() != 0 || regex.indexOf(SEPARATOR_MARKER) != -1) {
+            index = -1;
+        }
+        while (index >= 0 && index < regex.length()) {
+            if (index == regex.length() - 1 && regex.charAt(index) == '$') {
+                suffix = true;
+                index++;
+            }
+            else {
+                index = appendLiteral(regex, index, text);
+            }
+        }
+
+        LiteralPattern result = null;
+        if (index >= 0) {
+            result = createLiteralPattern(text.toString(), suffix);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the literal of a pattern from its parsed text.
+     *
+     * @param literal the literal text, where separator classes are marked
+     * @param suffix whether the literal has to be found at the end of the name
+     * @return the literal, or null if the literal mixes plain separators and
+     *     separator classes
+     */
+    private static LiteralPattern createLiteralPattern(String literal, boolean suffix) {
+        final boolean separatorInsensitive = literal.indexOf(SEPARATOR_MARKER) != -1;
+        LiteralPattern result = null;
+        // a plain separator must not match the other separator of a normalized name
+        if (!separatorInsensitive
+                || literal.indexOf('/') == -1 && literal.indexOf('\\') == -1) {
+            result = new LiteralPattern(literal.replace(SEPARATOR_MARKER, '/'),
+                    suffix, separatorInsensitive);
+        }
+        return result;
+    }
+
+    /**
+     * Appends the literal text of the pattern element at the index.
+     *
+     * @param regex the pattern
+     * @param index the index of the element
+     * @param text the literal text to append to
+     * @return the index of the next element, or -1 if the element is not literal
+     */
+    private static int appendLiteral(String regex, int index, StringBuilder text) {
+        final char chr = regex.charAt(index);
+        int next = -1;
+        if (regex.startsWith(SEPARATOR_CLASS, index)
+                || regex.startsWith(REVERSED_SEPARATOR_CLASS, index)) {
+            text.append(SEPARATOR_MARKER);
+            next = index + SEPARATOR_CLASS.length();
+        }
+        else if (chr == '\\') {
+            // a backslash before a character that is not a letter or digit quotes it
+            if (index + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(index + 1))) {
+                text.append(regex.charAt(index + 1));
+                next = index + 2;
+            }
+        }
+        else if (REGEX_META_CHARS.indexOf(chr) == -1) {
+            text.append(chr);
+            next = index + 1;
+        }
+        return next;
+    }
+
+    /** Elements that share a files pattern. */
+    private static final class FilePatternGroup {
+
+        /** The files pattern. */
+        private final Pattern pattern;
+
+        /** The literal the pattern matches, or null. */
+        private final LiteralPattern literal;
+
+        /** The elements. */
+        private final List<SuppressFilterElement> elements = new ArrayList<>();
+
+        /**
+         * Creates new instance.
+         *
+         * @param pattern the files pattern
+         */
+        private FilePatternGroup(Pattern pattern) {
+            this.pattern = pattern;
+            literal = parseLiteral(pattern);
+        }
+
+        /**
+         * Checks whether the literal of the group occurs in the file name.
+         *
+         * @param fileName the file name
+         * @param normalizedName the file name with forward slashes only
+         * @return true if the literal occurs
+         */
+        private boolean isLiteralContained(String fileName, String normalizedName) {
+            final String name;
+            if (literal.separatorInsensitive) {
+                name = normalizedName;
+            }
+            else {
+                name = fileName;
+            }
+            return name.contains(literal.text);
+        }
+
+    }
+
+    /** Literal text matched by a pattern. */
+    private static final class LiteralPattern {
+
+        /** The text, with forward slashes for separator classes. */
+        private final String text;
+
+        /** Whether the text is anchored at the end. */
+        private final boolean suffix;
+
+        /** Whether the text contains separator classes. */
+        private final boolean separatorInsensitive;
+
+        /**
+         * Creates new instance.
+         *
+         * @param text the text
+         * @param suffix whether the text is anchored at the end
+         * @param separatorInsensitive whether the text contains separator classes
+         */
+        private LiteralPattern(String text, boolean suffix, boolean separatorInsensitive) {
+            this.text = text;
+            this.suffix = suffix;
+            this.separatorInsensitive = separatorInsensitive;
+        }
+
+    }
+
+    /** The candidate elements of a file. */
+    private static final class FileCandidates {
+
+        /** The name of the file. */
+        private final String fileName;
+
+        /** The elements whose files pattern matches the file. */
+        private final List<SuppressFilterElement> elements;
+
+        /** The elements that also match a check name and module id, by both. */
+        private final Map<List<String>, List<SuppressFilterElement>> checkCandidates =
+                new HashMap<>();
+
+        /**
+         * Creates new instance.
+         *
+         * @param fileName the name of the file
+         * @param elements the elements whose files pattern matches the file
+         */
+        private FileCandidates(String fileName, List<SuppressFilterElement> elements) {
+            this.fileName = fileName;
+            this.elements = elements;
+        }
+
+    }
+
+}
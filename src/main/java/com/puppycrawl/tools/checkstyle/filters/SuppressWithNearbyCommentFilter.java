@@ -21,8 +21,12 @@ package com.puppycrawl.tools.checkstyle.filters;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -120,6 +124,12 @@ public class SuppressWithNearbyCommentFilter
     /** Tagged comments. */
     private final List<Tag> tags = new ArrayList<>();
 
+    /**
+     * Tagged comments whose check format matches a check, by the source name
+     * of the check. Filled for each check on its first event in a file.
+     */
+    private final Map<String, CheckTags> tagsBySource = new HashMap<>();
+
     /** Control whether to check C style comments ({@code &#47;* ... *&#47;}). */
     private boolean checkC = true;
 
@@ -281,14 +291,24 @@ public class SuppressWithNearbyCommentFilter
      * @return true if event matches any tag from {@link #tags}, false otherwise.
      */
     private boolean matchesTag(TreeWalkerAuditEvent event) {
-        boolean result = false;
+        return tagsBySource.computeIfAbsent(event.getSourceName(), this::getTagsOfCheck)
+            .isMatch(event);
+    }
+
+    /**
+     * Returns the tags whose check format matches the source name of a check.
+     *
+     * @param sourceName the source name of the check.
+     * @return the tags of the check.
+     */
+    private CheckTags getTagsOfCheck(String sourceName) {
+        final List<Tag> result = new ArrayList<>();
         for (final Tag tag : tags) {
-            if (tag.isMatch(event)) {
-                result = true;
-                break;
+            if (tag.isCheckMatch(sourceName)) {
+                result.add(tag);
             }
         }
-        return result;
+        return new CheckTags(result);
     }
 
     /**
@@ -297,6 +317,7 @@ public class SuppressWithNearbyCommentFilter
      */
     private void tagSuppressions() {
         tags.clear();
+        tagsBySource.clear();
         final FileContents contents = getFileContents();
         if (checkCPP) {
             tagSuppressions(contents.getSingleLineComments().values());
@@ -470,15 +491,32 @@ public class SuppressWithNearbyCommentFilter
         }
 
         /**
-         * Determines whether the source of an audit event
-         * matches the text of this tag.
+         * Returns the first line where warnings may be suppressed.
+         *
+         * @return the first line where warnings may be suppressed.
+         */
+        public int getFirstLine() {
+            return firstLine;
+        }
+
+        /**
+         * Returns the last line where warnings may be suppressed.
+         *
+         * @return the last line where warnings may be suppressed.
+         */
+        public int getLastLine() {
+            return lastLine;
+        }
+
+        /**
+         * Determines whether an audit event of a check matching the check
+         * format matches the text of this tag.
          *
          * @param event the {@code TreeWalkerAuditEvent} to check.
-         * @return true if the source of event matches the text of this tag.
+         * @return true if the event matches the text of this tag.
          */
         public boolean isMatch(TreeWalkerAuditEvent event) {
             return isInScopeOfSuppression(event)
-                    && isCheckMatch(event)
                     && isIdMatch(event)
                     && isMessageMatch(event);
         }
@@ -495,13 +533,13 @@ public class SuppressWithNearbyCommentFilter
         }
 
         /**
-         * Checks whether {@link TreeWalkerAuditEvent} source name matches the check format.
+         * Checks whether the source name of a check matches the check format.
          *
-         * @param event {@link TreeWalkerAuditEvent} instance.
-         * @return true if the {@link TreeWalkerAuditEvent} source name matches the check format.
+         * @param sourceName the source name of the check.
+         * @return true if the source name matches the check format.
          */
-        private boolean isCheckMatch(TreeWalkerAuditEvent event) {
-            final Matcher checkMatcher = tagCheckRegexp.matcher(event.getSourceName());
+        private boolean isCheckMatch(String sourceName) {
+            final Matcher checkMatcher = tagCheckRegexp.matcher(sourceName);
             return checkMatcher.find();
         }
 
@@ -553,4 +591,64 @@ public class SuppressWithNearbyCommentFilter
 
     }
 
+    /**
+     * The tags of a check, sorted by their first line, with the furthest last
+     * line of the tags up to each of them. The tags whose scope may contain a
+     * line are found with a binary search, and searched backwards until no
+     * earlier tag reaches the line.
+     */
+    private static final class CheckTags {
+
+        /** The tags, sorted by their first line. */
+        private final Tag[] sortedTags;
+
+        /** The furthest last line of the tags up to the same index in {@link #sortedTags}. */
+        private final int[] furthestLastLines;
+
+        /**
+         * Sorts the tags of a check.
+         *
+         * @param tags the tags of a check.
+         */
+        private CheckTags(List<Tag> tags) {
+            sortedTags = tags.toArray(new Tag[0]);
+            Arrays.sort(sortedTags, Comparator.comparingInt(Tag::getFirstLine));
+            furthestLastLines = new int[sortedTags.length];
+            int furthestLastLine = Integer.MIN_VALUE;
+            for (int index = 0; index < sortedTags.length; index++) {
+                furthestLastLine = Math.max(furthestLastLine, sortedTags[index].getLastLine());
+                furthestLastLines[index] = furthestLastLine;
+            }
+        }
+
+        /**
+         * Determines whether an audit event matches any of the tags.
+         *
+         * @param event the {@code TreeWalkerAuditEvent} to check.
+         * @return true if the event matches a tag.
+         */
+        private boolean isMatch(TreeWalkerAuditEvent event) {
+            final int line = event.getLine();
+            int low = 0;
+            int high = sortedTags.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (sortedTags[middle].getFirstLine() <= line) {
+                    low = middle + 1;
+                }
+                else {
+                    high = middle;
+                }
+            }
+            boolean result = false;
+            int index = low - 1;
+            while (!result && index >= 0 && furthestLastLines[index] >= line) {
+                result = sortedTags[index].isMatch(event);
+                index--;
+            }
+            return result;
+        }
+
+    }
+
 }
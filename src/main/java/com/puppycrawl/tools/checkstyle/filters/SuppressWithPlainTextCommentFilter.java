@@ -23,7 +23,6 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -139,6 +138,12 @@ public class SuppressWithPlainTextCommentFilter extends AbstractAutomaticBean im
     @XdocsPropertyType(PropertyType.PATTERN)
     private String idFormat;
 
+    /**
+     * Suppressions of the file filtered last by the current thread, so a file
+     * with many violations is read and scanned only once.
+     */
+    private final ThreadLocal<FileSuppressions> lastFileSuppressions = new ThreadLocal<>();
+
     /**
      * Setter to specify comment pattern to trigger filter to begin suppression.
      *
@@ -193,9 +198,8 @@ public class SuppressWithPlainTextCommentFilter extends AbstractAutomaticBean im
     public boolean accept(AuditEvent event) {
         boolean accepted = true;
         if (event.getViolation() != null) {
-            final FileText fileText = getFileText(event.getFileName());
-            if (fileText != null) {
-                final List<Suppression> suppressions = getSuppressions(fileText);
+            final List<Suppression> suppressions = getCachedSuppressions(event.getFileName());
+            if (suppressions != null) {
                 accepted = getNearestSuppression(suppressions, event) == null;
             }
         }
@@ -208,29 +212,50 @@ public class SuppressWithPlainTextCommentFilter extends AbstractAutomaticBean im
     }
 
     /**
-     * Returns {@link FileText} instance created based on the given file name.
+     * Returns the suppressions of the given file. The suppressions of the file filtered
+     * last are reused while the file is not modified.
      *
      * @param fileName the name of the file.
-     * @return {@link FileText} instance.
-     * @throws IllegalStateException if the file could not be read.
+     * @return the list of {@link Suppression} instances ordered by line or {@code null}
+     *     if the file is a directory.
      */
-    private static FileText getFileText(String fileName) {
+    private List<Suppression> getCachedSuppressions(String fileName) {
         final File file = new File(fileName);
-        FileText result = null;
+        List<Suppression> result = null;
 
         // some violations can be on a directory, instead of a file
         if (!file.isDirectory()) {
-            try {
-                result = new FileText(file, StandardCharsets.UTF_8.name());
-            }
-            catch (IOException ex) {
-                throw new IllegalStateException("Cannot read source file: " + fileName, ex);
+            final long lastModified = file.lastModified();
+            FileSuppressions fileSuppressions = lastFileSuppressions.get();
+            if (fileSuppressions == null || !fileSuppressions.isFor(fileName, lastModified)) {
+                fileSuppressions = new FileSuppressions(fileName, lastModified,
+                        getSuppressions(getFileText(file)));
+                lastFileSuppressions.set(fileSuppressions);
             }
+            result = fileSuppressions.suppressions;
         }
 
         return result;
     }
 
+    /**
+     * Returns {@link FileText} instance created based on the given file.
+     *
+     * @param file the file.
+     * @return {@link FileText} instance.
+     * @throws IllegalStateException if the file could not be read.
+     */
+    private static FileText getFileText(File file) {
+        final FileText result;
+        try {
+            result = new FileText(file, StandardCharsets.UTF_8.name());
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("Cannot read source file: " + file.getPath(), ex);
+        }
+        return result;
+    }
+
     /**
      * Returns the list of {@link Suppression} instances retrieved from the given {@link FileText}.
      *
@@ -276,18 +301,88 @@ public class SuppressWithPlainTextCommentFilter extends AbstractAutomaticBean im
      * the given {@link AuditEvent}. The nearest suppression is the suppression which scope
      * is before the line and column of the event.
      *
-     * @param suppressions collection of {@link Suppression} instances.
+     * @param suppressions list of {@link Suppression} instances ordered by line.
      * @param event {@link AuditEvent} instance.
      * @return {@link Suppression} instance.
      */
-    private static Suppression getNearestSuppression(Collection<Suppression> suppressions,
+    private static Suppression getNearestSuppression(List<Suppression> suppressions,
                                                      AuditEvent event) {
-        return suppressions
-            .stream()
-            .filter(suppression -> suppression.isMatch(event))
-            .reduce((first, second) -> second)
-            .filter(suppression -> suppression.suppressionType != SuppressionType.ON)
-            .orElse(null);
+        Suppression nearest = null;
+        int index = getSuppressionsCountUpToLine(suppressions, event.getLine());
+        while (nearest == null && index > 0) {
+            index--;
+            final Suppression suppression = suppressions.get(index);
+            if (suppression.isMatch(event)) {
+                nearest = suppression;
+            }
+        }
+
+        Suppression result = null;
+        if (nearest != null && nearest.suppressionType != SuppressionType.ON) {
+            result = nearest;
+        }
+        return result;
+    }
+
+    /**
+     * Counts the suppressions that are on or before the given line.
+     *
+     * @param suppressions list of {@link Suppression} instances ordered by line.
+     * @param line the line number.
+     * @return the number of suppressions at the start of the list that are in scope of the line.
+     */
+    private static int getSuppressionsCountUpToLine(List<Suppression> suppressions, int line) {
+        int low = 0;
+        int high = suppressions.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (suppressions.get(middle).lineNo <= line) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /** The suppressions of a file. */
+    private static final class FileSuppressions {
+
+        /** The name of the file. */
+        private final String fileName;
+
+        /** The time the file was last modified when it was read. */
+        private final long lastModified;
+
+        /** The suppressions ordered by line. */
+        private final List<Suppression> suppressions;
+
+        /**
+         * Creates new instance.
+         *
+         * @param fileName the name of the file.
+         * @param lastModified the time the file was last modified.
+         * @param suppressions the suppressions ordered by line.
+         */
+        private FileSuppressions(String fileName, long lastModified,
+                                 List<Suppression> suppressions) {
+            this.fileName = fileName;
+            this.lastModified = lastModified;
+            this.suppressions = suppressions;
+        }
+
+        /**
+         * Checks whether these are the suppressions of the given unmodified file.
+         *
+         * @param name the name of the file.
+         * @param modified the time the file was last modified.
+         * @return true if the suppressions can be reused for the file.
+         */
+        private boolean isFor(String name, long modified) {
+            return fileName.equals(name) && lastModified == modified;
+        }
+
     }
 
     /** Enum which represents the type of the suppression. */
@@ -23,7 +23,9 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -146,6 +148,12 @@ public class SuppressionCommentFilter
     /** Tagged comments. */
     private final List<Tag> tags = new ArrayList<>();
 
+    /**
+     * Tagged comments whose check format matches a check, by the source name
+     * of the check. Filled for each check on its first event in a file.
+     */
+    private final Map<String, List<Tag>> tagsBySource = new HashMap<>();
+
     /** Control whether to check C style comments ({@code &#47;* ... *&#47;}). */
     private boolean checkC = true;
 
@@ -298,32 +306,77 @@ public class SuppressionCommentFilter
     /**
      * Finds the nearest comment text tag that matches an audit event.
      * The nearest tag is before the line and column of the event.
+     * The tags of the check of the event are searched backwards from the event,
+     * so the search ends at the nearest tag that matches.
      *
      * @param event the {@code TreeWalkerAuditEvent} to match.
      * @return The {@code Tag} nearest event.
      */
     private Tag findNearestMatch(TreeWalkerAuditEvent event) {
+        final List<Tag> sourceTags =
+            tagsBySource.computeIfAbsent(event.getSourceName(), this::getTagsOfCheck);
         Tag result = null;
-        for (Tag tag : tags) {
-            final int eventLine = event.getLine();
-            if (tag.getLine() > eventLine
-                || tag.getLine() == eventLine
-                    && tag.getColumn() > event.getColumn()) {
-                break;
-            }
-            if (tag.isMatch(event)) {
+        int index = countTagsBefore(sourceTags, event.getLine(), event.getColumn()) - 1;
+        while (result == null && index >= 0) {
+            final Tag tag = sourceTags.get(index);
+            if (tag.isIdMatch(event) && tag.isMessageMatch(event)) {
                 result = tag;
             }
+            index--;
         }
         return result;
     }
 
+    /**
+     * Returns the tags whose check format matches the source name of a check,
+     * sorted like all tags.
+     *
+     * @param sourceName the source name of the check.
+     * @return the tags of the check.
+     */
+    private List<Tag> getTagsOfCheck(String sourceName) {
+        final List<Tag> result = new ArrayList<>();
+        for (Tag tag : tags) {
+            if (tag.isCheckMatch(sourceName)) {
+                result.add(tag);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the sorted tags that are at or before a line and column, with a
+     * binary search.
+     *
+     * @param sortedTags the tags sorted by position.
+     * @param line the line number.
+     * @param column the column number.
+     * @return the number of tags at or before the position.
+     */
+    private static int countTagsBefore(List<Tag> sortedTags, int line, int column) {
+        int low = 0;
+        int high = sortedTags.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            final Tag tag = sortedTags.get(middle);
+            if (tag.getLine() < line
+                || tag.getLine() == line && tag.getColumn() <= column) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
     /**
      * Collects all the suppression tags for all comments into a list and
      * sorts the list.
      */
     private void tagSuppressions() {
         tags.clear();
+        tagsBySource.clear();
         final FileContents contents = getFileContents();
         if (checkCPP) {
             tagSuppressions(contents.getSingleLineComments().values());
@@ -556,24 +609,13 @@ public class SuppressionCommentFilter
         }
 
         /**
-         * Determines whether the source of an audit event
-         * matches the text of this tag.
+         * Checks whether the source name of a check matches the check format.
          *
-         * @param event the {@code TreeWalkerAuditEvent} to check.
-         * @return true if the source of event matches the text of this tag.
-         */
-        public boolean isMatch(TreeWalkerAuditEvent event) {
-            return isCheckMatch(event) && isIdMatch(event) && isMessageMatch(event);
-        }
-
-        /**
-         * Checks whether {@link TreeWalkerAuditEvent} source name matches the check format.
-         *
-         * @param event {@link TreeWalkerAuditEvent} instance.
-         * @return true if the {@link TreeWalkerAuditEvent} source name matches the check format.
+         * @param sourceName the source name of the check.
+         * @return true if the source name matches the check format.
          */
-        private boolean isCheckMatch(TreeWalkerAuditEvent event) {
-            final Matcher checkMatcher = tagCheckRegexp.matcher(event.getSourceName());
+        private boolean isCheckMatch(String sourceName) {
+            final Matcher checkMatcher = tagCheckRegexp.matcher(sourceName);
             return checkMatcher.find();
         }
 
@@ -141,8 +141,8 @@ public class SuppressionFilter
      * the filter accept all audit events.
      */
     private boolean optional;
-    /** Set of individual suppresses. */
-    private FilterSet filters = new FilterSet();
+    /** Index over the set of individual suppresses. */
+    private Filter filters = new FilterSet();
 
     /**
      * Setter to specify the location of the <em>suppressions XML document</em> file.
@@ -177,15 +177,27 @@ public class SuppressionFilter
         if (file != null) {
             if (optional) {
                 if (FilterUtil.isFileExists(file)) {
-                    filters = SuppressionsLoader.loadSuppressions(file);
+                    filters = loadSuppressions(file);
                 }
             }
             else {
-                filters = SuppressionsLoader.loadSuppressions(file);
+                filters = loadSuppressions(file);
             }
         }
     }
 
+    /**
+     * Loads the suppressions of a file and indexes them, so large suppressions
+     * files do not cost a scan of every element per event.
+     *
+     * @param fileName name of the suppressions file.
+     * @return the indexed suppressions.
+     * @throws CheckstyleException if the file cannot be loaded.
+     */
+    private static Filter loadSuppressions(String fileName) throws CheckstyleException {
+        return new SuppressFilterElementIndex(SuppressionsLoader.loadSuppressions(fileName));
+    }
+
     @Override
     public Set<String> getExternalResourceLocations() {
         return UnmodifiableCollectionUtil.singleton(file);
@@ -22,12 +22,15 @@ package com.puppycrawl.tools.checkstyle.filters;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.puppycrawl.tools.checkstyle.TreeWalkerAuditEvent;
 import com.puppycrawl.tools.checkstyle.TreeWalkerFilter;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
+import com.puppycrawl.tools.checkstyle.utils.XpathUtil;
 import com.puppycrawl.tools.checkstyle.xpath.AbstractNode;
 import com.puppycrawl.tools.checkstyle.xpath.RootNode;
 import net.sf.saxon.Configuration;
@@ -65,6 +68,9 @@ public class XpathFilterElement implements TreeWalkerFilter {
     /** Indicates if all properties are set to null. */
     private final boolean isEmptyConfig;
 
+    /** Nodes matching the xpath query in the tree filtered last by the current thread. */
+    private final ThreadLocal<MatchingNodes> lastMatchingNodes = new ThreadLocal<>();
+
     /**
      * Creates a {@code XpathElement} instance.
      *
@@ -160,41 +166,67 @@ public class XpathFilterElement implements TreeWalkerFilter {
      * @return true if it is matching or not set.
      */
     private boolean isXpathQueryMatching(TreeWalkerAuditEvent event) {
-        boolean isMatching;
+        final boolean isMatching;
         if (xpathExpression == null) {
             isMatching = true;
         }
         else {
-            isMatching = false;
-            final List<AbstractNode> nodes = getItems(event)
-                .stream().map(AbstractNode.class::cast)
-                .collect(Collectors.toUnmodifiableList());
-            for (AbstractNode abstractNode : nodes) {
-                isMatching = abstractNode.getTokenType() == event.getTokenType()
-                        && abstractNode.getLineNumber() == event.getLine()
-                        && abstractNode.getColumnNumber() == event.getColumnCharIndex();
-                if (isMatching) {
-                    break;
-                }
-            }
+            isMatching = getMatchingNodes(event.getRootAst()).locations.contains(
+                    getLocation(event.getTokenType(), event.getLine(),
+                            event.getColumnCharIndex()));
         }
         return isMatching;
     }
 
     /**
-     * Returns list of nodes matching xpath expression given event.
+     * Returns the nodes matching xpath expression in the given tree. The query is evaluated
+     * once per tree, so every event of a file is matched by a lookup.
      *
-     * @param event {@code TreeWalkerAuditEvent} object
-     * @return list of nodes matching xpath expression given event
+     * @param rootAst the root of the tree
+     * @return the nodes matching xpath expression
+     */
+    private MatchingNodes getMatchingNodes(DetailAST rootAst) {
+        MatchingNodes matchingNodes = lastMatchingNodes.get();
+        if (matchingNodes == null || matchingNodes.rootAst != rootAst) {
+            final Set<List<Integer>> locations = getItems(rootAst).stream()
+                .map(AbstractNode.class::cast)
+                .map(node -> {
+                    return getLocation(node.getTokenType(), node.getLineNumber(),
+                            node.getColumnNumber());
+                })
+                .collect(Collectors.toUnmodifiableSet());
+            matchingNodes = new MatchingNodes(rootAst, locations);
+            lastMatchingNodes.set(matchingNodes);
+        }
+        return matchingNodes;
+    }
+
+    /**
+     * Creates the key an event or a node is matched by.
+     *
+     * @param tokenType the token type
+     * @param line the line number
+     * @param column the column char index
+     * @return the location key
+     */
+    private static List<Integer> getLocation(int tokenType, int line, int column) {
+        return List.of(tokenType, line, column);
+    }
+
+    /**
+     * Returns list of nodes matching xpath expression in the given tree.
+     *
+     * @param rootAst the root of the tree
+     * @return list of nodes matching xpath expression in the tree
      * @throws IllegalStateException if the xpath query could not be evaluated.
      */
-    private List<Item> getItems(TreeWalkerAuditEvent event) {
+    private List<Item> getItems(DetailAST rootAst) {
         final RootNode rootNode;
-        if (event.getRootAst() == null) {
+        if (rootAst == null) {
             rootNode = null;
         }
         else {
-            rootNode = new RootNode(event.getRootAst());
+            rootNode = XpathUtil.getSharedRootNode(rootAst);
         }
         final List<Item> items;
         try {
@@ -248,4 +280,27 @@ public class XpathFilterElement implements TreeWalkerFilter {
         }
         return result;
     }
+
+    /** Locations of the nodes matching the xpath query in a tree. */
+    private static final class MatchingNodes {
+
+        /** The root of the tree. */
+        private final DetailAST rootAst;
+
+        /** Token type, line and column of each matching node. */
+        private final Set<List<Integer>> locations;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param rootAst the root of the tree
+         * @param locations token type, line and column of each matching node
+         */
+        private MatchingNodes(DetailAST rootAst, Set<List<Integer>> locations) {
+            this.rootAst = rootAst;
+            this.locations = locations;
+        }
+
+    }
+
 }
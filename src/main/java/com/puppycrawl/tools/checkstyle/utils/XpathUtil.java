@@ -121,10 +121,41 @@ public final class XpathUtil {
     /** Delimiter to separate xpath results. */
     private static final String DELIMITER = "---------" + System.lineSeparator();
 
+    /**
+     * Xpath view of the tree processed by the current thread. Its nodes are created on
+     * demand and are not thread safe, so each thread has its own view.
+     */
+    private static final ThreadLocal<RootNode> SHARED_ROOT_NODE = new ThreadLocal<>();
+
     /** Stop instances being created. **/
     private XpathUtil() {
     }
 
+    /**
+     * Returns the Xpath view of the given tree that is shared by all modules evaluating
+     * queries over the tree on the current thread, so the Xpath nodes are created once
+     * per file instead of once per query.
+     *
+     * @param rootAst the root of the tree
+     * @return the shared root node of the tree
+     */
+    public static RootNode getSharedRootNode(DetailAST rootAst) {
+        RootNode rootNode = SHARED_ROOT_NODE.get();
+        if (rootNode == null || rootNode.getUnderlyingNode() != rootAst) {
+            rootNode = new RootNode(rootAst);
+            SHARED_ROOT_NODE.set(rootNode);
+        }
+        return rootNode;
+    }
+
+    /**
+     * Drops the Xpath view shared on the current thread. Must be called when the tree
+     * is modified or is no longer processed.
+     */
+    public static void releaseSharedRootNode() {
+        SHARED_ROOT_NODE.remove();
+    }
+
     /**
      * Iterates siblings of the given node and creates new Xpath-nodes.
      *
@@ -0,0 +1,248 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.getExpectedThrowable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+public class BinaryCacheFileTest {
+
+    @TempDir
+    public File temporaryFolder;
+
+    /**
+     * Writes a file and searches it, memory mapped or read.
+     *
+     * @param mapped whether the file is memory mapped
+     * @throws IOException if an error occurs
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testWriteAndLoad(boolean mapped) throws IOException {
+        final Path path = new File(temporaryFolder, "cache.bin").toPath();
+        // "Aa" and "BB" have the same hash code
+        BinaryCacheFile.write(path, null,
+                Map.of("Aa", "first", "BB", "second", "Other", ""), Set.of());
+
+        final BinaryCacheFile loaded = BinaryCacheFile.load(path, mapped);
+        assertWithMessage("Invalid value")
+            .that(loaded.get("Aa"))
+            .isEqualTo("first");
+        assertWithMessage("Invalid value of key with the same hash code")
+            .that(loaded.get("BB"))
+            .isEqualTo("second");
+        assertWithMessage("Invalid empty value")
+            .that(loaded.get("Other"))
+            .isEmpty();
+        assertWithMessage("Missing key should have no value")
+            .that(loaded.get("Missing"))
+            .isNull();
+    }
+
+    @Test
+    public void testWriteMergesStoredEntries() throws IOException {
+        final Path path = new File(temporaryFolder, "cache.bin").toPath();
+        // "Aa" and "BB" have the same hash code
+        BinaryCacheFile.write(path, null,
+                Map.of("Aa", "first", "BB", "second", "Other", ""), Set.of());
+
+        BinaryCacheFile.write(path, BinaryCacheFile.load(path),
+                Map.of("BB", "changed", "New", "added"), Set.of("Other"));
+
+        final BinaryCacheFile loaded = BinaryCacheFile.load(path);
+        assertWithMessage("Unchanged entry should be kept")
+            .that(loaded.get("Aa"))
+            .isEqualTo("first");
+        assertWithMessage("Changed entry should be replaced")
+            .that(loaded.get("BB"))
+            .isEqualTo("changed");
+        assertWithMessage("Removed entry should have no value")
+            .that(loaded.get("Other"))
+            .isNull();
+        assertWithMessage("Added entry should be written")
+            .that(loaded.get("New"))
+            .isEqualTo("added");
+    }
+
+    @Test
+    public void testLoadMissingFile() throws IOException {
+        assertWithMessage("Missing file should not be loaded")
+            .that(BinaryCacheFile.load(new File(temporaryFolder, "missing.bin").toPath()))
+            .isNull();
+    }
+
+    /**
+     * Damages the header by overwriting an int: the version or the entry count.
+     *
+     * @param position the position of the int to overwrite
+     * @throws IOException if an error occurs
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {4, 8})
+    public void testLoadDamagedHeader(int position) throws IOException {
+        final Path path = writeDamagedFile(position);
+
+        assertWithMessage("File with damaged header should not be loaded")
+            .that(BinaryCacheFile.load(path))
+            .isNull();
+    }
+
+    /**
+     * Damages the entry by overwriting an int: the offset of the entry
+     * or the length of the key or of the value.
+     *
+     * @param position the position of the int to overwrite
+     * @throws IOException if an error occurs
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {16, 20, 27})
+    public void testLoadDamagedEntry(int position) throws IOException {
+        final Path path = writeDamagedFile(position);
+
+        final BinaryCacheFile loaded = BinaryCacheFile.load(path);
+        assertWithMessage("Damaged entry should have no value")
+            .that(loaded.get("key"))
+            .isNull();
+
+        BinaryCacheFile.write(path, loaded, Map.of("other", "value"), Set.of());
+        final BinaryCacheFile rewritten = BinaryCacheFile.load(path);
+        assertWithMessage("Damaged entry should be dropped")
+            .that(rewritten.get("key"))
+            .isNull();
+        assertWithMessage("Invalid value")
+            .that(rewritten.get("other"))
+            .isEqualTo("value");
+    }
+
+    @Test
+    public void testLoadTruncatedFile() throws IOException {
+        final Path path = new File(temporaryFolder, "cache.bin").toPath();
+        Files.write(path, new byte[] {0x43, 0x53});
+
+        assertWithMessage("Truncated file should not be loaded")
+            .that(BinaryCacheFile.load(path))
+            .isNull();
+    }
+
+    @Test
+    public void testEncodeAndDecodeViolations() throws Exception {
+        final Violation violation = new Violation(2, 3, 4, TokenTypes.CLASS_DEF,
+                "com.puppycrawl.tools.checkstyle.checks.messages", "key",
+                new Object[] {"{x}", 1000}, SeverityLevel.WARNING, null,
+                BinaryCacheFileTest.class, "Message ''{0}'' {1}");
+        final String encoded = BinaryCacheFile.encodeViolations(Set.of(violation));
+        final List<Violation> decoded =
+            BinaryCacheFile.decodeViolations(encoded, getClass().getClassLoader());
+
+        assertWithMessage("Invalid number of violations")
+            .that(decoded)
+            .hasSize(1);
+        final Violation restored = decoded.get(0);
+        assertWithMessage("Invalid restored message")
+            .that(restored.getViolation())
+            .isEqualTo(violation.getViolation());
+        assertWithMessage("Module id should not be set")
+            .that(restored.getModuleId())
+            .isNull();
+        assertWithMessage("Invalid restored source")
+            .that(restored.getSourceName())
+            .isEqualTo(BinaryCacheFileTest.class.getName());
+    }
+
+    @Test
+    public void testDecodeViolationsKeepsOrder() throws Exception {
+        final Violation first = new Violation(1, "bundle", "key", null, null,
+                BinaryCacheFileTest.class, "b");
+        final Violation second = new Violation(1, "bundle", "key", null, null,
+                BinaryCacheFileTest.class, "a");
+        final String encoded = BinaryCacheFile.encodeViolations(List.of(first, second));
+        final List<Violation> decoded =
+            BinaryCacheFile.decodeViolations(encoded, getClass().getClassLoader());
+
+        assertWithMessage("Violations should be restored in stored order")
+            .that(decoded.stream().map(Violation::getViolation).toArray())
+            .asList()
+            .containsExactly("b", "a")
+            .inOrder();
+    }
+
+    @Test
+    public void testDecodeViolationsOfUnknownSource() {
+        final Violation violation = new Violation(1, "bundle", "key", null, null,
+                BinaryCacheFileTest.class, "message");
+        final String encoded = BinaryCacheFile.encodeViolations(Set.of(violation));
+
+        assertWithMessage("Source should not be loaded")
+            .that(getExpectedThrowable(ClassNotFoundException.class, () -> {
+                BinaryCacheFile.decodeViolations(encoded, ClassLoader.getPlatformClassLoader());
+            }))
+            .isNotNull();
+    }
+
+    @Test
+    public void testDecodeBrokenViolations() {
+        final ByteBuffer content = ByteBuffer.allocate(6 * Integer.BYTES);
+        content.putInt(1).putInt(1).putInt(1).putInt(1).putInt(1).putInt(Integer.MAX_VALUE);
+        final String encoded = Base64.getEncoder().encodeToString(content.array());
+
+        final IOException ex = getExpectedThrowable(IOException.class, () -> {
+            BinaryCacheFile.decodeViolations(encoded, getClass().getClassLoader());
+        });
+        assertWithMessage("Invalid exception message")
+            .that(ex.getMessage())
+            .isEqualTo("Invalid string length: " + Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes a file with a single entry and overwrites an int of it.
+     *
+     * @param position the position of the int to overwrite
+     * @return the file
+     * @throws IOException if an error occurs
+     */
+    private Path writeDamagedFile(int position) throws IOException {
+        final Path path = new File(temporaryFolder, "cache.bin").toPath();
+        BinaryCacheFile.write(path, null, Map.of("key", "value"), Set.of());
+        final ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(path));
+        content.putInt(position, Integer.MAX_VALUE);
+        Files.write(path, content.array());
+        return path;
+    }
+
+}
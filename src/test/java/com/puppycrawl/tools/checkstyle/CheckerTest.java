@@ -67,15 +67,19 @@ import com.puppycrawl.tools.checkstyle.api.Context;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
 import com.puppycrawl.tools.checkstyle.api.ExternalResourceHolder;
 import com.puppycrawl.tools.checkstyle.api.FileText;
+import com.puppycrawl.tools.checkstyle.api.FileTimings;
 import com.puppycrawl.tools.checkstyle.api.Filter;
 import com.puppycrawl.tools.checkstyle.api.FilterSet;
 import com.puppycrawl.tools.checkstyle.api.MessageDispatcher;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.checks.NewlineAtEndOfFileCheck;
+import com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder;
 import com.puppycrawl.tools.checkstyle.checks.TranslationCheck;
 import com.puppycrawl.tools.checkstyle.checks.coding.HiddenFieldCheck;
+import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocPackageCheck;
 import com.puppycrawl.tools.checkstyle.checks.sizes.LineLengthCheck;
+import com.puppycrawl.tools.checkstyle.filters.SuppressWarningsFilter;
 import com.puppycrawl.tools.checkstyle.filters.SuppressionFilter;
 import com.puppycrawl.tools.checkstyle.internal.testmodules.DebugAuditAdapter;
 import com.puppycrawl.tools.checkstyle.internal.testmodules.DebugFilter;
@@ -1694,6 +1698,189 @@ public class CheckerTest extends AbstractModuleTestSupport {
         verify(checkerConfig, filePath, expected);
     }
 
+    @Test
+    public void testMultiThreadModeFiresEventsInFileOrder() throws Exception {
+        final DefaultConfiguration checkerConfig =
+                new DefaultConfiguration("root", new ThreadModeSettings(3, 1));
+        checkerConfig.addChild(createModuleConfig(NewlineAtEndOfFileCheck.class));
+        checkerConfig.addChild(createModuleConfig(TranslationCheck.class));
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        final FileEventsRecorder recorder = new FileEventsRecorder();
+        checker.addListener(recorder);
+
+        final List<File> files = new ArrayList<>();
+        final List<String> expected = new ArrayList<>();
+        for (int index = 0; index < 20; index++) {
+            final File file = File.createTempFile("file" + index, ".java", temporaryFolder);
+            Files.writeString(file.toPath(), "class A {}");
+            files.add(file);
+            expected.add("fileStarted " + file.getPath());
+            expected.add("addError " + file.getPath());
+            expected.add("fileFinished " + file.getPath());
+        }
+        final int errors = checker.process(files);
+        checker.destroy();
+
+        assertWithMessage("Invalid number of errors")
+            .that(errors)
+            .isEqualTo(files.size());
+        assertWithMessage("Events should be fired file by file in the order of files")
+            .that(recorder.events)
+            .containsExactlyElementsIn(expected)
+            .inOrder();
+    }
+
+    @Test
+    public void testMultiThreadModeSuppressesViolationsOfGlobalStatefulChecks()
+            throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addChild(createModuleConfig(SuppressWarningsHolder.class));
+        final DefaultConfiguration checkerConfig =
+                new DefaultConfiguration("root", new ThreadModeSettings(3, 1));
+        checkerConfig.addChild(treeWalkerConfig);
+        checkerConfig.addChild(createModuleConfig(JavadocPackageCheck.class));
+        checkerConfig.addChild(createModuleConfig(SuppressWarningsFilter.class));
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        final FileEventsRecorder recorder = new FileEventsRecorder();
+        checker.addListener(recorder);
+
+        final File suppressedDirectory = new File(temporaryFolder, "suppressed");
+        final File reportedDirectory = new File(temporaryFolder, "reported");
+        Files.createDirectories(suppressedDirectory.toPath());
+        Files.createDirectories(reportedDirectory.toPath());
+        final File suppressed = new File(suppressedDirectory, "Suppressed.java");
+        final File reported = new File(reportedDirectory, "Reported.java");
+        Files.writeString(suppressed.toPath(),
+                "@SuppressWarnings(\"checkstyle:javadocpackage\")\nclass Suppressed {}\n");
+        Files.writeString(reported.toPath(), "class Reported {}\n");
+        final int errors = checker.process(List.of(suppressed, reported));
+        checker.destroy();
+
+        assertWithMessage("Invalid number of errors")
+            .that(errors)
+            .isEqualTo(1);
+        assertWithMessage("Violation of global stateful check should be suppressed")
+            .that(recorder.events)
+            .containsExactly("fileStarted " + suppressed.getPath(),
+                "fileFinished " + suppressed.getPath(),
+                "fileStarted " + reported.getPath(),
+                "addError " + reported.getPath(),
+                "fileFinished " + reported.getPath())
+            .inOrder();
+    }
+
+    @Test
+    public void testContentCacheFileSurvivesCheckoutToAnotherDirectory() throws Exception {
+        final File cacheFile = new File(temporaryFolder, "cache.bin");
+        final File firstCheckout = new File(temporaryFolder, "first");
+        final File secondCheckout = new File(temporaryFolder, "second");
+        final List<String> firstRunEvents = runWithContentCache(cacheFile, firstCheckout);
+        final List<String> secondRunEvents = runWithContentCache(cacheFile, secondCheckout);
+
+        assertWithMessage("Both files should be processed without cache")
+            .that(firstRunEvents)
+            .containsExactly("fileStarted Clean.java", "processed Clean.java",
+                "fileFinished Clean.java", "fileStarted Dirty.java", "processed Dirty.java",
+                "addError Dirty.java", "fileFinished Dirty.java")
+            .inOrder();
+        assertWithMessage("Cached violations should be reported without processing files")
+            .that(secondRunEvents)
+            .containsExactly("fileStarted Clean.java", "fileFinished Clean.java",
+                "fileStarted Dirty.java", "addError Dirty.java", "fileFinished Dirty.java")
+            .inOrder();
+    }
+
+    @Test
+    public void testContentCacheWithUndecodableViolations() throws Exception {
+        final File cacheFile = new File(temporaryFolder, "cache.bin");
+        final File checkout = new File(temporaryFolder, "checkout");
+        runWithContentCache(cacheFile, checkout);
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("root");
+        checkerConfig.addProperty("contentCacheFile", cacheFile.getPath());
+        final PropertyCacheFile cache =
+                new PropertyCacheFile(checkerConfig, cacheFile.getPath(), true);
+        cache.load();
+        final String cached = cache.get("Dirty.java");
+        cache.put("Dirty.java", cached.substring(0, cached.indexOf(':') + 1) + "broken");
+        cache.persist();
+
+        assertWithMessage("File with undecodable violations should be processed again")
+            .that(runWithContentCache(cacheFile, checkout))
+            .containsExactly("fileStarted Clean.java", "fileFinished Clean.java",
+                "fileStarted Dirty.java", "processed Dirty.java", "addError Dirty.java",
+                "fileFinished Dirty.java")
+            .inOrder();
+    }
+
+    @Test
+    public void testFileFinishedEventCarriesTimings() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addChild(createModuleConfig(HiddenFieldCheck.class));
+        final DefaultConfiguration checkerConfig = createRootConfig(treeWalkerConfig);
+        final Checker checker = createChecker(checkerConfig);
+        final FileTimingsRecorder recorder = new FileTimingsRecorder();
+        checker.addListener(recorder);
+
+        checker.process(List.of(new File(getPath("InputChecker.java"))));
+        checker.destroy();
+
+        assertWithMessage("Timings should be recorded for each file")
+            .that(recorder.timings)
+            .hasSize(1);
+        final FileTimings timings = recorder.timings.get(0);
+        assertWithMessage("Reading should be measured")
+            .that(timings.getReadNanos())
+            .isGreaterThan(0);
+        assertWithMessage("Parsing should be measured")
+            .that(timings.getParseNanos())
+            .isGreaterThan(0);
+        assertWithMessage("Total time should be the sum of phases")
+            .that(timings.getTotalNanos())
+            .isEqualTo(timings.getReadNanos() + timings.getParseNanos()
+                + timings.getWalkNanos() + timings.getFilterNanos());
+    }
+
+    @Test
+    public void testFileFinishedEventOfDispatcherHasNoTimings() {
+        final Checker checker = new Checker();
+        final FileTimingsRecorder recorder = new FileTimingsRecorder();
+        checker.addListener(recorder);
+        checker.fireFileFinished("Some.java");
+
+        assertWithMessage("Events fired through the dispatcher should not have timings")
+            .that(recorder.timings)
+            .containsExactly((FileTimings) null);
+    }
+
+    private static List<String> runWithContentCache(File cacheFile, File checkout)
+            throws Exception {
+        Files.createDirectories(checkout.toPath());
+        final File clean = new File(checkout, "Clean.java");
+        final File dirty = new File(checkout, "Dirty.java");
+        Files.writeString(clean.toPath(), "class Clean {}\n");
+        Files.writeString(dirty.toPath(), "class Dirty {}");
+
+        final DefaultConfiguration checkerConfig = new DefaultConfiguration("root");
+        checkerConfig.addProperty("contentCacheFile", cacheFile.getPath());
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Thread.currentThread().getContextClassLoader());
+        checker.configure(checkerConfig);
+        checker.setBasedir(checkout.getPath());
+        final FileEventsRecorder recorder = new FileEventsRecorder();
+        checker.addListener(recorder);
+        final ProcessedFilesRecorder check = new ProcessedFilesRecorder(recorder.events);
+        check.configure(new DefaultConfiguration("NewlineAtEndOfFile"));
+        checker.addFileSetCheck(check);
+        checker.process(List.of(clean, dirty));
+        // invoke destroy to persist cache
+        checker.destroy();
+        return recorder.events;
+    }
+
     public static class DefaultLoggerWithCounter extends DefaultLogger {
 
         private int fileStartedCount;
@@ -1711,6 +1898,94 @@ public class CheckerTest extends AbstractModuleTestSupport {
         }
     }
 
+    public static class FileTimingsRecorder implements AuditListener {
+
+        private final List<FileTimings> timings = new ArrayList<>();
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            // not needed
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            // not needed
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            // not needed
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            timings.add(event.getTimings());
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            // not needed
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            // not needed
+        }
+
+    }
+
+    public static class FileEventsRecorder implements AuditListener {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            // not needed
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            // not needed
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            events.add("fileStarted " + event.getFileName());
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            events.add("fileFinished " + event.getFileName());
+        }
+
+        @Override
+        public void addError(AuditEvent event) {
+            events.add("addError " + event.getFileName());
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            // not needed
+        }
+
+    }
+
+    public static class ProcessedFilesRecorder extends NewlineAtEndOfFileCheck {
+
+        private final List<String> events;
+
+        public ProcessedFilesRecorder(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        protected void processFiltered(File file, FileText fileText) {
+            events.add("processed " + file.getName());
+            super.processFiltered(file, fileText);
+        }
+
+    }
+
     public static class DummyFilter implements Filter {
 
         @Override
@@ -104,16 +104,17 @@ public class ConfigurationLoaderTest extends AbstractPathTestSupport {
         final ThreadModeSettings multiThreadModeSettings =
             new ThreadModeSettings(4, 2);
 
-        try {
-            ConfigurationLoader.loadConfiguration(
+        final DefaultConfiguration config =
+            (DefaultConfiguration) ConfigurationLoader.loadConfiguration(
                 configPath, propertiesExpander, multiThreadModeSettings);
-            assertWithMessage("An exception is expected").fail();
-        }
-        catch (IllegalArgumentException ex) {
-            assertWithMessage("Invalid exception message")
-                .that(ex.getMessage())
-                .isEqualTo("Multi thread mode for Checker module is not implemented");
-        }
+
+        final Properties attributes = new Properties();
+        attributes.setProperty("tabWidth", "4");
+        attributes.setProperty("basedir", "basedir");
+        verifyConfigNode(config, "Checker", 3, attributes);
+        assertWithMessage("Invalid thread mode settings")
+            .that(config.getThreadModeSettings())
+            .isSameInstanceAs(multiThreadModeSettings);
     }
 
     @Test
@@ -23,6 +23,7 @@ import static com.google.common.truth.Truth.assertWithMessage;
 
 import java.io.File;
 import java.io.Writer;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -376,6 +377,16 @@ public class DetailAstImplTest extends AbstractModuleTestSupport {
         return result;
     }
 
+    private static int getBranchSize(DetailAstImpl ast) {
+        final Object branchTokenTypes = TestUtil.getInternalState(ast, "branchTokenTypes");
+        return TestUtil.getInternalState(branchTokenTypes, "size");
+    }
+
+    private static BitSet getExactTypes(DetailAstImpl ast) {
+        final Object branchTokenTypes = TestUtil.getInternalState(ast, "branchTokenTypes");
+        return TestUtil.getInternalState(branchTokenTypes, "exactTypes");
+    }
+
     @Test
     public void testClearBranchTokenTypes() throws Exception {
         final DetailAstImpl parent = new DetailAstImpl();
@@ -400,30 +411,94 @@ public class DetailAstImplTest extends AbstractModuleTestSupport {
         );
 
         for (Consumer<DetailAstImpl> method : clearBranchTokenTypesMethods) {
-            final BitSet branchTokenTypes = TestUtil.invokeMethod(parent, "getBranchTokenTypes");
+            parent.branchContains(TokenTypes.CLASS_DEF);
+            assertWithMessage("Branch should be summarized")
+                .that(getBranchSize(parent))
+                .isEqualTo(2);
             method.accept(null);
-            final BitSet branchTokenTypes2 = TestUtil.invokeMethod(parent, "getBranchTokenTypes");
-            assertWithMessage("Branch token types are not equal")
-                .that(branchTokenTypes)
-                .isEqualTo(branchTokenTypes2);
-            assertWithMessage("Branch token types should not be the same")
-                .that(branchTokenTypes)
-                .isNotSameInstanceAs(branchTokenTypes2);
+            assertWithMessage("Branch summary should be cleared")
+                .that(TestUtil.<Object>getInternalState(parent, "branchTokenTypes"))
+                .isNull();
         }
     }
 
     @Test
-    public void testCacheBranchTokenTypes() {
+    public void testCacheBranchTokenTypes() throws Exception {
         final DetailAST root = new DetailAstImpl();
         final BitSet bitSet = new BitSet();
         bitSet.set(999);
 
-        TestUtil.setInternalState(root, "branchTokenTypes", bitSet);
+        final Constructor<?> constructor = TestUtil.getInnerClassType(DetailAstImpl.class,
+                "BranchTokenTypes").getDeclaredConstructor(long.class, BitSet.class, int.class);
+        constructor.setAccessible(true);
+        TestUtil.setInternalState(root, "branchTokenTypes",
+                constructor.newInstance(-1L, bitSet, 1));
         assertWithMessage("Branch tokens has changed")
                 .that(root.branchContains(999))
                 .isTrue();
     }
 
+    @Test
+    public void testBranchContainsWithBloomCollision() {
+        final DetailAstImpl root = createToken(null, 1);
+        createToken(createToken(root, 2), 65);
+
+        assertWithMessage("invalid result")
+                .that(root.branchContains(65))
+                .isTrue();
+        assertWithMessage("Colliding token type should not be found")
+                .that(root.branchContains(129))
+                .isFalse();
+        assertWithMessage("Token type of a sibling branch should not be found")
+                .that(root.getFirstChild().getFirstChild().branchContains(2))
+                .isFalse();
+        assertWithMessage("Small branch should not keep exact token types")
+                .that(getExactTypes(root))
+                .isNull();
+    }
+
+    @Test
+    public void testBranchContainsInLargeBranch() {
+        final DetailAstImpl root = createToken(null, TokenTypes.CLASS_DEF);
+        DetailAstImpl parent = root;
+        for (int index = 0; index < 100; index++) {
+            final DetailAstImpl child = createToken(parent, TokenTypes.SLIST);
+            createToken(parent, TokenTypes.SEMI);
+            parent = child;
+        }
+        createToken(parent, TokenTypes.LITERAL_RETURN);
+
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.LITERAL_RETURN))
+                .isTrue();
+        assertWithMessage("invalid result")
+                .that(root.branchContains(TokenTypes.LITERAL_RETURN + 64))
+                .isFalse();
+        assertWithMessage("Large branch should keep exact token types")
+                .that(getExactTypes(root).cardinality())
+                .isEqualTo(4);
+        assertWithMessage("Invalid branch size")
+                .that(getBranchSize(root))
+                .isEqualTo(202);
+    }
+
+    @Test
+    public void testBranchContainsAfterAddChild() {
+        final DetailAstImpl root = createToken(null, TokenTypes.CLASS_DEF);
+        final DetailAstImpl objBlock = createToken(root, TokenTypes.OBJBLOCK);
+
+        assertWithMessage("invalid result")
+                .that(objBlock.branchContains(TokenTypes.VARIABLE_DEF))
+                .isFalse();
+        createToken(objBlock, TokenTypes.VARIABLE_DEF);
+        assertWithMessage("Added child should be found")
+                .that(objBlock.branchContains(TokenTypes.VARIABLE_DEF))
+                .isTrue();
+        assertWithMessage("Added child should be found from the root")
+                .that(root.branchContains(TokenTypes.VARIABLE_DEF))
+                .isTrue();
+    }
+
     @Test
     public void testClearChildCountCache() {
         final DetailAstImpl parent = new DetailAstImpl();
@@ -0,0 +1,205 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.getExpectedThrowable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
+
+public class FileDiscoveryTest {
+
+    @TempDir
+    public File temporaryFolder;
+
+    @Test
+    public void testFilesInOrderOfSequentialWalk() throws IOException {
+        final File deepFile = createFile("first/second/third/Deep.java");
+        final File shallowFile = createFile("Shallow.java");
+
+        final List<File> files = findFiles(List.of(new File(temporaryFolder, "first"),
+                shallowFile), List.of(), file -> true);
+        assertWithMessage("Files of earlier roots should be supplied first")
+            .that(files)
+            .containsExactly(deepFile, shallowFile)
+            .inOrder();
+    }
+
+    @Test
+    public void testExcludedDirectoryIsSkipped() throws IOException {
+        final File includedFile = createFile("Included.java");
+        createFile("excluded/Excluded.java");
+
+        final List<File> files = findFiles(List.of(temporaryFolder),
+                List.of(Pattern.compile("excluded")), file -> true);
+        assertWithMessage("Files of excluded directories should be skipped")
+            .that(files)
+            .containsExactly(includedFile);
+    }
+
+    @Test
+    public void testExclusionNotMatching() throws IOException {
+        final File file = createFile("directory/File.java");
+
+        final List<File> files = findFiles(List.of(temporaryFolder),
+                List.of(Pattern.compile("BAD_PATH")), name -> true);
+        assertWithMessage("Files not matching exclusions should be found")
+            .that(files)
+            .containsExactly(file);
+    }
+
+    @Test
+    public void testFileFilter() throws IOException {
+        final File javaFile = createFile("directory/File.java");
+        createFile("directory/File.txt");
+
+        final List<File> files = findFiles(List.of(temporaryFolder), List.of(),
+                file -> file.getName().endsWith(".java"));
+        assertWithMessage("Files not accepted by the filter should be skipped")
+            .that(files)
+            .containsExactly(javaFile);
+    }
+
+    @Test
+    public void testMissingRoot() {
+        try (FileDiscovery discovery = new FileDiscovery(
+                List.of(new File(temporaryFolder, "missing")), List.of(), 1)) {
+            assertWithMessage("Missing root should have no files")
+                .that(discovery.hasNext())
+                .isFalse();
+            final NoSuchElementException ex =
+                    getExpectedThrowable(NoSuchElementException.class, discovery::next);
+            assertWithMessage("Invalid exception message")
+                .that(ex.getMessage())
+                .isNull();
+        }
+    }
+
+    @Test
+    public void testFirstFilesAreSuppliedAgain() throws IOException {
+        final File firstFile = createFile("first/First.java");
+        final File secondFile = createFile("second/Second.java");
+        final File thirdFile = createFile("third/Third.java");
+
+        try (FileDiscovery discovery = new FileDiscovery(
+                List.of(firstFile, secondFile, thirdFile), List.of(), 1)) {
+            assertWithMessage("Invalid first files")
+                .that(discovery.getFirstFiles(2))
+                .containsExactly(firstFile, secondFile)
+                .inOrder();
+            assertWithMessage("First files should not be searched again")
+                .that(discovery.getFirstFiles(1))
+                .containsExactly(firstFile, secondFile)
+                .inOrder();
+            final List<File> files = new ArrayList<>();
+            discovery.forEachRemaining(files::add);
+            assertWithMessage("First files should be supplied before the others")
+                .that(files)
+                .containsExactly(firstFile, secondFile, thirdFile)
+                .inOrder();
+        }
+    }
+
+    @Test
+    public void testFewerFirstFilesThanRequested() throws IOException {
+        final File file = createFile("File.java");
+
+        try (FileDiscovery discovery = new FileDiscovery(List.of(temporaryFolder),
+                List.of(), 1)) {
+            assertWithMessage("All files should be returned")
+                .that(discovery.getFirstFiles(2))
+                .containsExactly(file);
+        }
+    }
+
+    @Test
+    public void testFileFilterAppliesToFirstFiles() throws IOException {
+        final File javaFile = createFile("File.java");
+        final File textFile = createFile("File.txt");
+
+        try (FileDiscovery discovery = new FileDiscovery(List.of(javaFile, textFile),
+                List.of(), 1)) {
+            assertWithMessage("First files should not be filtered before the filter is set")
+                .that(discovery.getFirstFiles(2))
+                .containsExactly(javaFile, textFile);
+            discovery.setFileFilter(file -> file.getName().endsWith(".java"));
+            final List<File> files = new ArrayList<>();
+            discovery.forEachRemaining(files::add);
+            assertWithMessage("First files not accepted by the filter should be dropped")
+                .that(files)
+                .containsExactly(javaFile);
+        }
+    }
+
+    @Test
+    public void testListingAheadIsBounded() throws Exception {
+        for (int index = 0; index < 5; index++) {
+            createFile("directory" + index + "/File.java");
+        }
+
+        try (FileDiscovery discovery = new FileDiscovery(List.of(temporaryFolder),
+                List.of(), 1)) {
+            discovery.getFirstFiles(1);
+            assertWithMessage("No directory should be listed ahead for the first files")
+                .that(TestUtil.<Integer>getInternalState(discovery, "pendingListings"))
+                .isEqualTo(0);
+            discovery.next();
+            assertWithMessage("Directories listed ahead should be bounded")
+                .that(TestUtil.<Integer>getInternalState(discovery, "pendingListings"))
+                .isEqualTo(2);
+            final List<File> files = new ArrayList<>();
+            discovery.forEachRemaining(files::add);
+            assertWithMessage("All files should be found")
+                .that(files)
+                .hasSize(4);
+        }
+    }
+
+    private File createFile(String relativePath) throws IOException {
+        final Path path = temporaryFolder.toPath().resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "class Input {}");
+        return path.toFile();
+    }
+
+    private static List<File> findFiles(List<File> roots, List<Pattern> patternsToExclude,
+            Predicate<File> fileFilter) {
+        final List<File> result = new ArrayList<>();
+        try (FileDiscovery discovery = new FileDiscovery(roots, patternsToExclude, 2)) {
+            discovery.setFileFilter(fileFilter);
+            discovery.forEachRemaining(result::add);
+        }
+        return result;
+    }
+
+}
@@ -23,17 +23,26 @@ import static com.google.common.truth.Truth.assertWithMessage;
 import static com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocContentLocationCheck.MSG_JAVADOC_CONTENT_SECOND_LINE;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.junit.jupiter.api.Test;
 
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.FileContents;
+import com.puppycrawl.tools.checkstyle.api.FileText;
 import com.puppycrawl.tools.checkstyle.api.TokenTypes;
 import com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocContentLocationCheck;
+import com.puppycrawl.tools.checkstyle.grammar.CompositeLexerContextCache;
+import com.puppycrawl.tools.checkstyle.grammar.java.JavaLanguageLexer;
+import com.puppycrawl.tools.checkstyle.grammar.java.JavaLanguageParser;
 import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 
 public class JavaParserTest extends AbstractModuleTestSupport {
@@ -287,6 +296,63 @@ public class JavaParserTest extends AbstractModuleTestSupport {
                 getPath("InputJavaParserHiddenComments4.java"), expected);
     }
 
+    @Test
+    public void testWarmUp() throws Exception {
+        JavaParser.warmUp();
+        final JavaLanguageParser parser = new JavaLanguageParser(
+                new CommonTokenStream(new JavaLanguageLexer(CharStreams.fromString(""), true)));
+        assertWithMessage("Warm up should build the shared DFA")
+                .that(ParserDfaCache.countStates(parser.getInterpreter()))
+                .isGreaterThan(0L);
+    }
+
+    @Test
+    public void testTwoStageParsingProducesSameTree() throws Exception {
+        final String[] inputs = {
+            "InputJavaParserHiddenComments.java",
+            "InputJavaParserHiddenComments2.java",
+            "InputJavaParserHiddenComments3.java",
+            "InputJavaParserHiddenComments4.java",
+        };
+        for (String input : inputs) {
+            final FileText text = new FileText(new File(getPath(input)),
+                    StandardCharsets.UTF_8.name());
+            final DetailAST expected = parseWithFullPrediction(new FileContents(text));
+            final DetailAST actual = JavaParser.parse(new FileContents(text));
+            assertSameTree(input, expected, actual);
+        }
+    }
+
+    private static DetailAST parseWithFullPrediction(FileContents contents) {
+        final JavaLanguageLexer lexer = new JavaLanguageLexer(
+                CharStreams.fromString(contents.getText().getFullText().toString()), true);
+        lexer.setCommentListener(contents);
+        lexer.setContextCache(new CompositeLexerContextCache(lexer));
+        final CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        final JavaLanguageParser parser = new JavaLanguageParser(tokenStream);
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return new JavaAstVisitor(tokenStream).visit(parser.compilationUnit());
+    }
+
+    private static void assertSameTree(String input, DetailAST expected, DetailAST actual) {
+        DetailAST expectedNode = expected;
+        DetailAST actualNode = actual;
+        while (expectedNode != null) {
+            assertWithMessage("Node missing in %s", input)
+                    .that(actualNode)
+                    .isNotNull();
+            assertWithMessage("Different node in %s", input)
+                    .that(AstTreeStringPrinter.printBranch(actualNode))
+                    .isEqualTo(AstTreeStringPrinter.printBranch(expectedNode));
+            assertSameTree(input, expectedNode.getFirstChild(), actualNode.getFirstChild());
+            expectedNode = expectedNode.getNextSibling();
+            actualNode = actualNode.getNextSibling();
+        }
+        assertWithMessage("Extra node in %s", input)
+                .that(actualNode)
+                .isNull();
+    }
+
     private static final class CountComments {
         private final List<String> lineComments = new ArrayList<>();
         private final List<String> blockComments = new ArrayList<>();
@@ -37,13 +37,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Locale;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.itsallcode.io.Capturable;
@@ -62,6 +59,7 @@ import com.puppycrawl.tools.checkstyle.AbstractAutomaticBean.OutputStreamOptions
 import com.puppycrawl.tools.checkstyle.api.AuditListener;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Violation;
+import com.puppycrawl.tools.checkstyle.checks.naming.TypeNameCheck;
 import com.puppycrawl.tools.checkstyle.internal.testmodules.TestRootModuleChecker;
 import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.utils.ChainedPropertyUtil;
@@ -74,12 +72,14 @@ public class MainTest {
             + "Try 'checkstyle --help' for more information.%n");
 
     private static final String USAGE = String.format(Locale.ROOT,
-          "Usage: checkstyle [-dEghjJtTV] [-b=<xpath>] [-c=<configurationFile>] "
-                  + "[-f=<format>]%n"
-                  + "                  [-o=<outputPath>] [-p=<propertiesFile>] "
-                  + "[-s=<suppressionLineColumnNumber>]%n"
-                  + "                  [-w=<tabWidth>] [-e=<exclude>]... [-x=<excludeRegex>]... "
-                  + "<files>...%n"
+          "Usage: checkstyle [-dEghjJtTuV] [-b=<xpath>] [-c=<configurationFile>] "
+                  + "[-C=<checkerThreadsNumber>]%n"
+                  + "                  [-f=<format>] [-o=<outputPath>] [-p=<propertiesFile>] "
+                  + "[-P=<profileFile>]%n"
+                  + "                  [-s=<suppressionLineColumnNumber>] [-S=<slowFilesCount>] "
+                  + "[-w=<tabWidth>]%n"
+                  + "                  [-W=<treeWalkerThreadsNumber>] [-e=<exclude>]... "
+                  + "[-x=<excludeRegex>]... <files>...%n"
                   + "Checkstyle verifies that the specified source code files adhere to the"
                   + " specified rules. By default,%n"
                   + "violations are reported to standard out in plain format. Checkstyle requires"
@@ -95,6 +95,9 @@ public class MainTest {
                   + " filesystem location, or a name%n"
                   + "                              passed to the ClassLoader.getResource()"
                   + " method.%n"
+                  + "  -C, --checker-threads-number=<checkerThreadsNumber>%n"
+                  + "                            The number of Checker threads (must be greater"
+                  + " than zero).%n"
                   + "  -d, --debug               Prints all debug logging of CheckStyle utility.%n"
                   + "  -e, --exclude=<exclude>   Directory/file to exclude from CheckStyle. The"
                   + " path can be the full,%n"
@@ -135,6 +138,12 @@ public class MainTest {
                   + " with other options.%n"
                   + "  -o=<outputPath>           Sets the output file. Defaults to stdout.%n"
                   + "  -p=<propertiesFile>       Sets the property files to load.%n"
+                  + "  -P, --profile=<profileFile>%n"
+                  + "                            Measures time, calls and allocated memory of"
+                  + " every module. Prints a%n"
+                  + "                              summary sorted by time to the standard error"
+                  + " stream and writes all%n"
+                  + "                              measurements as JSON to the file.%n"
                   + "  -s=<suppressionLineColumnNumber>%n"
                   + "                            Prints xpath suppressions at the file's line and"
                   + " column position.%n"
@@ -154,6 +163,12 @@ public class MainTest {
                   + " but might result in%n"
                   + "                              undesirable matching and suppress other"
                   + " issues.%n"
+                  + "  -S, --slow-files=<slowFilesCount>%n"
+                  + "                            Prints the given number of slowest files with"
+                  + " the time spent reading,%n"
+                  + "                              parsing, walking and filtering each of them"
+                  + " to the standard error%n"
+                  + "                              stream.%n"
                   + "  -t, --tree                This option is used to display the Abstract"
                   + " Syntax Tree (AST) without%n"
                   + "                              any comments of the specified file. It can"
@@ -166,10 +181,14 @@ public class MainTest {
                   + " specified file. It can only be%n"
                   + "                              used on a single file and cannot be combined"
                   + " with other options.%n"
+                  + "  -u, --warm-up-parser      Warms up the Java parser before checking files.%n"
                   + "  -V, --version             Print version information and exit.%n"
                   + "  -w, --tabWidth=<tabWidth> Sets the length of the tab character. Used only"
                   + " with -s option. Default%n"
                   + "                              value is 8.%n"
+                  + "  -W, --tree-walker-threads-number=<treeWalkerThreadsNumber>%n"
+                  + "                            The number of TreeWalker threads (must be greater"
+                  + " than zero).%n"
                   + "  -x, --exclude-regexp=<excludeRegex>%n"
                   + "                            Directory/file pattern to exclude from CheckStyle."
                   + " Multiple excludes%n"
@@ -396,6 +415,83 @@ public class MainTest {
             .isEqualTo("");
     }
 
+    @Test
+    public void testExistingTargetFileWithWarmUpParser(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) {
+        assertMainReturnCode(0, "-u", "-c", getPath("InputMainConfig-classname.xml"),
+                getPath("InputMain.java"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo(addEndOfLine(auditStartMessage.getMessage(),
+                auditFinishMessage.getMessage()));
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo("");
+    }
+
+    @Test
+    public void testExistingTargetFileWithProfile(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) throws IOException {
+        final File profileFile = new File(temporaryFolder, "profile.json");
+        assertMainReturnCode(0, "-P", profileFile.getPath(),
+                "-c", getPath("InputMainConfig-classname.xml"), getPath("InputMain.java"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo(addEndOfLine(auditStartMessage.getMessage(),
+                auditFinishMessage.getMessage()));
+        assertWithMessage("Profile summary should be printed to the error stream")
+            .that(systemErr.getCapturedData())
+            .contains(TypeNameCheck.class.getName());
+        final String profile = Files.readString(profileFile.toPath());
+        assertWithMessage("Profile should contain the parsing")
+            .that(profile)
+            .contains("{\"module\": \"" + JavaParser.class.getName()
+                + "\", \"phase\": \"parse\", \"calls\": 1");
+        assertWithMessage("Profile should contain the checks")
+            .that(profile)
+            .contains("{\"module\": \"" + TypeNameCheck.class.getName()
+                + "\", \"phase\": \"visitToken\", \"calls\": 2");
+        assertWithMessage("Profile should contain the file set checks")
+            .that(profile)
+            .contains("{\"module\": \"" + TreeWalker.class.getName()
+                + "\", \"phase\": \"process\", \"calls\": 1");
+    }
+
+    @Test
+    public void testExistingTargetFileWithSlowFiles(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) {
+        assertMainReturnCode(0, "-S", "1", "-c", getPath("InputMainConfig-classname.xml"),
+                getPath("InputMain.java"), getPath("InputMain1.java"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo(addEndOfLine(auditStartMessage.getMessage(),
+                auditFinishMessage.getMessage()));
+        final String[] report = systemErr.getCapturedData().split(System.lineSeparator());
+        assertWithMessage("Report should contain a header and the slowest file")
+            .that(report)
+            .hasLength(2);
+        assertWithMessage("Unexpected report header")
+            .that(report[0])
+            .isEqualTo(" Total, ms   Read, ms  Parse, ms   Walk, ms Filter, ms  File");
+        assertWithMessage("Report should contain a checked file")
+            .that(report[1])
+            .containsMatch("InputMain1?\\.java$");
+    }
+
+    @Test
+    public void testInvalidSlowFilesCount(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) {
+        assertMainReturnCode(-1, "-S", "-1", "-c", getPath("InputMainConfig-classname.xml"),
+                getPath("InputMain.java"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo("Slow files count must not be negative"
+                + System.lineSeparator());
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo("");
+    }
+
     @Test
     public void testExistingTargetFileXmlOutput(@SysErr Capturable systemErr,
             @SysOut Capturable systemOut) throws IOException {
@@ -567,6 +663,88 @@ public class MainTest {
             .isEqualTo(addEndOfLine(errorCounterTwoMessage.getViolation()));
     }
 
+    @Test
+    public void testExistingTargetFileWithErrorInMultiThreadMode(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) throws Exception {
+        assertMainReturnCode(3, "-C", "3", "-c", getPath("InputMainConfig-classname2-error.xml"),
+                    getPath("InputMain.java"), getPath("InputMain1.java"));
+        final Violation errorCounterThreeMessage = new Violation(1,
+                Definitions.CHECKSTYLE_BUNDLE, Main.ERROR_COUNTER,
+                new String[] {String.valueOf(3)}, null, getClass(), null);
+        final Violation invalidPatternMessageMain = createInvalidPatternViolation("InputMain");
+        final Violation invalidPatternMessageMainInner =
+                createInvalidPatternViolation("InputMainInner");
+        final Violation invalidPatternMessageMain1 = createInvalidPatternViolation("InputMain1");
+        final String expectedPath = getFilePath("InputMain.java");
+        final String expectedPath1 = getFilePath("InputMain1.java");
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo(addEndOfLine(auditStartMessage.getMessage(),
+                    "[ERROR] " + expectedPath + ":3:14: "
+                        + invalidPatternMessageMain.getViolation() + " [TypeName]",
+                    "[ERROR] " + expectedPath + ":5:7: "
+                        + invalidPatternMessageMainInner.getViolation() + " [TypeName]",
+                    "[ERROR] " + expectedPath1 + ":3:14: "
+                        + invalidPatternMessageMain1.getViolation() + " [TypeName]",
+                    auditFinishMessage.getMessage()));
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo(addEndOfLine(errorCounterThreeMessage.getViolation()));
+    }
+
+    @Test
+    public void testExistingTargetFileWithErrorInMultiThreadTreeWalkerMode(
+            @SysErr Capturable systemErr, @SysOut Capturable systemOut) throws Exception {
+        assertMainReturnCode(2, "-W", "2", "-c", getPath("InputMainConfig-classname2-error.xml"),
+                    getPath("InputMain.java"));
+        final Violation errorCounterTwoMessage = new Violation(1,
+                Definitions.CHECKSTYLE_BUNDLE, Main.ERROR_COUNTER,
+                new String[] {String.valueOf(2)}, null, getClass(), null);
+        final Violation invalidPatternMessageMain = createInvalidPatternViolation("InputMain");
+        final Violation invalidPatternMessageMainInner =
+                createInvalidPatternViolation("InputMainInner");
+        final String expectedPath = getFilePath("InputMain.java");
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo(addEndOfLine(auditStartMessage.getMessage(),
+                    "[ERROR] " + expectedPath + ":3:14: "
+                        + invalidPatternMessageMain.getViolation() + " [TypeName]",
+                    "[ERROR] " + expectedPath + ":5:7: "
+                        + invalidPatternMessageMainInner.getViolation() + " [TypeName]",
+                    auditFinishMessage.getMessage()));
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo(addEndOfLine(errorCounterTwoMessage.getViolation()));
+    }
+
+    @Test
+    public void testInvalidTreeWalkerThreadsNumber(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) {
+        assertMainReturnCode(-1, "-W", "0", "-c", getPath("InputMainConfig-classname.xml"),
+                getPath("InputMain.java"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo("TreeWalker threads number must be greater than zero"
+                + System.lineSeparator());
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo("");
+    }
+
+    @Test
+    public void testInvalidCheckerThreadsNumber(@SysErr Capturable systemErr,
+            @SysOut Capturable systemOut) {
+        assertMainReturnCode(-1, "-C", "0", "-c", getPath("InputMainConfig-classname.xml"),
+                getPath("InputMain.java"));
+        assertWithMessage("Unexpected output log")
+            .that(systemOut.getCapturedData())
+            .isEqualTo("Checker threads number must be greater than zero"
+                + System.lineSeparator());
+        assertWithMessage("Unexpected system error log")
+            .that(systemErr.getCapturedData())
+            .isEqualTo("");
+    }
+
     /**
      * Similar test to {@link #testExistingTargetFileWithError}, but for PIT mutation tests:
      * this test fails if the boundary condition is changed from {@code if (exitStatus > 0)}
@@ -835,77 +1013,6 @@ public class MainTest {
             .isEqualTo("");
     }
 
-    /**
-     * Test doesn't need to be serialized.
-     *
-     * @noinspection SerializableInnerClassWithNonSerializableOuterClass
-     * @noinspectionreason SerializableInnerClassWithNonSerializableOuterClass - mocked file
-     *      for test does not require serialization
-     */
-    @Test
-    public void testListFilesNotFile() throws Exception {
-        final File fileMock = new File("") {
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            public boolean canRead() {
-                return true;
-            }
-
-            @Override
-            public boolean isDirectory() {
-                return false;
-            }
-
-            @Override
-            public boolean isFile() {
-                return false;
-            }
-        };
-
-        final List<File> result = TestUtil.invokeStaticMethod(Main.class, "listFiles",
-                fileMock, new ArrayList<>());
-        assertWithMessage("Invalid result size")
-            .that(result)
-            .isEmpty();
-    }
-
-    /**
-     * Test doesn't need to be serialized.
-     *
-     * @noinspection SerializableInnerClassWithNonSerializableOuterClass
-     * @noinspectionreason SerializableInnerClassWithNonSerializableOuterClass - mocked file
-     *      for test does not require serialization
-     */
-    @Test
-    public void testListFilesDirectoryWithNull() throws Exception {
-        final File[] nullResult = null;
-        final File fileMock = new File("") {
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            public boolean canRead() {
-                return true;
-            }
-
-            @Override
-            public boolean isDirectory() {
-                return true;
-            }
-
-            @Override
-            public File[] listFiles() {
-                return nullResult;
-            }
-        };
-
-        final List<File> result = TestUtil.invokeStaticMethod(Main.class, "listFiles",
-                fileMock, new ArrayList<>());
-        assertWithMessage("Invalid result size")
-            .that(result)
-            .isEmpty();
-    }
-
     @Test
     public void testFileReferenceDuringException(@SysErr Capturable systemErr) {
         // We put xml as source to cause parse exception
@@ -1699,22 +1806,6 @@ public class MainTest {
             .isEqualTo("");
     }
 
-    @Test
-    @SuppressWarnings("unchecked")
-    public void testExcludeDirectoryNotMatch() throws Exception {
-        final Class<?> optionsClass = Class.forName(Main.class.getName());
-        final Method method = optionsClass.getDeclaredMethod("listFiles", File.class, List.class);
-        method.setAccessible(true);
-        final List<Pattern> list = new ArrayList<>();
-        list.add(Pattern.compile("BAD_PATH"));
-
-        final List<File> result = (List<File>) method.invoke(null, new File(getFilePath("")),
-                list);
-        assertWithMessage("Invalid result size")
-            .that(result)
-            .isNotEmpty();
-    }
-
     @Test
     public void testCustomRootModule(@SysErr Capturable systemErr, @SysOut Capturable systemOut) {
         TestRootModuleChecker.reset();
@@ -1863,6 +1954,12 @@ public class MainTest {
      * @noinspectionreason ResultOfMethodCallIgnored - Setup for mockito to only
      *                     mock getRuntime to avoid VM termination.
      */
+    private static Violation createInvalidPatternViolation(String typeName) {
+        return new Violation(1, "com.puppycrawl.tools.checkstyle.checks.naming.messages",
+                "name.invalidPattern", new String[] {typeName, "^[a-z0-9]*$"},
+                null, MainTest.class, null);
+    }
+
     private static void assertMainReturnCode(int expectedExitCode, String... arguments) {
         final Runtime mock = mock();
         try (MockedStatic<Runtime> runtime = mockStatic(Runtime.class)) {
@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.checks.naming.TypeNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.whitespace.WhitespaceAroundCheck;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
+
+public class ModuleProfilerTest {
+
+    @Test
+    public void testAddSampleSumsCallsOfSameClass() {
+        final ModuleProfiler profiler = new ModuleProfiler();
+        profiler.addSample(TypeNameCheck.class, ModuleProfiler.Phase.VISIT_TOKEN,
+                System.nanoTime(), profiler.getAllocatedBytes());
+        profiler.addSample(TypeNameCheck.class, ModuleProfiler.Phase.VISIT_TOKEN,
+                System.nanoTime(), profiler.getAllocatedBytes());
+        profiler.addSample(TypeNameCheck.class, ModuleProfiler.Phase.BEGIN_TREE,
+                System.nanoTime(), profiler.getAllocatedBytes());
+
+        final List<ModuleProfiler.Entry> entries = profiler.getEntries();
+        assertWithMessage("Phases without calls should not be reported")
+                .that(entries)
+                .hasSize(2);
+        final long visitCalls = entries.stream()
+                .filter(entry -> entry.getPhase() == ModuleProfiler.Phase.VISIT_TOKEN)
+                .mapToLong(ModuleProfiler.Entry::getCalls)
+                .sum();
+        assertWithMessage("Calls of the same module class should be summed")
+                .that(visitCalls)
+                .isEqualTo(2);
+        assertWithMessage("Invalid module name")
+                .that(entries.get(0).getModuleName())
+                .isEqualTo(TypeNameCheck.class.getName());
+    }
+
+    @Test
+    public void testEntriesSortedByTime() {
+        final ModuleProfiler profiler = new ModuleProfiler();
+        final long now = System.nanoTime();
+        profiler.addSample(TypeNameCheck.class, ModuleProfiler.Phase.VISIT_TOKEN,
+                now, profiler.getAllocatedBytes());
+        profiler.addSample(WhitespaceAroundCheck.class, ModuleProfiler.Phase.VISIT_TOKEN,
+                now - 1_000_000_000L, profiler.getAllocatedBytes());
+
+        final List<ModuleProfiler.Entry> entries = profiler.getEntries();
+        assertWithMessage("The slowest module should be first")
+                .that(entries.get(0).getModuleName())
+                .isEqualTo(WhitespaceAroundCheck.class.getName());
+        assertWithMessage("Time should be measured")
+                .that(entries.get(0).getNanos())
+                .isAtLeast(1_000_000_000L);
+    }
+
+    @Test
+    public void testSummaryAndJson() {
+        final ModuleProfiler profiler = new ModuleProfiler();
+        profiler.addSample(TypeNameCheck.class, ModuleProfiler.Phase.FINISH_TREE,
+                System.nanoTime(), profiler.getAllocatedBytes());
+
+        final String summary = profiler.getSummary();
+        assertWithMessage("Summary should have a header")
+                .that(summary)
+                .startsWith("Module");
+        assertWithMessage("Summary should contain the module")
+                .that(summary)
+                .contains(TypeNameCheck.class.getName() + " ");
+
+        final String json = profiler.toJson();
+        assertWithMessage("Json should contain the measurement")
+                .that(json)
+                .contains("{\"module\": \"" + TypeNameCheck.class.getName()
+                        + "\", \"phase\": \"finishTree\", \"calls\": 1, \"timeNanos\": ");
+        assertWithMessage("Json should tell whether allocation is measured")
+                .that(json)
+                .contains("\"allocationMeasured\": " + profiler.isAllocationMeasured());
+        assertWithMessage("Allocated bytes should be reported only when measured")
+                .that(json.contains("\"allocatedBytes\""))
+                .isEqualTo(profiler.isAllocationMeasured());
+    }
+
+    @Test
+    public void testEscapeJson() throws Exception {
+        final String escaped = TestUtil.invokeStaticMethod(ModuleProfiler.class, "escapeJson",
+                "a\"b\\c" + (char) 1 + "d");
+        assertWithMessage("Invalid escaped value")
+                .that(escaped)
+                .isEqualTo("a\\\"b\\\\c\\u0001d");
+    }
+
+    @Test
+    public void testEmptyProfile() {
+        final ModuleProfiler profiler = new ModuleProfiler();
+        assertWithMessage("No entries expected")
+                .that(profiler.getEntries())
+                .isEmpty();
+        assertWithMessage("Invalid json of empty profile")
+                .that(profiler.toJson())
+                .isEqualTo("{\n  \"allocationMeasured\": " + profiler.isAllocationMeasured()
+                        + ",\n  \"measurements\": [\n  ]\n}\n");
+    }
+
+}
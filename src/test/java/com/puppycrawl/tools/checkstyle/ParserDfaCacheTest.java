@@ -0,0 +1,89 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.lang.ref.SoftReference;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.grammar.CompositeLexerContextCache;
+import com.puppycrawl.tools.checkstyle.grammar.java.JavaLanguageLexer;
+import com.puppycrawl.tools.checkstyle.grammar.java.JavaLanguageParser;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
+
+public class ParserDfaCacheTest {
+
+    @Test
+    public void testClearWhenLimitIsExceeded() {
+        final ParserATNSimulator interpreter = parse();
+        final ParserDfaCache dfaCache = new ParserDfaCache(0, 2);
+        dfaCache.fileParsed(interpreter);
+        assertWithMessage("DFA should be kept until the size is checked")
+                .that(ParserDfaCache.countStates(interpreter))
+                .isGreaterThan(0L);
+        dfaCache.fileParsed(interpreter);
+        assertWithMessage("DFA should be cleared above the limit")
+                .that(ParserDfaCache.countStates(interpreter))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    public void testKeepBelowLimit() {
+        final ParserATNSimulator interpreter = parse();
+        final ParserDfaCache dfaCache = new ParserDfaCache(Long.MAX_VALUE, 1);
+        for (int file = 0; file < 100; file++) {
+            dfaCache.fileParsed(interpreter);
+        }
+        assertWithMessage("DFA should be kept below the limit")
+                .that(ParserDfaCache.countStates(interpreter))
+                .isGreaterThan(0L);
+    }
+
+    @Test
+    public void testClearOnHeapPressure() throws Exception {
+        final ParserATNSimulator interpreter = parse();
+        final ParserDfaCache dfaCache = new ParserDfaCache(Long.MAX_VALUE, 1);
+        TestUtil.setInternalState(dfaCache, "heapPressureSentinel", new SoftReference<>(null));
+        dfaCache.fileParsed(interpreter);
+        assertWithMessage("DFA should be cleared on heap pressure")
+                .that(ParserDfaCache.countStates(interpreter))
+                .isEqualTo(0L);
+        final SoftReference<Object> sentinel =
+                TestUtil.getInternalState(dfaCache, "heapPressureSentinel");
+        assertWithMessage("Sentinel should be renewed")
+                .that(sentinel.get())
+                .isNotNull();
+    }
+
+    private static ParserATNSimulator parse() {
+        final JavaLanguageLexer lexer = new JavaLanguageLexer(CharStreams.fromString(
+                "class Input { int field = 1; void method() { field++; } }"), true);
+        lexer.setContextCache(new CompositeLexerContextCache(lexer));
+        final JavaLanguageParser parser = new JavaLanguageParser(new CommonTokenStream(lexer));
+        parser.compilationUnit();
+        return parser.getInterpreter();
+    }
+
+}
@@ -36,6 +36,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Properties;
@@ -54,6 +55,9 @@ import com.google.common.io.BaseEncoding;
 import com.google.common.io.ByteStreams;
 import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
 import com.puppycrawl.tools.checkstyle.api.Configuration;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
 
@@ -431,6 +435,246 @@ public class PropertyCacheFileTest extends AbstractPathTestSupport {
             .hasSize(1);
     }
 
+    @Test
+    public void testContentHashingPersistAndLoad() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "cache.bin");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        cache.load();
+        cache.putExternalResources(Set.of(getPath("InputPropertyCacheFileExternal.properties")));
+        for (int index = 0; index < 100; index++) {
+            cache.put("dir/File" + index + ".java", "hash" + index);
+        }
+        cache.persist();
+
+        final PropertyCacheFile loaded = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        loaded.load();
+        assertWithMessage("Content hashing mode is expected")
+            .that(loaded.isContentHashing())
+            .isTrue();
+        for (int index = 0; index < 100; index++) {
+            assertWithMessage("Should return true when file is in cache")
+                .that(loaded.isInCache("dir/File" + index + ".java", "hash" + index))
+                .isTrue();
+        }
+        assertWithMessage("Should return false when content is different")
+            .that(loaded.isInCache("dir/File1.java", "hash2"))
+            .isFalse();
+        assertWithMessage("Should return false when state is unknown")
+            .that(loaded.isInCache("dir/File1.java", null))
+            .isFalse();
+        assertWithMessage("Config hash should be loaded")
+            .that(loaded.get(PropertyCacheFile.CONFIG_HASH_KEY))
+            .isEqualTo(cache.get(PropertyCacheFile.CONFIG_HASH_KEY));
+
+        loaded.remove("dir/File1.java");
+        loaded.put("dir/File2.java", "newHash");
+        loaded.put("dir/File3.java", (String) null);
+        loaded.persist();
+
+        final PropertyCacheFile reloaded =
+            new PropertyCacheFile(config, cacheFile.getPath(), true);
+        reloaded.load();
+        assertWithMessage("Removed file should not be in cache")
+            .that(reloaded.get("dir/File1.java"))
+            .isNull();
+        assertWithMessage("Invalid cache value")
+            .that(reloaded.get("dir/File2.java"))
+            .isEqualTo("newHash");
+        assertWithMessage("File with unknown state should not be in cache")
+            .that(reloaded.get("dir/File3.java"))
+            .isNull();
+        assertWithMessage("Invalid cache value")
+            .that(reloaded.get("dir/File99.java"))
+            .isEqualTo("hash99");
+    }
+
+    @Test
+    public void testContentHashingChangeInConfig() throws IOException {
+        final DefaultConfiguration config = new DefaultConfiguration("myConfig");
+        final File cacheFile = new File(temporaryFolder, "cache.bin");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        cache.load();
+        cache.put("File.java", "hash");
+        cache.persist();
+
+        config.addProperty("newAttr", "newValue");
+        final PropertyCacheFile cacheAfterChangeInConfig =
+            new PropertyCacheFile(config, cacheFile.getPath(), true);
+        cacheAfterChangeInConfig.load();
+
+        assertWithMessage("Cache should be cleared on change in config")
+            .that(cacheAfterChangeInConfig.get("File.java"))
+            .isNull();
+        assertWithMessage("Invalid config hash")
+            .that(cacheAfterChangeInConfig.get(PropertyCacheFile.CONFIG_HASH_KEY))
+            .isNotEqualTo(cache.get(PropertyCacheFile.CONFIG_HASH_KEY));
+    }
+
+    @Test
+    public void testContentHashingIgnoresDamagedFile() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "cache.bin");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        cache.load();
+        cache.put("File.java", "hash");
+        cache.persist();
+        final byte[] content = Files.readAllBytes(cacheFile.toPath());
+        Files.write(cacheFile.toPath(), Arrays.copyOf(content, content.length - 1));
+
+        final PropertyCacheFile loaded = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        loaded.load();
+        assertWithMessage("Damaged cache file should be treated as empty cache")
+            .that(loaded.get("File.java"))
+            .isNull();
+        assertWithMessage("Config hash should be set")
+            .that(loaded.get(PropertyCacheFile.CONFIG_HASH_KEY))
+            .isEqualTo(cache.get(PropertyCacheFile.CONFIG_HASH_KEY));
+    }
+
+    @Test
+    public void testContentHashingIgnoresFileInOtherFormat() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final PropertyCacheFile cache = new PropertyCacheFile(config,
+                getPath("InputPropertyCacheFile"), true);
+        cache.load();
+
+        assertWithMessage("Config hash key should not be null")
+            .that(cache.get(PropertyCacheFile.CONFIG_HASH_KEY))
+            .isNotNull();
+        assertWithMessage("Should return null if file is not in binary format")
+            .that(cache.get("key"))
+            .isNull();
+    }
+
+    @Test
+    public void testContentHashingStoresViolations() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "cache.bin");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        cache.load();
+        final Violation violation = new Violation(2, 3, 4, TokenTypes.CLASS_DEF,
+                "com.puppycrawl.tools.checkstyle.checks.messages", "key",
+                new Object[] {"{x}", 1000}, SeverityLevel.WARNING, "myId",
+                PropertyCacheFileTest.class, "Message ''{0}'' {1}");
+        cache.put("Clean.java", "hash1");
+        cache.putViolations("Clean.java", Set.of());
+        cache.put("Dirty.java", "hash2");
+        cache.putViolations("Dirty.java", Set.of(violation));
+        cache.persist();
+
+        final PropertyCacheFile loaded = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        loaded.load();
+        assertWithMessage("File with violations should be in cache")
+            .that(loaded.isInCache("Dirty.java", "hash2"))
+            .isTrue();
+        assertWithMessage("File without violations should have no violations")
+            .that(loaded.getViolations("Clean.java", getClass().getClassLoader()))
+            .isEmpty();
+        assertWithMessage("Missing file should have no violations")
+            .that(loaded.getViolations("Missing.java", getClass().getClassLoader()))
+            .isNull();
+        final Violation restored =
+            loaded.getViolations("Dirty.java", getClass().getClassLoader()).get(0);
+        assertWithMessage("Invalid restored message")
+            .that(restored.getViolation())
+            .isEqualTo(violation.getViolation());
+        assertWithMessage("Invalid restored line")
+            .that(restored.getLineNo())
+            .isEqualTo(2);
+        assertWithMessage("Invalid restored column")
+            .that(restored.getColumnNo())
+            .isEqualTo(3);
+        assertWithMessage("Invalid restored column char index")
+            .that(restored.getColumnCharIndex())
+            .isEqualTo(4);
+        assertWithMessage("Invalid restored token type")
+            .that(restored.getTokenType())
+            .isEqualTo(TokenTypes.CLASS_DEF);
+        assertWithMessage("Invalid restored severity")
+            .that(restored.getSeverityLevel())
+            .isEqualTo(SeverityLevel.WARNING);
+        assertWithMessage("Invalid restored module id")
+            .that(restored.getModuleId())
+            .isEqualTo("myId");
+        assertWithMessage("Invalid restored key")
+            .that(restored.getKey())
+            .isEqualTo("key");
+        assertWithMessage("Invalid restored source")
+            .that(restored.getSourceName())
+            .isEqualTo(PropertyCacheFileTest.class.getName());
+
+        assertWithMessage("Violations with unknown source should not be restored")
+            .that(loaded.getViolations("Dirty.java", ClassLoader.getPlatformClassLoader()))
+            .isNull();
+    }
+
+    @Test
+    public void testTimestampCacheRemovesFileWithViolations() {
+        final Configuration config = new DefaultConfiguration("myName");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, "cache");
+        final Violation violation = new Violation(1, null, null, null, null,
+                PropertyCacheFileTest.class, "message");
+        cache.put("Clean.java", 1);
+        cache.putViolations("Clean.java", Set.of());
+        cache.put("Dirty.java", 1);
+        cache.putViolations("Dirty.java", Set.of(violation));
+
+        assertWithMessage("File without violations should stay in cache")
+            .that(cache.isInCache("Clean.java", 1))
+            .isTrue();
+        assertWithMessage("File with violations should be removed from cache")
+            .that(cache.isInCache("Dirty.java", 1))
+            .isFalse();
+    }
+
+    @Test
+    public void testGetContentHash() throws IOException {
+        final File file = new File(temporaryFolder, "File.java");
+        Files.writeString(file.toPath(), "class File {}");
+        final File copy = new File(temporaryFolder, "Copy.java");
+        Files.writeString(copy.toPath(), "class File {}");
+        final File other = new File(temporaryFolder, "Other.java");
+        Files.writeString(other.toPath(), "class Other {}");
+
+        assertWithMessage("Hash should be the digest of the raw content")
+            .that(PropertyCacheFile.getContentHash(file.toPath()))
+            .isEqualTo("79CC8934734A37E17DDB6EE1659182C1BC9A3B39");
+        assertWithMessage("Files with the same content should have the same hash")
+            .that(PropertyCacheFile.getContentHash(copy.toPath()))
+            .isEqualTo(PropertyCacheFile.getContentHash(file.toPath()));
+        assertWithMessage("Files with different content should have different hashes")
+            .that(PropertyCacheFile.getContentHash(other.toPath()))
+            .isNotEqualTo(PropertyCacheFile.getContentHash(file.toPath()));
+    }
+
+    @Test
+    public void testContentHashingSkipsWriteWithoutChanges() throws IOException {
+        final Configuration config = new DefaultConfiguration("myName");
+        final File cacheFile = new File(temporaryFolder, "cache.bin");
+        final PropertyCacheFile cache = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        cache.load();
+        cache.put("Clean.java", "hash1");
+        cache.persist();
+
+        final PropertyCacheFile loaded = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        loaded.load();
+        loaded.put("Clean.java", "hash1");
+        Files.delete(cacheFile.toPath());
+        loaded.persist();
+        assertWithMessage("Unchanged cache should not be written")
+            .that(cacheFile.exists())
+            .isFalse();
+
+        loaded.put("Clean.java", "hash2");
+        loaded.persist();
+        final PropertyCacheFile reloaded = new PropertyCacheFile(config, cacheFile.getPath(), true);
+        reloaded.load();
+        assertWithMessage("Changed cache should be written")
+            .that(reloaded.isInCache("Clean.java", "hash2"))
+            .isTrue();
+    }
+
     @Test
     public void testNonExistentResource() throws IOException {
         final Configuration config = new DefaultConfiguration("myName");
@@ -450,7 +694,7 @@ public class PropertyCacheFileTest extends AbstractPathTestSupport {
 
         // apply new external resource to clear cache
         final Set<String> resources = new HashSet<>();
-        final String resource = getPath("InputPropertyCacheFile.header");
+        final String resource = getPath("InputPropertyCacheFileExternal.properties");
         resources.add(resource);
         cache.putExternalResources(resources);
 
@@ -133,6 +133,36 @@ public class SarifLoggerTest extends AbstractModuleTestSupport {
         verifyContent(getPath("ExpectedSarifLoggerDoubleError.sarif"), outStream);
     }
 
+    @Test
+    public void testAddErrorWithoutAuditStarted() throws IOException {
+        final SarifLogger logger = new SarifLogger(outStream,
+                OutputStreamOptions.CLOSE);
+        final Violation violation =
+                new Violation(1, 1,
+                        "messages.properties", "ruleId", null, SeverityLevel.ERROR, null,
+                        getClass(), "found an error");
+        final AuditEvent ev = new AuditEvent(this, "Test.java", violation);
+        logger.addError(ev);
+        logger.auditFinished(null);
+        verifyContent(getPath("ExpectedSarifLoggerSingleError.sarif"), outStream);
+    }
+
+    @Test
+    public void testMessageWithPlaceholders() throws IOException {
+        final SarifLogger logger = new SarifLogger(outStream,
+                OutputStreamOptions.CLOSE);
+        logger.auditStarted(null);
+        final Violation violation =
+                new Violation(1, 1,
+                        "messages.properties", "ruleId", null, SeverityLevel.ERROR, null,
+                        getClass(), "$'{'uri'}' $'{'ruleId'}'");
+        logger.addError(new AuditEvent(this, "Test.java", violation));
+        logger.auditFinished(null);
+        assertWithMessage("Placeholders in messages should be written as is")
+            .that(outStream.toString(StandardCharsets.UTF_8))
+            .contains("\"text\": \"${uri} ${ruleId}\"");
+    }
+
     @Test
     public void testAddException() throws IOException {
         final SarifLogger logger = new SarifLogger(outStream,
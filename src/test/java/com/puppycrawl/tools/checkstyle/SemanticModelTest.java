@@ -0,0 +1,214 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.SemanticModel.DeclarationScope;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+
+public class SemanticModelTest extends AbstractModuleTestSupport {
+
+    @Override
+    protected String getPackageLocation() {
+        return "com/puppycrawl/tools/checkstyle/semanticmodel";
+    }
+
+    @AfterEach
+    public void releaseModel() {
+        SemanticModel.release();
+    }
+
+    @Test
+    public void testSharedPerTree() throws Exception {
+        final DetailAST root = parse();
+        final SemanticModel model = SemanticModel.of(root);
+        assertWithMessage("Model should be shared for the same tree")
+                .that(SemanticModel.of(root))
+                .isSameInstanceAs(model);
+        assertWithMessage("Model should be created for another tree")
+                .that(SemanticModel.of(parse()))
+                .isNotSameInstanceAs(model);
+        SemanticModel.release();
+        assertWithMessage("Model should be created after release")
+                .that(SemanticModel.of(root))
+                .isNotSameInstanceAs(model);
+    }
+
+    @Test
+    public void testFields() throws Exception {
+        final SemanticModel model = SemanticModel.of(parse());
+        final DeclarationScope classScope = model.getFileScope().getChildren().get(0);
+        assertWithMessage("Class should be a type scope")
+                .that(classScope.isTypeScope())
+                .isTrue();
+        assertWithMessage("Invalid fields")
+                .that(names(classScope.getFields()))
+                .containsExactly("field", "TASK")
+                .inOrder();
+
+        final DetailAST anonymousClass = findFirst(model, TokenTypes.LITERAL_NEW);
+        assertWithMessage("Invalid anonymous class fields")
+                .that(names(model.getScope(anonymousClass).getFields()))
+                .containsExactly("anonymousField");
+
+        final DetailAST enumDef = findFirst(model, TokenTypes.ENUM_DEF);
+        assertWithMessage("Invalid enum fields")
+                .that(names(model.getScope(enumDef).getFields()))
+                .containsExactly("PLAIN", "SPECIAL")
+                .inOrder();
+        final DetailAST special = model.getScope(enumDef).getFields().get(1);
+        assertWithMessage("Invalid enum constant body fields")
+                .that(names(model.getScope(special).getFields()))
+                .containsExactly("specialField");
+
+        final DetailAST recordDef = findFirst(model, TokenTypes.RECORD_DEF);
+        assertWithMessage("Invalid record fields")
+                .that(names(model.getScope(recordDef).getFields()))
+                .containsExactly("x", "y")
+                .inOrder();
+    }
+
+    @Test
+    public void testParametersAndLocals() throws Exception {
+        final SemanticModel model = SemanticModel.of(parse());
+        // the anonymous class and the constructor come first
+        final DeclarationScope methodScope = model.getFileScope().getChildren().get(0)
+                .getChildren().get(2);
+        assertWithMessage("Invalid method scope")
+                .that(methodScope.getAst().findFirstToken(TokenTypes.IDENT).getText())
+                .isEqualTo("method");
+        assertWithMessage("Receiver parameter should be skipped")
+                .that(names(methodScope.getParameters()))
+                .containsExactly("parameter", "object")
+                .inOrder();
+        final DeclarationScope bodyScope = methodScope.getChildren().get(0);
+        assertWithMessage("Method body should not be a type scope")
+                .that(bodyScope.isTypeScope())
+                .isFalse();
+        assertWithMessage("Invalid locals")
+                .that(names(bodyScope.getLocals()))
+                .containsExactly("local", "text", "single", "pair")
+                .inOrder();
+        assertWithMessage("Invalid for locals")
+                .that(names(model.getScope(findFirst(model, TokenTypes.LITERAL_FOR)).getLocals()))
+                .containsExactly("index");
+        assertWithMessage("Invalid resources")
+                .that(names(model.getScope(findFirst(model, TokenTypes.LITERAL_TRY)).getLocals()))
+                .containsExactly("reader");
+        assertWithMessage("Invalid catch parameters")
+                .that(names(model.getScope(findFirst(model, TokenTypes.LITERAL_CATCH))
+                        .getParameters()))
+                .containsExactly("ex");
+    }
+
+    @Test
+    public void testLambdaParameters() throws Exception {
+        final SemanticModel model = SemanticModel.of(parse());
+        final List<DeclarationScope> lambdas = findAll(model.getFileScope(), TokenTypes.LAMBDA);
+        assertWithMessage("Invalid lambda scopes")
+                .that(lambdas)
+                .hasSize(2);
+        assertWithMessage("Invalid single lambda parameter")
+                .that(names(lambdas.get(0).getParameters()))
+                .containsExactly("value");
+        assertWithMessage("Invalid lambda parameters")
+                .that(names(lambdas.get(1).getParameters()))
+                .containsExactly("first", "second")
+                .inOrder();
+        assertWithMessage("Invalid lambda body locals")
+                .that(names(lambdas.get(1).getChildren().get(0).getLocals()))
+                .containsExactly("joined");
+    }
+
+    @Test
+    public void testScopeTree() throws Exception {
+        final DetailAST root = parse();
+        final SemanticModel model = SemanticModel.of(root);
+        final DeclarationScope fileScope = model.getFileScope();
+        assertWithMessage("Invalid file scope ast")
+                .that(fileScope.getAst())
+                .isSameInstanceAs(root);
+        assertWithMessage("File scope should not have a parent")
+                .that(fileScope.getParent())
+                .isNull();
+        assertWithMessage("File scope should not be found by ast")
+                .that(model.getScope(root))
+                .isNull();
+        final DeclarationScope classScope = fileScope.getChildren().get(0);
+        assertWithMessage("Invalid parent")
+                .that(classScope.getParent())
+                .isSameInstanceAs(fileScope);
+        assertWithMessage("Invalid scope lookup")
+                .that(model.getScope(classScope.getAst()))
+                .isSameInstanceAs(classScope);
+        assertWithMessage("Try without resources should not open a scope")
+                .that(findAll(fileScope, TokenTypes.LITERAL_TRY))
+                .hasSize(1);
+    }
+
+    private DetailAST parse() throws Exception {
+        return JavaParser.parseFile(new File(getNonCompilablePath("InputSemanticModel.java")),
+                JavaParser.Options.WITHOUT_COMMENTS);
+    }
+
+    private static DetailAST findFirst(SemanticModel model, int tokenType) {
+        return findAll(model.getFileScope(), tokenType).get(0).getAst();
+    }
+
+    private static List<DeclarationScope> findAll(DeclarationScope scope, int tokenType) {
+        final List<DeclarationScope> result = new ArrayList<>();
+        for (DeclarationScope child : scope.getChildren()) {
+            if (child.getAst().getType() == tokenType) {
+                result.add(child);
+            }
+            result.addAll(findAll(child, tokenType));
+        }
+        return result;
+    }
+
+    private static List<String> names(List<DetailAST> asts) {
+        return asts.stream()
+                .map(SemanticModelTest::getName)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static String getName(DetailAST ast) {
+        final DetailAST ident = ast.findFirstToken(TokenTypes.IDENT);
+        final String name;
+        if (ident == null) {
+            name = ast.getText();
+        }
+        else {
+            name = ident.getText();
+        }
+        return name;
+    }
+
+}
@@ -0,0 +1,132 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static com.puppycrawl.tools.checkstyle.internal.utils.TestUtil.getExpectedThrowable;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.AbstractAutomaticBean.OutputStreamOptions;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.FileTimings;
+import com.puppycrawl.tools.checkstyle.internal.utils.CloseAndFlushTestByteArrayOutputStream;
+
+public class SlowFilesAuditListenerTest {
+
+    private static final String EOL = System.getProperty("line.separator");
+
+    private static final String HEADER =
+            " Total, ms   Read, ms  Parse, ms   Walk, ms Filter, ms  File" + EOL;
+
+    private final CloseAndFlushTestByteArrayOutputStream outStream =
+            new CloseAndFlushTestByteArrayOutputStream();
+
+    @Test
+    public void testReportsSlowestFiles() {
+        final SlowFilesAuditListener listener =
+                new SlowFilesAuditListener(outStream, OutputStreamOptions.NONE, 2);
+        listener.finishLocalSetup();
+        listener.auditStarted(null);
+        listener.fileFinished(createFileFinishedEvent("Fast.java", 1_000_000));
+        listener.fileFinished(createFileFinishedEvent("Slowest.java", 9_000_000));
+        listener.fileFinished(createFileFinishedEvent("Slow.java", 5_000_000));
+        listener.fileFinished(createFileFinishedEvent("Faster.java", 2_000_000));
+        listener.auditFinished(null);
+
+        assertWithMessage("Invalid report")
+            .that(outStream.toString(StandardCharsets.UTF_8))
+            .isEqualTo(HEADER
+                + "      36.0        9.0        9.0        9.0        9.0  Slowest.java" + EOL
+                + "      20.0        5.0        5.0        5.0        5.0  Slow.java" + EOL);
+    }
+
+    @Test
+    public void testIgnoresEventsWithoutTimings() {
+        final SlowFilesAuditListener listener =
+                new SlowFilesAuditListener(outStream, OutputStreamOptions.NONE, 2);
+        listener.auditStarted(null);
+        listener.fileStarted(new AuditEvent(this, "Some.java"));
+        listener.addError(new AuditEvent(this, "Some.java"));
+        listener.addException(new AuditEvent(this, "Some.java"), new IllegalStateException());
+        listener.fileFinished(new AuditEvent(this, "Some.java"));
+        listener.auditFinished(null);
+
+        assertWithMessage("Only the header should be reported")
+            .that(outStream.toString(StandardCharsets.UTF_8))
+            .isEqualTo(HEADER);
+    }
+
+    @Test
+    public void testAuditStartedClearsFiles() {
+        final SlowFilesAuditListener listener =
+                new SlowFilesAuditListener(outStream, OutputStreamOptions.NONE, 1);
+        listener.auditStarted(null);
+        listener.fileFinished(createFileFinishedEvent("First.java", 1_000_000));
+        listener.auditStarted(null);
+        listener.auditFinished(null);
+
+        assertWithMessage("Files of the previous audit should not be reported")
+            .that(outStream.toString(StandardCharsets.UTF_8))
+            .isEqualTo(HEADER);
+    }
+
+    @Test
+    public void testInvalidLimit() {
+        final IllegalArgumentException ex = getExpectedThrowable(IllegalArgumentException.class,
+            () -> new SlowFilesAuditListener(outStream, OutputStreamOptions.NONE, 0));
+        assertWithMessage("Invalid exception message")
+            .that(ex.getMessage())
+            .isEqualTo("Limit must be greater than zero");
+    }
+
+    @Test
+    public void testCloseStream() {
+        final SlowFilesAuditListener listener =
+                new SlowFilesAuditListener(outStream, OutputStreamOptions.CLOSE, 1);
+        listener.auditStarted(null);
+        listener.auditFinished(null);
+
+        assertWithMessage("Invalid close count")
+            .that(outStream.getCloseCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    public void testNoCloseStream() {
+        final SlowFilesAuditListener listener =
+                new SlowFilesAuditListener(outStream, OutputStreamOptions.NONE, 1);
+        listener.auditStarted(null);
+        listener.auditFinished(null);
+
+        assertWithMessage("Invalid close count")
+            .that(outStream.getCloseCount())
+            .isEqualTo(0);
+    }
+
+    private AuditEvent createFileFinishedEvent(String fileName, long phaseNanos) {
+        final FileTimings timings =
+                new FileTimings(phaseNanos, phaseNanos, phaseNanos, phaseNanos);
+        return new AuditEvent(this, fileName, null, timings);
+    }
+
+}
@@ -182,6 +182,85 @@ public class TreeWalkerTest extends AbstractModuleTestSupport {
         }
     }
 
+    @Test
+    public void testMultiThreadMode() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = new DefaultConfiguration(
+                TreeWalker.class.getName(), new ThreadModeSettings(1, 3));
+        final DefaultConfiguration typeNameConfig = createModuleConfig(TypeNameCheck.class);
+        typeNameConfig.addProperty("format", "^[a-z]*$");
+        treeWalkerConfig.addChild(typeNameConfig);
+        treeWalkerConfig.addChild(createModuleConfig(JavadocParagraphCheck.class));
+        treeWalkerConfig.addChild(createModuleConfig(OneTopLevelClassCheck.class));
+        treeWalkerConfig.addChild(createModuleConfig(CommentsIndentationCheck.class));
+        final String[] expected = {
+            "7: " + getCheckMessage(JavadocParagraphCheck.class,
+                    JavadocParagraphCheck.MSG_REDUNDANT_PARAGRAPH),
+            "8:14: " + getCheckMessage(TypeNameCheck.class, MSG_INVALID_PATTERN,
+                    "InputTreeWalkerJavadoc", "^[a-z]*$"),
+        };
+        verify(createRootConfig(treeWalkerConfig), getPath("InputTreeWalkerJavadoc.java"),
+                expected);
+    }
+
+    @Test
+    public void testSingleWalkForFileWithoutComments() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        verifySingleWalkForFileWithoutComments(treeWalkerConfig);
+    }
+
+    @Test
+    public void testSingleWalkForFileWithoutCommentsInMultiThreadMode() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = new DefaultConfiguration(
+                TreeWalker.class.getName(), new ThreadModeSettings(1, 2));
+        verifySingleWalkForFileWithoutComments(treeWalkerConfig);
+    }
+
+    private void verifySingleWalkForFileWithoutComments(DefaultConfiguration treeWalkerConfig)
+            throws Exception {
+        final DefaultConfiguration typeNameConfig = createModuleConfig(TypeNameCheck.class);
+        typeNameConfig.addProperty("format", "^[a-z]*$");
+        treeWalkerConfig.addChild(typeNameConfig);
+        treeWalkerConfig.addChild(createModuleConfig(VerifyVisitCommentCheck.class));
+        final File file = new File(temporaryFolder, "InputTreeWalkerNoComments.java");
+        Files.write(file.toPath(), Arrays.asList("public class InputTreeWalkerNoComments {", "}"),
+                StandardCharsets.UTF_8);
+        final String[] expected = {
+            "1:14: " + getCheckMessage(TypeNameCheck.class, MSG_INVALID_PATTERN,
+                    "InputTreeWalkerNoComments", "^[a-z]*$"),
+        };
+        VerifyVisitCommentCheck.resetVisitCount();
+        try (MockedStatic<JavaParser> parser =
+                     Mockito.mockStatic(JavaParser.class, CALLS_REAL_METHODS)) {
+            // Ensure that comment nodes are not appended for a second walk
+            parser.when(() -> JavaParser.appendHiddenCommentNodes(any(DetailAST.class)))
+                    .thenThrow(IllegalStateException.class);
+
+            verify(createRootConfig(treeWalkerConfig), file.getPath(), expected);
+        }
+        assertWithMessage("Comment check should be notified in the single walk")
+                .that(VerifyVisitCommentCheck.getVisitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testLeaveTokenOfOverridingCheck() throws Exception {
+        final DefaultConfiguration treeWalkerConfig = createModuleConfig(TreeWalker.class);
+        treeWalkerConfig.addChild(createModuleConfig(VerifyLeaveCheck.class));
+        treeWalkerConfig.addChild(createModuleConfig(VerifyVisitCommentCheck.class));
+        final File file = new File(temporaryFolder, "InputTreeWalkerLeave.java");
+        Files.write(file.toPath(), Arrays.asList("class InputTreeWalkerLeave {",
+                "    void method() { }", "    class Inner { }", "}"),
+                StandardCharsets.UTF_8);
+        VerifyLeaveCheck.resetCounts();
+        verify(createRootConfig(treeWalkerConfig), file.getPath());
+        assertWithMessage("Each visited token should be left")
+                .that(VerifyLeaveCheck.getLeaveCount())
+                .isEqualTo(3);
+        assertWithMessage("Each token should be visited")
+                .that(VerifyLeaveCheck.getVisitCount())
+                .isEqualTo(3);
+    }
+
     @Test
     public void testImproperFileExtension() throws Exception {
         final String regularFilePath = getPath("InputTreeWalkerImproperFileExtension.java");
@@ -767,6 +846,91 @@ public class TreeWalkerTest extends AbstractModuleTestSupport {
 
     }
 
+    public static class VerifyVisitCommentCheck extends AbstractCheck {
+
+        private static int visitCount;
+
+        @Override
+        public int[] getDefaultTokens() {
+            return getRequiredTokens();
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return getRequiredTokens();
+        }
+
+        @Override
+        public int[] getRequiredTokens() {
+            return new int[] {TokenTypes.CLASS_DEF};
+        }
+
+        @Override
+        public boolean isCommentNodesRequired() {
+            return true;
+        }
+
+        @Override
+        public void visitToken(DetailAST ast) {
+            visitCount++;
+        }
+
+        public static void resetVisitCount() {
+            visitCount = 0;
+        }
+
+        public static int getVisitCount() {
+            return visitCount;
+        }
+
+    }
+
+    public static class VerifyLeaveCheck extends AbstractCheck {
+
+        private static int visitCount;
+
+        private static int leaveCount;
+
+        @Override
+        public int[] getDefaultTokens() {
+            return getRequiredTokens();
+        }
+
+        @Override
+        public int[] getAcceptableTokens() {
+            return getRequiredTokens();
+        }
+
+        @Override
+        public int[] getRequiredTokens() {
+            return new int[] {TokenTypes.CLASS_DEF, TokenTypes.METHOD_DEF};
+        }
+
+        @Override
+        public void visitToken(DetailAST ast) {
+            visitCount++;
+        }
+
+        @Override
+        public void leaveToken(DetailAST ast) {
+            leaveCount++;
+        }
+
+        public static void resetCounts() {
+            visitCount = 0;
+            leaveCount = 0;
+        }
+
+        public static int getVisitCount() {
+            return visitCount;
+        }
+
+        public static int getLeaveCount() {
+            return leaveCount;
+        }
+
+    }
+
     public static class AaCheck extends AbstractCheck {
 
         @Override
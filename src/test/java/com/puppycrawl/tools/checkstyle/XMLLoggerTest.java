@@ -73,6 +73,9 @@ public class XMLLoggerTest extends AbstractXmlTestSupport {
             {"&#X0;", "&amp;#X0;"},
             {"\u0001", "#x1;"},
             {"\u0080", "#x80;"},
+            {"\u009F", "#x9f;"},
+            {"\u00A0", "\u00A0"},
+            {"a\r\nb", "a&#10;b"},
         };
         for (String[] encoding : encodings) {
             final String encoded = XMLLogger.encode(encoding[0]);
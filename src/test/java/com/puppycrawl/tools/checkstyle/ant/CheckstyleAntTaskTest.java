@@ -858,6 +858,40 @@ public class CheckstyleAntTaskTest extends AbstractPathTestSupport {
         assertLoggedTime(loggedMessages, testingTime, "To process the files");
     }
 
+    @Test
+    public void testProfile() throws IOException {
+        final CheckstyleAntTaskLogStub antTask = new CheckstyleAntTaskLogStub();
+        antTask.setConfig(getPath(CONFIG_FILE));
+        antTask.setProject(new Project());
+        antTask.setFile(new File(getPath(FLAWLESS_INPUT)));
+        final File profileFile = new File("target/ant_task_profile.json");
+        antTask.setProfile(profileFile);
+        antTask.execute();
+
+        final boolean summaryLogged = antTask.getLoggedMessages().stream()
+            .anyMatch(msg -> msg.getMsg().startsWith("Module"));
+        assertWithMessage("Profile summary should be logged")
+            .that(summaryLogged)
+            .isTrue();
+        final String profile = String.join("\n", readWholeFile(profileFile));
+        assertWithMessage("Profile should contain the file set checks")
+            .that(profile)
+            .contains("\"phase\": \"process\"");
+    }
+
+    @Test
+    public void testProfileToInvalidFile() throws IOException {
+        final CheckstyleAntTask antTask = getCheckstyleAntTask();
+        antTask.setFile(new File(getPath(FLAWLESS_INPUT)));
+        antTask.setProfile(new File("target/not_existing_directory/profile.json"));
+        final BuildException ex = getExpectedThrowable(BuildException.class,
+                antTask::execute,
+                "BuildException is expected");
+        assertWithMessage("Error message is unexpected")
+                .that(ex.getMessage())
+                .startsWith("Unable to write profile to ");
+    }
+
     private static void assertLoggedTime(List<MessageLevelPair> loggedMessages,
                                          long testingTime, String expectedMsg) {
 
@@ -51,6 +51,17 @@ public class FileContentsTest {
                 .isEqualTo("filename");
     }
 
+    @Test
+    public void testTextIsShared() {
+        final FileText fileText =
+                new FileText(new File("filename"), Arrays.asList("123", "456"));
+        final FileContents fileContents = new FileContents(fileText);
+
+        assertWithMessage("File text should not be copied")
+                .that(fileContents.getText())
+                .isSameInstanceAs(fileText);
+    }
+
     @Test
     public void testIsLineBlank() {
         assertWithMessage("Invalid result")
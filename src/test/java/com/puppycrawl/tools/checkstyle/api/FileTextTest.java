@@ -26,11 +26,13 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.puppycrawl.tools.checkstyle.AbstractPathTestSupport;
 import com.puppycrawl.tools.checkstyle.internal.utils.CheckUtil;
@@ -38,6 +40,9 @@ import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 
 public class FileTextTest extends AbstractPathTestSupport {
 
+    @TempDir
+    public File temporaryFolder;
+
     @Override
     protected String getPackageLocation() {
         return "com/puppycrawl/tools/checkstyle/api/filetext";
@@ -104,15 +109,32 @@ public class FileTextTest extends AbstractPathTestSupport {
                 .isEqualTo(lineColumn);
     }
 
+    @Test
+    public void testCopyConstructorSharesLineData() throws IOException {
+        final FileText fileText = new FileText(
+                new File(getPath("InputFileTextImportControl.xml")),
+                StandardCharsets.ISO_8859_1.name());
+        final FileText copy = new FileText(fileText);
+        assertWithMessage("Copy should share the line breaks")
+                .that(TestUtil.<int[]>getInternalState(copy, "lineBreaks"))
+                .isSameInstanceAs(TestUtil.<int[]>getInternalState(fileText, "lineBreaks"));
+        assertWithMessage("Copy should share the lines")
+                .that(TestUtil.<String[]>getInternalState(copy, "lines"))
+                .isSameInstanceAs(TestUtil.<String[]>getInternalState(fileText, "lines"));
+        assertWithMessage("Invalid line in copy")
+                .that(copy.get(2))
+                .isEqualTo(fileText.get(2));
+    }
+
     @Test
     public void testLineColumnAfterCopyConstructor() throws IOException {
         final Charset charset = StandardCharsets.ISO_8859_1;
         final String filepath = getPath("InputFileTextImportControl.xml");
         final FileText fileText = new FileText(new File(filepath), charset.name());
         final FileText copy = new FileText(fileText);
-        assertWithMessage("LineBreaks not null")
+        assertWithMessage("LineBreaks are found while reading")
                 .that(TestUtil.<int[]>getInternalState(copy, "lineBreaks"))
-                .isNull();
+                .isNotNull();
         final LineColumn lineColumn = copy.lineColumn(100);
         assertWithMessage("Invalid line")
                 .that(lineColumn.getLine())
@@ -199,4 +221,69 @@ public class FileTextTest extends AbstractPathTestSupport {
         assertWithMessage("Should not be null")
                 .that(copy.getCharset()).isNotNull();
     }
+
+    @Test
+    public void testLineTerminators() throws IOException {
+        final File file = new File(temporaryFolder, "InputFileTextLineTerminators.txt");
+        Files.write(file.toPath(), "a\rb\r\n\n\r\rc\r\nd".getBytes(StandardCharsets.UTF_8));
+        final FileText fileText = new FileText(file, StandardCharsets.UTF_8.name());
+        assertWithMessage("Invalid lines")
+                .that(fileText.toLinesArray())
+                .isEqualTo(new String[] {"a", "b", "", "", "", "c", "d"});
+        assertWithMessage("Invalid line breaks")
+                .that(TestUtil.<int[]>getInternalState(fileText, "lineBreaks"))
+                .isEqualTo(new int[] {0, 2, 5, 6, 7, 8, 11, 12});
+        assertWithMessage("Invalid line column")
+                .that(fileText.lineColumn(10))
+                .isEqualTo(new LineColumn(6, 2));
+    }
+
+    @Test
+    public void testTrailingLineTerminator() throws IOException {
+        final File file = new File(temporaryFolder, "InputFileTextTrailingTerminator.txt");
+        Files.write(file.toPath(), "a\r\n".getBytes(StandardCharsets.UTF_8));
+        final FileText fileText = new FileText(file, StandardCharsets.UTF_8.name());
+        assertWithMessage("Invalid size")
+                .that(fileText.size())
+                .isEqualTo(1);
+        assertWithMessage("Invalid line")
+                .that(fileText.get(0))
+                .isEqualTo("a");
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        final File file = new File(temporaryFolder, "InputFileTextEmpty.txt");
+        Files.write(file.toPath(), new byte[0]);
+        final FileText fileText = new FileText(file, StandardCharsets.UTF_8.name());
+        assertWithMessage("Invalid size")
+                .that(fileText.size())
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void testLargeFile() throws IOException {
+        final File file = new File(temporaryFolder, "InputFileTextLarge.txt");
+        final String line = "0123456789abcdef0123456789abcdef0123456789abcdef012345678" + "\u00e9";
+        final int lineCount = 20_000;
+        final StringBuilder text = new StringBuilder(lineCount * (line.length() + 1));
+        for (int lineNo = 0; lineNo < lineCount; lineNo++) {
+            text.append(line).append('\n');
+        }
+        Files.write(file.toPath(), text.toString().getBytes(StandardCharsets.UTF_8));
+        final FileText fileText = new FileText(file, StandardCharsets.UTF_8.name());
+        assertWithMessage("Invalid size")
+                .that(fileText.size())
+                .isEqualTo(lineCount);
+        assertWithMessage("Invalid full text")
+                .that(fileText.getFullText().toString())
+                .isEqualTo(text.toString());
+        assertWithMessage("Invalid line")
+                .that(fileText.get(lineCount - 1))
+                .isEqualTo(line);
+        assertWithMessage("File should not be held open after reading")
+                .that(Files.deleteIfExists(file.toPath()))
+                .isTrue();
+    }
+
 }
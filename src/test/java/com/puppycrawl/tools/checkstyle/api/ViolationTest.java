@@ -27,6 +27,7 @@ import org.junitpioneer.jupiter.DefaultLocale;
 
 import com.puppycrawl.tools.checkstyle.checks.annotation.AnnotationLocationCheck;
 import com.puppycrawl.tools.checkstyle.checks.annotation.AnnotationOnSameLineCheck;
+import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
 
@@ -35,7 +36,7 @@ public class ViolationTest {
     @Test
     public void testEqualsAndHashCode() {
         final EqualsVerifierReport ev = EqualsVerifier.forClass(Violation.class)
-                .usingGetClass().report();
+                .usingGetClass().withIgnoredFields("violationText").report();
         assertWithMessage("Error: " + ev.getMessage())
                 .that(ev.isSuccessful())
                 .isTrue();
@@ -186,6 +187,72 @@ public class ViolationTest {
             .isEqualTo(0);
     }
 
+    @Test
+    public void testCompareToWithDifferentArguments() {
+        final Violation message1 = createSampleViolationWithArgs("a");
+        final Violation message1a = createSampleViolationWithArgs("a");
+        final Violation message2 = createSampleViolationWithArgs("b");
+
+        assertWithMessage("Invalid comparing result")
+                .that(message1.compareTo(message2) < 0)
+                .isTrue();
+        assertWithMessage("Invalid comparing result")
+                .that(message2.compareTo(message1) > 0)
+                .isTrue();
+        final int actual = message1.compareTo(message1a);
+        assertWithMessage("Invalid comparing result")
+            .that(actual)
+            .isEqualTo(0);
+        assertWithMessage("Custom violation should not be formatted to compare it")
+            .that(TestUtil.<String>getInternalState(message2, "violationText"))
+            .isNull();
+    }
+
+    @Test
+    public void testCompareToWithDifferentKeysDoesNotTranslate() {
+        final Violation message1 = createSampleViolation();
+        final Violation message2 = new Violation(1,
+                "com.puppycrawl.tools.checkstyle.checks.coding.messages",
+                "missing.switch.default", EMPTY_OBJECT_ARRAY, "module", Violation.class, null);
+
+        assertWithMessage("Invalid comparing result")
+                .that(message1.compareTo(message2) < 0)
+                .isTrue();
+        assertWithMessage("Invalid comparing result")
+                .that(message2.compareTo(message1) > 0)
+                .isTrue();
+        assertWithMessage("Violation should not be translated to compare different keys")
+            .that(TestUtil.<String>getInternalState(message1, "violationText"))
+            .isNull();
+    }
+
+    @Test
+    public void testCompareToWithEqualArgumentsDoesNotTranslate() {
+        final Violation message1 = createSampleViolation();
+        final Violation message1a = createSampleViolation();
+
+        final int actual = message1.compareTo(message1a);
+        assertWithMessage("Invalid comparing result")
+            .that(actual)
+            .isEqualTo(0);
+        assertWithMessage("Violation should not be translated to compare equal arguments")
+            .that(TestUtil.<String>getInternalState(message1a, "violationText"))
+            .isNull();
+    }
+
+    @Test
+    public void testViolationIsTranslatedOnce() {
+        final Violation violation = createSampleViolationWithArgs("a");
+        final String text = violation.getViolation();
+
+        assertWithMessage("Invalid violation")
+            .that(text)
+            .isEqualTo("custom a");
+        assertWithMessage("Violation should be translated once")
+            .that(violation.getViolation())
+            .isSameInstanceAs(text);
+    }
+
     private static Violation createSampleViolation() {
         return createSampleViolationWithId("module");
     }
@@ -195,6 +262,11 @@ public class ViolationTest {
                 "empty.statement", EMPTY_OBJECT_ARRAY, null, clss, null);
     }
 
+    private static Violation createSampleViolationWithArgs(String arg) {
+        return new Violation(1, "com.puppycrawl.tools.checkstyle.checks.coding.messages",
+                "empty.statement", new Object[] {arg}, "module", Violation.class, "custom {0}");
+    }
+
     private static Violation createSampleViolationWithId(String id) {
         return new Violation(1, "com.puppycrawl.tools.checkstyle.checks.coding.messages",
                 "empty.statement", EMPTY_OBJECT_ARRAY, id, Violation.class, null);
@@ -406,6 +406,39 @@ public class SuppressWarningsHolderTest extends AbstractModuleTestSupport {
         verifyWithInlineConfigParser(getPath("InputSuppressWarningsHolder7.java"), expected);
     }
 
+    @Test
+    public void testIsSuppressedInRegionAfterNestedRegion() throws Exception {
+        populateHolder("check", 1000, 1, 1400, 1);
+        populateHolder("check", 1100, 1, 1110, 1);
+        final AuditEvent event = createAuditEvent("check", 1300, 5);
+
+        assertWithMessage("Event is not suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(event))
+                .isTrue();
+    }
+
+    @Test
+    public void testIsSuppressedByDefaultAliasIgnoringCase() throws Exception {
+        populateHolder("CONSTANTNAMECheck", 1000, 1, 1400, 1);
+        final Checker source = new Checker();
+        final Violation violation = new Violation(1200, 5, null, null, null,
+                "id", ConstantNameCheck.class, "violation");
+        final AuditEvent event = new AuditEvent(source, "filename", violation);
+
+        assertWithMessage("Event is not suppressed")
+                .that(SuppressWarningsHolder.isSuppressed(event))
+                .isTrue();
+
+        populateHolder("ConstantName", 1500, 1, 1600, 1);
+        final Violation nextViolation = new Violation(1550, 5, null, null, null,
+                "id", ConstantNameCheck.class, "violation");
+        final AuditEvent nextEvent = new AuditEvent(source, "filename", nextViolation);
+
+        assertWithMessage("Event is not suppressed by an entry added after the first event")
+                .that(SuppressWarningsHolder.isSuppressed(nextEvent))
+                .isTrue();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testClearState() throws Exception {
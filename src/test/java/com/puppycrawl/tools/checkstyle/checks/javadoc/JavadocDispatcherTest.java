@@ -0,0 +1,314 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.checks.javadoc;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.AbstractModuleTestSupport;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.JavaParser;
+import com.puppycrawl.tools.checkstyle.JavadocDetailNodeParser;
+import com.puppycrawl.tools.checkstyle.ModuleProfiler;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.DetailAST;
+import com.puppycrawl.tools.checkstyle.api.DetailNode;
+import com.puppycrawl.tools.checkstyle.api.JavadocTokenTypes;
+import com.puppycrawl.tools.checkstyle.api.TokenTypes;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+public class JavadocDispatcherTest extends AbstractModuleTestSupport {
+
+    @Override
+    protected String getPackageLocation() {
+        return "com/puppycrawl/tools/checkstyle/checks/javadoc/javadocdispatcher";
+    }
+
+    @Test
+    public void testChecksAreNotifiedAsByThemselves() throws Exception {
+        final List<DetailAST> blockComments = getBlockComments("InputJavadocDispatcher.java");
+        final List<AbstractJavadocCheck> dispatchedChecks = createChecks();
+        final List<AbstractJavadocCheck> checks = createChecks();
+        final JavadocDispatcher dispatcher = new JavadocDispatcher(dispatchedChecks);
+        checks.forEach(check -> check.beginTree(null));
+        for (DetailAST blockComment : blockComments) {
+            dispatcher.visitBlockComment(blockComment, null);
+            for (AbstractJavadocCheck check : checks) {
+                check.visitToken(blockComment);
+            }
+        }
+
+        for (int index = 0; index < checks.size(); index++) {
+            final AbstractJavadocCheck expected = checks.get(index);
+            final AbstractJavadocCheck actual = dispatchedChecks.get(index);
+            assertWithMessage("Invalid notifications of " + expected.getClass().getSimpleName())
+                    .that(getEvents(actual))
+                    .containsExactlyElementsIn(getEvents(expected))
+                    .inOrder();
+            assertWithMessage("Invalid violations of " + expected.getClass().getSimpleName())
+                    .that(getViolations(actual))
+                    .containsExactlyElementsIn(getViolations(expected))
+                    .inOrder();
+        }
+        assertWithMessage("Non-tight HTML should not be processed by a check rejecting it")
+                .that(getEvents(dispatchedChecks.get(1)))
+                .doesNotContain("begin 20");
+        assertWithMessage("Parse errors should be reported by every check")
+                .that(getViolations(dispatchedChecks.get(1)))
+                .hasSize(1);
+    }
+
+    @Test
+    public void testNonJavadocCommentIsIgnored() throws Exception {
+        final List<DetailAST> blockComments = getBlockComments("InputJavadocDispatcher.java");
+        final List<AbstractJavadocCheck> checks = createChecks();
+        final JavadocDispatcher dispatcher = new JavadocDispatcher(checks);
+        dispatcher.visitBlockComment(blockComments.get(2), null);
+
+        assertWithMessage("Block comment should not be parsed")
+                .that(getEvents(checks.get(0)))
+                .isEmpty();
+    }
+
+    @Test
+    public void testProfiler() throws Exception {
+        final List<DetailAST> blockComments = getBlockComments("InputJavadocDispatcher.java");
+        final ModuleProfiler profiler = new ModuleProfiler();
+        final JavadocDispatcher dispatcher = new JavadocDispatcher(createChecks());
+        for (DetailAST blockComment : blockComments) {
+            dispatcher.visitBlockComment(blockComment, profiler);
+        }
+
+        final Set<String> measured = profiler.getEntries().stream()
+                .map(entry -> {
+                    return entry.getModuleName() + ' ' + entry.getPhase().getName()
+                            + ' ' + entry.getCalls();
+                })
+                .collect(Collectors.toUnmodifiableSet());
+        assertWithMessage("Invalid measurements")
+                .that(measured)
+                .containsAtLeast(
+                        JavadocDetailNodeParser.class.getName() + " parse 6",
+                        RecordingCheck.class.getName() + " beginTree 5",
+                        RecordingCheck.class.getName() + " finishTree 5",
+                        TextCheck.class.getName() + " beginTree 3");
+        assertWithMessage("Leaving tokens should be measured only for checks overriding it")
+                .that(measured.stream()
+                        .filter(entry -> entry.contains(" leaveToken "))
+                        .map(entry -> entry.substring(0, entry.indexOf(' ')))
+                        .collect(Collectors.toUnmodifiableSet()))
+                .containsExactly(RecordingCheck.class.getName());
+    }
+
+    @Test
+    public void testPlainTextIsParsedOnlyForInterestedChecks() throws Exception {
+        final List<DetailAST> blockComments = getBlockComments("InputJavadocDispatcher.java");
+        final ReturnCheck returnCheck = new ReturnCheck();
+        configure(returnCheck);
+        final TextCheck textCheck = new TextCheck();
+        configure(textCheck);
+
+        assertWithMessage("Plain text should not be parsed for a block tag check")
+                .that(countParsedComments(blockComments, List.of(returnCheck)))
+                .isEqualTo(5);
+        assertWithMessage("Invalid visits of block tags")
+                .that(returnCheck.getEvents())
+                .containsExactly("visit 37");
+        assertWithMessage("Plain text should be parsed for a check of text")
+                .that(countParsedComments(blockComments, List.of(returnCheck, textCheck)))
+                .isEqualTo(6);
+    }
+
+    private static long countParsedComments(List<DetailAST> blockComments,
+            List<AbstractJavadocCheck> checks) {
+        final ModuleProfiler profiler = new ModuleProfiler();
+        final JavadocDispatcher dispatcher = new JavadocDispatcher(checks);
+        for (DetailAST blockComment : blockComments) {
+            dispatcher.visitBlockComment(blockComment, profiler);
+        }
+        return profiler.getEntries().stream()
+                .filter(entry -> entry.getPhase() == ModuleProfiler.Phase.PARSE)
+                .mapToLong(ModuleProfiler.Entry::getCalls)
+                .sum();
+    }
+
+    private List<DetailAST> getBlockComments(String fileName) throws Exception {
+        final DetailAST root = JavaParser.parseFile(new File(getPath(fileName)),
+                JavaParser.Options.WITH_COMMENTS);
+        final List<DetailAST> result = new ArrayList<>();
+        DetailAST curNode = root;
+        while (curNode != null) {
+            if (curNode.getType() == TokenTypes.BLOCK_COMMENT_BEGIN) {
+                result.add(curNode);
+            }
+            DetailAST toVisit = curNode.getFirstChild();
+            while (curNode != null && toVisit == null) {
+                toVisit = curNode.getNextSibling();
+                curNode = curNode.getParent();
+            }
+            curNode = toVisit;
+        }
+        return result;
+    }
+
+    private static List<AbstractJavadocCheck> createChecks() throws CheckstyleException {
+        final RecordingCheck recordingCheck = new RecordingCheck();
+        recordingCheck.setViolateExecutionOnNonTightHtml(true);
+        final TextCheck textCheck = new TextCheck();
+        final List<AbstractJavadocCheck> checks = List.of(recordingCheck, textCheck);
+        for (AbstractJavadocCheck check : checks) {
+            configure(check);
+        }
+        return checks;
+    }
+
+    private static void configure(AbstractJavadocCheck check) throws CheckstyleException {
+        check.configure(new DefaultConfiguration(check.getClass().getName()));
+        check.init();
+    }
+
+    private static List<String> getEvents(AbstractJavadocCheck check) {
+        return ((EventRecorder) check).getEvents();
+    }
+
+    private static List<String> getViolations(AbstractJavadocCheck check) {
+        return check.getViolations().stream()
+                .map(Violation::getViolation)
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private interface EventRecorder {
+
+        List<String> getEvents();
+
+    }
+
+    /**
+     * Records all notifications, including non-tight HTML and leaving tokens.
+     */
+    public static class RecordingCheck extends AbstractJavadocCheck implements EventRecorder {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public int[] getDefaultJavadocTokens() {
+            return new int[] {
+                JavadocTokenTypes.JAVADOC,
+                JavadocTokenTypes.HTML_ELEMENT,
+                JavadocTokenTypes.TEXT,
+                JavadocTokenTypes.EOF,
+            };
+        }
+
+        @Override
+        public void beginJavadocTree(DetailNode rootAst) {
+            events.add("begin " + getBlockCommentAst().getLineNo());
+        }
+
+        @Override
+        public void visitJavadocToken(DetailNode ast) {
+            events.add("visit " + ast.getType() + ' ' + ast.getLineNumber()
+                    + ':' + ast.getColumnNumber());
+        }
+
+        @Override
+        public void leaveJavadocToken(DetailNode ast) {
+            events.add("leave " + ast.getType() + ' ' + ast.getLineNumber()
+                    + ':' + ast.getColumnNumber());
+        }
+
+        @Override
+        public void finishJavadocTree(DetailNode rootAst) {
+            events.add("finish " + getBlockCommentAst().getLineNo());
+        }
+
+        @Override
+        public List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+    /**
+     * Records visits of the return block tag.
+     */
+    public static class ReturnCheck extends AbstractJavadocCheck implements EventRecorder {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public int[] getDefaultJavadocTokens() {
+            return new int[] {JavadocTokenTypes.RETURN_LITERAL};
+        }
+
+        @Override
+        public void visitJavadocToken(DetailNode ast) {
+            events.add("visit " + ast.getLineNumber());
+        }
+
+        @Override
+        public List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+    /**
+     * Records visits of text in Javadoc comments with tight HTML.
+     */
+    public static class TextCheck extends AbstractJavadocCheck implements EventRecorder {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public int[] getDefaultJavadocTokens() {
+            return new int[] {JavadocTokenTypes.TEXT};
+        }
+
+        @Override
+        public boolean acceptJavadocWithNonTightHtml() {
+            return false;
+        }
+
+        @Override
+        public void beginJavadocTree(DetailNode rootAst) {
+            events.add("begin " + getBlockCommentAst().getLineNo());
+        }
+
+        @Override
+        public void visitJavadocToken(DetailNode ast) {
+            events.add("visit " + ast.getText() + ' ' + ast.getLineNumber());
+        }
+
+        @Override
+        public List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle: Checks Java source code and other text files for adherence to a set of rules.
+// Copyright (C) 2001-2024 the original author or authors.
+//
+// This library is free software; you can redistribute it and/or
+// modify it under the terms of the GNU Lesser General Public
+// License as published by the Free Software Foundation; either
+// version 2.1 of the License, or (at your option) any later version.
+//
+// This library is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+// Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public
+// License along with this library; if not, write to the Free Software
+// Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package com.puppycrawl.tools.checkstyle.filters;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.FilterSet;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+import com.puppycrawl.tools.checkstyle.api.Violation;
+
+public class SuppressFilterElementIndexTest {
+
+    private static final String[] FILE_NAMES = {
+        "/src/gen/Bar.java", "C:\\src\\gen\\Bar.java", "/src/Foo.java", "/src/FooTest.java",
+        "a/b", "xa/bc", "src/x\\y/z.java", "x/y/z", "Bar.java\n", "", "/src/a\\b",
+    };
+
+    private static final String[] FILE_PATTERNS = {
+        "Foo\\.java$", "[\\\\/]gen[\\\\/]", "[/\\\\]gen[\\\\/]Bar\\.java$", "a/b", "a/b$",
+        "Foo", ".*Test\\.java", "$", "", "x[\\\\/]y/z", "\\d", "Bar\\.java$", "gen\\\\Bar",
+        "^src", "java$", "\\/", "a\0b",
+    };
+
+    @Test
+    public void testSameResultAsFilterSet() {
+        for (String filePattern : FILE_PATTERNS) {
+            final FilterSet filterSet = new FilterSet();
+            filterSet.addFilter(new SuppressFilterElement(Pattern.compile(filePattern),
+                    Pattern.compile("Index"), null, null, null, null));
+            final SuppressFilterElementIndex index = new SuppressFilterElementIndex(filterSet);
+            for (String fileName : FILE_NAMES) {
+                final AuditEvent event = new AuditEvent(this, fileName, createViolation(1, null));
+                assertWithMessage("Invalid result for pattern '%s' and file '%s'",
+                        filePattern, fileName)
+                        .that(index.accept(event))
+                        .isEqualTo(filterSet.accept(event));
+            }
+        }
+    }
+
+    @Test
+    public void testPatternWithFlags() {
+        final FilterSet filterSet = new FilterSet();
+        filterSet.addFilter(new SuppressFilterElement(
+                Pattern.compile("foo\\.java$", Pattern.CASE_INSENSITIVE),
+                null, null, null, null, null));
+        filterSet.addFilter(new SuppressFilterElement(
+                Pattern.compile("foo\\.java$"), null, null, null, null, null));
+        final SuppressFilterElementIndex index = new SuppressFilterElementIndex(filterSet);
+        final AuditEvent event = new AuditEvent(this, "/src/Foo.java", createViolation(1, null));
+        assertWithMessage("Case insensitive pattern should suppress")
+                .that(index.accept(event))
+                .isFalse();
+    }
+
+    @Test
+    public void testFileCandidatesByCheck() {
+        final FilterSet filterSet = new FilterSet();
+        filterSet.addFilter(new SuppressFilterElement(
+                "Foo\\.java$", "Other", null, null, null, null));
+        filterSet.addFilter(new SuppressFilterElement(
+                "Foo\\.java$", null, null, "id", "2", null));
+        final SuppressFilterElementIndex index = new SuppressFilterElementIndex(filterSet);
+        assertWithMessage("Check name and module id do not match")
+                .that(index.accept(new AuditEvent(this, "/src/Foo.java",
+                        createViolation(2, null))))
+                .isTrue();
+        assertWithMessage("Line does not match")
+                .that(index.accept(new AuditEvent(this, "/src/Foo.java",
+                        createViolation(1, "id"))))
+                .isTrue();
+        assertWithMessage("Module id and line match")
+                .that(index.accept(new AuditEvent(this, "/src/Foo.java",
+                        createViolation(2, "id"))))
+                .isFalse();
+        assertWithMessage("File does not match")
+                .that(index.accept(new AuditEvent(this, "/src/Bar.java",
+                        createViolation(2, "id"))))
+                .isTrue();
+    }
+
+    @Test
+    public void testElementWithoutFiles() {
+        final FilterSet filterSet = new FilterSet();
+        filterSet.addFilter(new SuppressFilterElement(null, "Index", null, null, null, null));
+        final SuppressFilterElementIndex index = new SuppressFilterElementIndex(filterSet);
+        assertWithMessage("Element without files should suppress any file")
+                .that(index.accept(new AuditEvent(this, "Any.java", createViolation(1, null))))
+                .isFalse();
+        assertWithMessage("Event without violation should be accepted")
+                .that(index.accept(new AuditEvent(this, "Any.java")))
+                .isTrue();
+        assertWithMessage("Event without file name should be accepted")
+                .that(index.accept(new AuditEvent(this, null, createViolation(1, null))))
+                .isTrue();
+    }
+
+    @Test
+    public void testOtherFilters() {
+        final FilterSet filterSet = new FilterSet();
+        final SeverityMatchFilter severityFilter = new SeverityMatchFilter();
+        severityFilter.setSeverity(SeverityLevel.ERROR);
+        filterSet.addFilter(severityFilter);
+        final SuppressFilterElementIndex index = new SuppressFilterElementIndex(filterSet);
+        assertWithMessage("Severity filter should accept error")
+                .that(index.accept(new AuditEvent(this, "Any.java", createViolation(1, null))))
+                .isTrue();
+        severityFilter.setAcceptOnMatch(false);
+        assertWithMessage("Severity filter should reject error")
+                .that(index.accept(new AuditEvent(this, "Any.java", createViolation(1, null))))
+                .isFalse();
+    }
+
+    private Violation createViolation(int line, String moduleId) {
+        return new Violation(line, 0, "", "", null, SeverityLevel.ERROR, moduleId, getClass(),
+                null);
+    }
+
+}
@@ -26,6 +26,7 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +40,7 @@ import com.puppycrawl.tools.checkstyle.api.FileText;
 import com.puppycrawl.tools.checkstyle.api.Violation;
 import com.puppycrawl.tools.checkstyle.checks.coding.IllegalCatchCheck;
 import com.puppycrawl.tools.checkstyle.checks.naming.AbstractNameCheck;
+import com.puppycrawl.tools.checkstyle.checks.naming.ConstantNameCheck;
 import com.puppycrawl.tools.checkstyle.checks.naming.MemberNameCheck;
 import com.puppycrawl.tools.checkstyle.internal.utils.TestUtil;
 import com.puppycrawl.tools.checkstyle.utils.CommonUtil;
@@ -760,6 +762,37 @@ public class SuppressWithNearbyCommentFilterTest
             .isEmpty();
     }
 
+    @Test
+    public void testTagAfterNestedTagOfSameCheck() {
+        final SuppressWithNearbyCommentFilter filter = new SuppressWithNearbyCommentFilter();
+        filter.setCommentFormat(Pattern.compile("SUPPRESS CHECKSTYLE (\\w+) (\\d+)"));
+        filter.setCheckFormat("$1");
+        filter.setInfluenceFormat("$2");
+        final FileContents contents = new FileContents(new FileText(new File("filename"),
+                Arrays.asList("//SUPPRESS CHECKSTYLE MemberName 5",
+                        "//SUPPRESS CHECKSTYLE MemberName 1",
+                        "//SUPPRESS CHECKSTYLE ConstantName 10")));
+        contents.reportSingleLineComment(1, 0);
+        contents.reportSingleLineComment(2, 0);
+        contents.reportSingleLineComment(3, 0);
+
+        assertWithMessage("Event in scope of the first tag should be suppressed")
+            .that(filter.accept(createEvent(contents, 5, MemberNameCheck.class)))
+            .isFalse();
+        assertWithMessage("Event out of scope of the tags of its check should be accepted")
+            .that(filter.accept(createEvent(contents, 8, MemberNameCheck.class)))
+            .isTrue();
+        assertWithMessage("Event in scope of the tag of its check should be suppressed")
+            .that(filter.accept(createEvent(contents, 8, ConstantNameCheck.class)))
+            .isFalse();
+    }
+
+    private static TreeWalkerAuditEvent createEvent(FileContents contents, int line,
+            Class<?> sourceClass) {
+        return new TreeWalkerAuditEvent(contents, "filename",
+                new Violation(line, null, null, null, null, sourceClass, null), null);
+    }
+
     /**
      * Calls the filter with a minimal set of inputs and returns a list of
      * {@link SuppressWithNearbyCommentFilter} internal type {@code Tag}.
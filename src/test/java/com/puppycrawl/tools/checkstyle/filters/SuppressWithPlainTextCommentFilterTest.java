@@ -26,11 +26,14 @@ import static com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocMethodCheck.
 import static com.puppycrawl.tools.checkstyle.checks.whitespace.FileTabCharacterCheck.MSG_CONTAINS_TAB;
 import static com.puppycrawl.tools.checkstyle.checks.whitespace.FileTabCharacterCheck.MSG_FILE_CONTAINS_TAB;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.puppycrawl.tools.checkstyle.AbstractModuleTestSupport;
 import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
@@ -52,6 +55,9 @@ public class SuppressWithPlainTextCommentFilterTest extends AbstractModuleTestSu
 
     private static final String MSG_REGEXP_EXCEEDED = "regexp.exceeded";
 
+    @TempDir
+    public File temporaryFolder;
+
     @Override
     protected String getPackageLocation() {
         return "com/puppycrawl/tools/checkstyle/filters/suppresswithplaintextcommentfilter";
@@ -553,6 +559,31 @@ public class SuppressWithPlainTextCommentFilterTest extends AbstractModuleTestSu
         }
     }
 
+    @Test
+    public void testSuppressionsAreReadAgainWhenFileIsModified() throws IOException {
+        final File file = new File(temporaryFolder, "Input.java");
+        Files.writeString(file.toPath(), "// CHECKSTYLE:OFF\nclass Input {}\n");
+        final Violation violation = new Violation(2, 1, 1, TokenTypes.CLASS_DEF,
+            "messages.properties", "key", null, SeverityLevel.ERROR, null, getClass(), null);
+        final AuditEvent auditEvent = new AuditEvent(this, file.getPath(), violation);
+        final SuppressWithPlainTextCommentFilter filter = new SuppressWithPlainTextCommentFilter();
+
+        assertWithMessage("Violation should be suppressed")
+            .that(filter.accept(auditEvent))
+            .isFalse();
+        assertWithMessage("Violation should be suppressed by the same file")
+            .that(filter.accept(auditEvent))
+            .isFalse();
+
+        Files.writeString(file.toPath(), "// CHECKSTYLE:ON\nclass Input {}\n");
+        assertWithMessage("File modification time should be updated")
+            .that(file.setLastModified(file.lastModified() + 1000))
+            .isTrue();
+        assertWithMessage("Violation should be accepted after suppression is removed")
+            .that(filter.accept(auditEvent))
+            .isTrue();
+    }
+
     @Test
     public void testFilterWithCustomMessageFormat() throws Exception {
         final String[] suppressed = {
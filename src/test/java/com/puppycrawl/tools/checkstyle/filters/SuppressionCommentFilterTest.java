@@ -614,6 +614,35 @@ public class SuppressionCommentFilterTest
             .isFalse();
     }
 
+    @Test
+    public void testFindNearestMatchOfCheck() {
+        final SuppressionCommentFilter filter = new SuppressionCommentFilter();
+        filter.setOffCommentFormat(Pattern.compile("CHECKSTYLE:OFF:(\\w+)"));
+        filter.setOnCommentFormat(Pattern.compile("CHECKSTYLE:ON:(\\w+)"));
+        filter.setCheckFormat("$1");
+        final FileContents contents = new FileContents(new FileText(new File("filename"),
+                Arrays.asList("//CHECKSTYLE:OFF:ConstantName",
+                        "//CHECKSTYLE:OFF:MemberName",
+                        "//CHECKSTYLE:ON:MemberName",
+                        "line4")));
+        contents.reportSingleLineComment(1, 0);
+        contents.reportSingleLineComment(2, 0);
+        contents.reportSingleLineComment(3, 0);
+        final TreeWalkerAuditEvent constantNameEvent = new TreeWalkerAuditEvent(contents,
+                "filename",
+                new Violation(4, null, null, null, null, ConstantNameCheck.class, null), null);
+        final TreeWalkerAuditEvent memberNameEvent = new TreeWalkerAuditEvent(contents,
+                "filename",
+                new Violation(4, null, null, null, null, MemberNameCheck.class, null), null);
+
+        assertWithMessage("Event after the nearest off tag of its check should be suppressed")
+            .that(filter.accept(constantNameEvent))
+            .isFalse();
+        assertWithMessage("Event after the nearest on tag of its check should be accepted")
+            .that(filter.accept(memberNameEvent))
+            .isTrue();
+    }
+
     @Test
     public void testTagsAreClearedEachRun() {
         final SuppressionCommentFilter suppressionCommentFilter = new SuppressionCommentFilter();
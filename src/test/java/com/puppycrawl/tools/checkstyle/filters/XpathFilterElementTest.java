@@ -351,7 +351,7 @@ public class XpathFilterElementTest extends AbstractModuleTestSupport {
                 xpathEvaluator.createExpression("//METHOD_DEF"),
                 xpathEvaluator.createExpression("//VARIABLE_DEF"))
                 .usingGetClass()
-                .withIgnoredFields("xpathExpression", "isEmptyConfig")
+                .withIgnoredFields("xpathExpression", "isEmptyConfig", "lastMatchingNodes")
                 .report();
         assertWithMessage("Error: " + ev.getMessage())
                 .that(ev.isSuccessful())
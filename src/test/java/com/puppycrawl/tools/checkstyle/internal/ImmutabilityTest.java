@@ -118,6 +118,7 @@ public class ImmutabilityTest {
      */
     private static final Set<String> SUPPRESSED_FIELDS_IN_UTIL_CLASSES = Set.of(
         "com.puppycrawl.tools.checkstyle.utils.TokenUtil.TOKEN_IDS",
+        "com.puppycrawl.tools.checkstyle.utils.XpathUtil.SHARED_ROOT_NODE",
         "com.puppycrawl.tools.checkstyle.utils.XpathUtil.TOKEN_TYPES_WITH_TEXT_ATTRIBUTE"
     );
 
@@ -127,6 +128,7 @@ public class ImmutabilityTest {
     private static final Set<String> SUPPRESSED_FIELDS_IN_MODULES = Set.of(
         "com.puppycrawl.tools.checkstyle.checks.FinalParametersCheck.primitiveDataTypes",
         "com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder.ENTRIES",
+        "com.puppycrawl.tools.checkstyle.checks.SuppressWarningsHolder.INDEX",
         "com.puppycrawl.tools.checkstyle.checks.annotation.MissingDeprecatedCheck.TYPES_HASH_SET",
         "com.puppycrawl.tools.checkstyle.checks.coding.AvoidDoubleBraceInitializationCheck"
             + ".HAS_MEMBERS",
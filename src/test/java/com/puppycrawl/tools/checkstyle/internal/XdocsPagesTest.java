@@ -135,8 +135,10 @@ public class XdocsPagesTest {
             "Checker.classloader",
             "Checker.moduleClassLoader",
             "Checker.moduleFactory",
+            "Checker.profiler",
             "TreeWalker.classLoader",
             "TreeWalker.moduleFactory",
+            "TreeWalker.profiler",
             "TreeWalker.cacheFile",
             "TreeWalker.upChild",
             "SuppressWithNearbyCommentFilter.fileContents",
@@ -150,7 +152,9 @@ public class XdocsPagesTest {
             "Header.header",
             "RegexpHeader.header",
             // until https://github.com/checkstyle/checkstyle/issues/13376
-            "CustomImportOrder.customImportOrderRules"
+            "CustomImportOrder.customImportOrderRules",
+            // stored in the cacheFile field
+            "Checker.contentCacheFile"
     );
 
     private static final Set<String> SUN_MODULES = Collections.unmodifiableSet(
@@ -81,6 +81,30 @@ public class XpathUtilTest {
                 .isFalse();
     }
 
+    @Test
+    public void testSharedRootNode() {
+        final DetailAST firstTree = createDetailAST(TokenTypes.CLASS_DEF);
+        final DetailAST secondTree = createDetailAST(TokenTypes.CLASS_DEF);
+        final RootNode rootNode = XpathUtil.getSharedRootNode(firstTree);
+
+        assertWithMessage("Root node should be shared for the same tree")
+            .that(XpathUtil.getSharedRootNode(firstTree))
+            .isSameInstanceAs(rootNode);
+        assertWithMessage("Root node should wrap the tree")
+            .that(rootNode.getUnderlyingNode())
+            .isSameInstanceAs(firstTree);
+        assertWithMessage("Root node should not be shared for another tree")
+            .that(XpathUtil.getSharedRootNode(secondTree).getUnderlyingNode())
+            .isSameInstanceAs(secondTree);
+
+        final RootNode secondRootNode = XpathUtil.getSharedRootNode(secondTree);
+        XpathUtil.releaseSharedRootNode();
+        assertWithMessage("Root node should be created again after release")
+            .that(XpathUtil.getSharedRootNode(secondTree))
+            .isNotSameInstanceAs(secondRootNode);
+        XpathUtil.releaseSharedRootNode();
+    }
+
     @Test
     public void testGetValue() {
         assertWithMessage("Returned value differs from expected")
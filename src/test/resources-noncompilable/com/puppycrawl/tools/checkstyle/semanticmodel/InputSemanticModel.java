@@ -0,0 +1,61 @@
+//non-compiled with javac: Compilable with Java17
+package com.puppycrawl.tools.checkstyle.semanticmodel;
+
+import java.io.Reader;
+import java.io.StringReader;
+import static java.util.Objects.requireNonNull;
+
+public class InputSemanticModel {
+
+    private int field;
+
+    private static final Runnable TASK = new Runnable() {
+        private int anonymousField;
+
+        @Override
+        public void run() {
+            anonymousField++;
+        }
+    };
+
+    public InputSemanticModel(int field) {
+        this.field = field;
+    }
+
+    public void method(InputSemanticModel this, String parameter, Object object) throws Exception {
+        int local = 0;
+        for (int index = 0; index < 2; index++) {
+            local += index;
+        }
+        try (Reader reader = new StringReader(parameter)) {
+            reader.read();
+        }
+        catch (IllegalStateException ex) {
+            requireNonNull(ex);
+        }
+        try {
+            local++;
+        }
+        finally {
+            local--;
+        }
+        if (object instanceof String text) {
+            local += text.length();
+        }
+        final java.util.function.Function<String, String> single = value -> value;
+        final java.util.function.BinaryOperator<String> pair = (String first, String second) -> {
+            final String joined = first + second;
+            return joined;
+        };
+    }
+
+    enum Kind {
+        PLAIN,
+        SPECIAL {
+            private int specialField;
+        }
+    }
+
+    record Point(int x, int y) {
+    }
+}
@@ -0,0 +1,47 @@
+/*
+com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocDispatcherTest$RecordingCheck
+com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocDispatcherTest$TextCheck
+com.puppycrawl.tools.checkstyle.checks.javadoc.JavadocDispatcherTest$ReturnCheck
+
+*/
+
+package com.puppycrawl.tools.checkstyle.checks.javadoc.javadocdispatcher;
+
+/**
+ * <p>Tight HTML.</p>
+ *
+ * @see InputJavadocDispatcher
+ */
+public class InputJavadocDispatcher {
+
+    /* not a Javadoc comment */
+    private int field1;
+
+    /** <p> Non-tight HTML. */
+    private int field2;
+
+    /**
+     * <li> Unclosed list item with an <p> unclosed paragraph </li>
+     */
+    private int field3;
+
+    /**
+     * <img src="singletonTag"/></img>
+     */
+    void singletonTag() {
+    }
+
+    /**
+     * Text only, {@code code} and {@link #singletonTag()}.
+     *
+     * @return nothing
+     */
+    int getField1() {
+        return field1 + field2 + field3;
+    }
+
+    /**
+     * Plain text, without markup.
+     */
+    private int field4;
+}